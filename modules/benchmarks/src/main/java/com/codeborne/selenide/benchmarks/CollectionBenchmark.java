@@ -0,0 +1,67 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.CollectionCondition.exactTexts;
+import static com.codeborne.selenide.CollectionCondition.size;
+
+/**
+ * {@code $$(".item").shouldHave(exactTexts(...))} (which goes through {@code ElementsCollection.waitUntil})
+ * for collections of different size
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionBenchmark {
+  @Param({"10", "100"})
+  public int items;
+
+  @Param({"0", "100"})
+  public long latencyMicros;
+
+  private ElementsCollection collection;
+  private List<String> expectedTexts;
+
+  @Setup
+  public void setUp() {
+    collection = new SelenideDriver(FakeWebDriver.config(), FakeWebDriver.loginPage(latencyMicros, items), null).$$(".item");
+    expectedTexts = new ArrayList<>(items);
+    for (int i = 1; i <= items; i++) {
+      expectedTexts.add("Item " + i);
+    }
+  }
+
+  @Benchmark
+  public List<String> texts() {
+    return collection.texts();
+  }
+
+  @Benchmark
+  public ElementsCollection shouldHaveSize() {
+    return collection.shouldHave(size(items));
+  }
+
+  @Benchmark
+  public ElementsCollection shouldHaveExactTexts() {
+    return collection.shouldHave(exactTexts(expectedTexts));
+  }
+}
@@ -0,0 +1,88 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.CheckResult;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.Condition.and;
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.enabled;
+import static com.codeborne.selenide.Condition.exactText;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+
+/**
+ * Single {@link Condition#check(Driver, WebElement)} call on an already found element (with zero latency),
+ * i.e. CPU cost of the condition itself
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionBenchmark {
+  private final Condition text = text("login page");
+  private final Condition exactText = exactText("Login page");
+  private final Condition attribute = attribute("name", "login");
+  private final Condition cssClass = cssClass("primary");
+  private final Condition visibleAndEnabled = and("usable", visible, enabled);
+
+  private Driver driver;
+  private WebElement header;
+  private WebElement login;
+
+  @Setup
+  public void setUp() {
+    FakeWebDriver webDriver = FakeWebDriver.loginPage(0, 10);
+    driver = new SelenideDriver(FakeWebDriver.config(), webDriver, null).driver();
+    header = webDriver.findElement(By.cssSelector("h1"));
+    login = webDriver.findElement(By.id("login"));
+  }
+
+  @Benchmark
+  public CheckResult checkVisible() {
+    return visible.check(driver, login);
+  }
+
+  @Benchmark
+  public CheckResult checkText() {
+    return text.check(driver, header);
+  }
+
+  @Benchmark
+  public CheckResult checkExactText() {
+    return exactText.check(driver, header);
+  }
+
+  @Benchmark
+  public CheckResult checkAttribute() {
+    return attribute.check(driver, login);
+  }
+
+  @Benchmark
+  public CheckResult checkCssClass() {
+    return cssClass.check(driver, login);
+  }
+
+  @Benchmark
+  public CheckResult checkVisibleAndEnabled() {
+    return visibleAndEnabled.check(driver, login);
+  }
+}
@@ -0,0 +1,62 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.SelenideElementDescriber;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describing an element for error messages with {@link Describe} (via {@link SelenideElementDescriber}):
+ * all attributes are read with one JavaScript call, and then some of them are read once again one by one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DescribeBenchmark {
+  @Param({"0", "100"})
+  public long latencyMicros;
+
+  private final SelenideElementDescriber describer = new SelenideElementDescriber();
+  private Driver driver;
+  private WebElement login;
+
+  @Setup
+  public void setUp() {
+    FakeWebDriver webDriver = FakeWebDriver.loginPage(latencyMicros, 10);
+    driver = new SelenideDriver(FakeWebDriver.config(), webDriver, null).driver();
+    login = webDriver.findElement(By.id("login"));
+  }
+
+  @Benchmark
+  public String fully() {
+    return describer.fully(driver, login);
+  }
+
+  @Benchmark
+  public String briefly() {
+    return describer.briefly(driver, login);
+  }
+
+  @Benchmark
+  public String predefinedAttributes() {
+    return new Describe(driver, login).attr("class").attr("id").attr("name").attr("value").serialize();
+  }
+}
@@ -0,0 +1,80 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.Condition.value;
+import static com.codeborne.selenide.Condition.visible;
+
+/**
+ * Calls via {@link SelenideElement} proxy (locating the element, logging the step and running the command)
+ * compared to the same call on a plain {@link org.openqa.selenium.WebElement}:
+ * <ul>
+ *   <li>with zero latency, the difference is the Selenide dispatch overhead;</li>
+ *   <li>with latency of 100 microseconds, the difference is mostly the number of webdriver commands.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ElementProxyBenchmark {
+  @Param({"0", "100"})
+  public long latencyMicros;
+
+  private WebDriver webDriver;
+  private SelenideElement login;
+
+  @Setup
+  public void setUp() {
+    webDriver = FakeWebDriver.loginPage(latencyMicros, 10);
+    login = new SelenideDriver(FakeWebDriver.config(), webDriver, null).$("#login");
+  }
+
+  @Benchmark
+  public String webElementGetText() {
+    return webDriver.findElement(By.cssSelector("#login")).getText();
+  }
+
+  @Benchmark
+  public String getText() {
+    return login.getText();
+  }
+
+  @Benchmark
+  public String getValue() {
+    return login.getValue();
+  }
+
+  @Benchmark
+  public boolean isDisplayed() {
+    return login.isDisplayed();
+  }
+
+  @Benchmark
+  public SelenideElement shouldBeVisible() {
+    return login.shouldBe(visible);
+  }
+
+  @Benchmark
+  public SelenideElement shouldHaveValue() {
+    return login.shouldHave(value("bob"));
+  }
+}
@@ -0,0 +1,191 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * In-memory webdriver: elements are registered by locators, and every command waits
+ * for given latency (simulating a round trip to the browser).
+ * <p>
+ * Only JavaScript used by {@link com.codeborne.selenide.impl.Describe} (reading all element attributes) is supported,
+ * other scripts return null.
+ * </p>
+ */
+@ParametersAreNonnullByDefault
+public class FakeWebDriver implements WebDriver, JavascriptExecutor {
+  private final long latencyNanos;
+  private final Map<String, List<WebElement>> elements = new HashMap<>();
+
+  /**
+   * @param latencyMicros duration of every webdriver command
+   */
+  public FakeWebDriver(long latencyMicros) {
+    this.latencyNanos = MICROSECONDS.toNanos(latencyMicros);
+  }
+
+  /**
+   * Login page: "h1" header, "#login" input, ".item" list of given size and ".widget" with ".title" inside
+   */
+  @Nonnull
+  public static FakeWebDriver loginPage(long latencyMicros, int items) {
+    FakeWebDriver driver = new FakeWebDriver(latencyMicros);
+    driver.add(By.cssSelector("h1"), driver.element("h1", "Login page"));
+    FakeWebElement login = driver.element("input", "")
+      .attr("id", "login").attr("name", "login").attr("class", "form-control primary").attr("value", "bob");
+    driver.add(By.id("login"), login);
+    driver.add(By.cssSelector("#login"), login);
+
+    List<FakeWebElement> list = new ArrayList<>(items);
+    for (int i = 1; i <= items; i++) {
+      list.add(driver.element("li", "Item " + i).attr("class", "item"));
+    }
+    driver.add(By.cssSelector(".item"), list.toArray(new FakeWebElement[0]));
+
+    FakeWebElement widget = driver.element("div", "Widget").attr("class", "widget");
+    widget.add(By.cssSelector(".title"), driver.element("span", "Widget title").attr("class", "title"));
+    driver.add(By.cssSelector(".widget"), widget);
+    return driver;
+  }
+
+  /**
+   * Config for benchmarks: no screenshots or page sources on failures
+   */
+  @Nonnull
+  public static SelenideConfig config() {
+    return new SelenideConfig().timeout(1000).screenshots(false).savePageSource(false);
+  }
+
+  @Nonnull
+  public FakeWebElement element(String tagName, String text) {
+    return new FakeWebElement(this, tagName, text);
+  }
+
+  public void add(By locator, FakeWebElement... elements) {
+    this.elements.put(locator.toString(), asList(elements));
+  }
+
+  /**
+   * Simulates waiting for browser response (without using CPU, like waiting for a socket)
+   */
+  void roundTrip() {
+    if (latencyNanos > 0) {
+      LockSupport.parkNanos(latencyNanos);
+    }
+  }
+
+  static List<WebElement> find(Map<String, List<WebElement>> elements, By by) {
+    return elements.getOrDefault(by.toString(), emptyList());
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    roundTrip();
+    return new ArrayList<>(find(elements, by));
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    roundTrip();
+    List<WebElement> found = find(elements, by);
+    if (found.isEmpty()) {
+      throw new NoSuchElementException("Cannot locate an element using " + by);
+    }
+    return found.get(0);
+  }
+
+  @Override
+  public Object executeScript(String script, Object... args) {
+    roundTrip();
+    if (script.contains(".attributes") && args.length > 0 && args[0] instanceof FakeWebElement) {
+      return new HashMap<>(((FakeWebElement) args[0]).attributes());
+    }
+    return null;
+  }
+
+  @Override
+  public Object executeAsyncScript(String script, Object... args) {
+    return executeScript(script, args);
+  }
+
+  @Override
+  public void get(String url) {
+    roundTrip();
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    roundTrip();
+    return "https://fake.selenide.org/login";
+  }
+
+  @Override
+  public String getTitle() {
+    roundTrip();
+    return "Login page";
+  }
+
+  @Override
+  public String getPageSource() {
+    roundTrip();
+    return "<html><body><h1>Login page</h1></body></html>";
+  }
+
+  @Override
+  public void close() {
+    roundTrip();
+  }
+
+  @Override
+  public void quit() {
+    roundTrip();
+  }
+
+  @Override
+  public Set<String> getWindowHandles() {
+    roundTrip();
+    return singleton(getWindowHandle());
+  }
+
+  @Override
+  public String getWindowHandle() {
+    return "fake-window";
+  }
+
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedOperationException("switchTo");
+  }
+
+  @Override
+  public Navigation navigate() {
+    throw new UnsupportedOperationException("navigate");
+  }
+
+  @Override
+  public Options manage() {
+    throw new UnsupportedOperationException("manage");
+  }
+
+  @Override
+  public String toString() {
+    return "FakeWebDriver (latency: " + latencyNanos + " ns)";
+  }
+}
@@ -0,0 +1,170 @@
+package com.codeborne.selenide.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+
+/**
+ * In-memory web element of {@link FakeWebDriver}: every command waits for the driver's latency
+ */
+@ParametersAreNonnullByDefault
+public class FakeWebElement implements WebElement {
+  private final FakeWebDriver driver;
+  private final String tagName;
+  private final Map<String, String> attributes = new LinkedHashMap<>();
+  private final Map<String, List<WebElement>> children = new HashMap<>();
+  private String text;
+
+  FakeWebElement(FakeWebDriver driver, String tagName, String text) {
+    this.driver = driver;
+    this.tagName = tagName;
+    this.text = text;
+  }
+
+  @Nonnull
+  public FakeWebElement attr(String name, String value) {
+    attributes.put(name, value);
+    return this;
+  }
+
+  public void add(By locator, FakeWebElement... elements) {
+    children.put(locator.toString(), asList(elements));
+  }
+
+  @Nonnull
+  Map<String, String> attributes() {
+    return attributes;
+  }
+
+  @Override
+  public void click() {
+    driver.roundTrip();
+  }
+
+  @Override
+  public void submit() {
+    driver.roundTrip();
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    driver.roundTrip();
+    StringBuilder value = new StringBuilder(attributes.getOrDefault("value", ""));
+    for (CharSequence keys : keysToSend) {
+      value.append(keys);
+    }
+    attributes.put("value", value.toString());
+  }
+
+  @Override
+  public void clear() {
+    driver.roundTrip();
+    attributes.put("value", "");
+  }
+
+  @Override
+  public String getTagName() {
+    driver.roundTrip();
+    return tagName;
+  }
+
+  @Override
+  @Nullable
+  public String getAttribute(String name) {
+    driver.roundTrip();
+    return attributes.get(name);
+  }
+
+  @Override
+  public boolean isSelected() {
+    driver.roundTrip();
+    return false;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    driver.roundTrip();
+    return !attributes.containsKey("disabled");
+  }
+
+  @Override
+  public String getText() {
+    driver.roundTrip();
+    return text;
+  }
+
+  public void setText(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    driver.roundTrip();
+    return new ArrayList<>(FakeWebDriver.find(children, by));
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    driver.roundTrip();
+    List<WebElement> found = FakeWebDriver.find(children, by);
+    if (found.isEmpty()) {
+      throw new NoSuchElementException("Cannot locate an element using " + by);
+    }
+    return found.get(0);
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    driver.roundTrip();
+    return true;
+  }
+
+  @Override
+  public Point getLocation() {
+    driver.roundTrip();
+    return new Point(10, 20);
+  }
+
+  @Override
+  public Dimension getSize() {
+    driver.roundTrip();
+    return new Dimension(200, 30);
+  }
+
+  @Override
+  public Rectangle getRect() {
+    driver.roundTrip();
+    return new Rectangle(new Point(10, 20), new Dimension(200, 30));
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    driver.roundTrip();
+    return "";
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    throw new UnsupportedOperationException("getScreenshotAs");
+  }
+
+  @Override
+  public String toString() {
+    return "<" + tagName + " " + attributes + ">" + text + "</" + tagName + ">";
+  }
+}
@@ -0,0 +1,116 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.impl.ImageComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static java.util.Collections.emptyList;
+
+/**
+ * Compares screenshot-like images of Full HD and 4K resolution:
+ * <ul>
+ *   <li>{@code pixelByPixel} - naive single-threaded loop with {@link BufferedImage#getRGB(int, int)}</li>
+ *   <li>{@code singleThread} - {@link ImageComparator} with one thread</li>
+ *   <li>{@code parallel} - {@link ImageComparator} with common fork-join pool</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageComparatorBenchmark {
+  @Param({"1920x1080", "3840x2160"})
+  public String resolution;
+
+  /**
+   * "identical" images are compared completely, "different" images (1% of pixels differ) - until 0.1% tolerance is exceeded
+   */
+  @Param({"identical", "different"})
+  public String images;
+
+  private BufferedImage actual;
+  private BufferedImage expected;
+  private ForkJoinPool singleThreadPool;
+  private ImageComparator parallel;
+  private ImageComparator singleThread;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    String[] size = resolution.split("x");
+    expected = screenshot(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    actual = screenshot(expected.getWidth(), expected.getHeight());
+    if ("different".equals(images)) {
+      for (int x = 0; x < actual.getWidth(); x += 10) {
+        for (int y = 0; y < actual.getHeight(); y += 10) {
+          actual.setRGB(x, y, ~actual.getRGB(x, y));
+        }
+      }
+    }
+    singleThreadPool = new ForkJoinPool(1);
+    singleThread = new ImageComparator(singleThreadPool);
+    parallel = new ImageComparator();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    singleThreadPool.shutdown();
+  }
+
+  @Benchmark
+  public long pixelByPixel() {
+    long differentPixels = 0;
+    for (int y = 0; y < actual.getHeight(); y++) {
+      for (int x = 0; x < actual.getWidth(); x++) {
+        if (actual.getRGB(x, y) != expected.getRGB(x, y)) {
+          differentPixels++;
+        }
+      }
+    }
+    return differentPixels;
+  }
+
+  @Benchmark
+  public boolean singleThread() {
+    return singleThread.compare(actual, expected, 0.001, emptyList()).matches();
+  }
+
+  @Benchmark
+  public boolean parallel() {
+    return parallel.compare(actual, expected, 0.001, emptyList()).matches();
+  }
+
+  private static BufferedImage screenshot(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_3BYTE_BGR);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, width, height);
+    graphics.setColor(new Color(0x3366CC));
+    graphics.fillRect(0, 0, width, height / 10);
+    graphics.setColor(Color.DARK_GRAY);
+    for (int line = height / 5; line < height; line += 30) {
+      graphics.drawString("Selenide: concise UI tests in Java. Line " + line, width / 20, line);
+    }
+    graphics.dispose();
+    return image;
+  }
+}
@@ -0,0 +1,77 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.SelenidePageFactory;
+import org.openqa.selenium.support.FindBy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SelenidePageFactory#page(Driver, Class)} for a page object with elements, collections and widgets
+ * (which doesn't send any webdriver commands: all the fields are lazy proxies)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageFactoryBenchmark {
+  private final SelenidePageFactory pageFactory = new SelenidePageFactory();
+  private Driver driver;
+
+  @Setup
+  public void setUp() {
+    driver = new SelenideDriver(FakeWebDriver.config(), FakeWebDriver.loginPage(0, 10), null).driver();
+  }
+
+  @Benchmark
+  public LoginPage page() {
+    return pageFactory.page(driver, LoginPage.class);
+  }
+
+  @Benchmark
+  public String pageAndWidgetTitle() {
+    return pageFactory.page(driver, LoginPage.class).widget.title.getText();
+  }
+
+  public static class LoginPage {
+    @FindBy(css = "h1")
+    public SelenideElement header;
+
+    @FindBy(id = "login")
+    public SelenideElement login;
+
+    @FindBy(css = ".item")
+    public ElementsCollection items;
+
+    @FindBy(css = ".item")
+    public List<SelenideElement> itemsList;
+
+    @FindBy(css = ".widget")
+    public Widget widget;
+
+    @FindBy(css = ".widget")
+    public List<Widget> widgets;
+  }
+
+  public static class Widget extends ElementsContainer {
+    @FindBy(css = ".title")
+    public SelenideElement title;
+  }
+}
@@ -0,0 +1,153 @@
+package com.codeborne.selenide.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Takes screenshots of a Full HD page, or of a 600x400 element of it:
+ * <ul>
+ *   <li>{@code webdriverPng} - webdriver screenshot: PNG, base64-encoded in the JSON response
+ *   (what {@link com.codeborne.selenide.impl.WebdriverPhotographer} receives)</li>
+ *   <li>{@code cdpJpeg} - "Page.captureScreenshot" DevTools command: JPEG of given quality, clipped by the browser
+ *   (what {@link com.codeborne.selenide.impl.CdpPhotographer} receives)</li>
+ * </ul>
+ * Every shot includes encoding the image (done by browser), transferring the base64 payload over a link
+ * of given bandwidth, and decoding it. Payload sizes are printed once per trial.
+ * <br>
+ * Both paths need one round trip per shot, so the round trip latency itself is not simulated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreenshotBenchmark {
+  @Param({"page", "element"})
+  public String target;
+
+  /**
+   * Bandwidth of the link to the browser (e.g. a remote grid), megabits per second
+   */
+  @Param({"100", "1000"})
+  public int bandwidth;
+
+  @Param({"75"})
+  public int quality;
+
+  private BufferedImage image;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    BufferedImage page = screenshot(1920, 1080);
+    image = "page".equals(target) ? page : page.getSubimage(660, 340, 600, 400);
+    System.out.printf("%n%s payload: webdriver PNG %d bytes, DevTools JPEG (quality %d) %d bytes%n",
+      target, base64(png(image)).length(), quality, base64(jpeg(image, quality)).length());
+  }
+
+  @Benchmark
+  public byte[] webdriverPng() {
+    return transfer(base64(png(image)));
+  }
+
+  @Benchmark
+  public byte[] cdpJpeg() {
+    return transfer(base64(jpeg(image, quality)));
+  }
+
+  private byte[] transfer(String payload) {
+    LockSupport.parkNanos(payload.length() * 8L * 1000 / bandwidth);
+    return Base64.getDecoder().decode(payload.getBytes(US_ASCII));
+  }
+
+  private static String base64(byte[] bytes) {
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  private static byte[] png(BufferedImage image) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      ImageIO.write(image, "png", out);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] jpeg(BufferedImage image, int quality) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(quality / 100f);
+      writer.setOutput(stream);
+      writer.write(null, new IIOImage(image, null, null), param);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    finally {
+      writer.dispose();
+    }
+    return out.toByteArray();
+  }
+
+  private static BufferedImage screenshot(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_3BYTE_BGR);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, width, height);
+    graphics.setColor(new Color(0x3366CC));
+    graphics.fillRect(0, 0, width, height / 10);
+    graphics.setColor(Color.DARK_GRAY);
+    for (int line = height / 5; line < height; line += 30) {
+      graphics.drawString("Selenide: concise UI tests in Java. Line " + line, width / 20, line);
+    }
+    graphics.drawImage(photo(width / 3, height / 3), width / 2, height / 3, null);
+    graphics.dispose();
+    return image;
+  }
+
+  /**
+   * Gradient "photo", which (unlike text on plain background) doesn't compress well as PNG
+   */
+  private static BufferedImage photo(int width, int height) {
+    BufferedImage photo = new BufferedImage(width, height, TYPE_3BYTE_BGR);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        photo.setRGB(x, y, new Color(x * 255 / width, y * 255 / height, (x + y) % 256).getRGB());
+      }
+    }
+    return photo;
+  }
+}
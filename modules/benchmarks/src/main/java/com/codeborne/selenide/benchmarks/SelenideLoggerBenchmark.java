@@ -0,0 +1,83 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLog;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+
+/**
+ * Overhead of a Selenide step (as logged by {@code SelenideElementProxy}) with 0, 1 and 5 listeners.
+ * Listeners are registered per thread, so the state is per thread too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelenideLoggerBenchmark {
+  private static final Object[] ARGS = {"Login page"};
+
+  @Param({"0", "1", "5"})
+  public int listeners;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    SelenideLogger.removeAllListeners();
+    for (int i = 0; i < listeners; i++) {
+      SelenideLogger.addListener("listener" + i, new ConsumingListener(blackhole));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    SelenideLogger.removeAllListeners();
+  }
+
+  @Benchmark
+  public SelenideLog step() {
+    SelenideLog log = SelenideLogger.beginStep("h1", "shouldHave", ARGS);
+    SelenideLogger.commitStep(log, PASS);
+    return log;
+  }
+
+  @Benchmark
+  public void run() {
+    SelenideLogger.run("h1", "click", () -> { });
+  }
+
+  private static class ConsumingListener implements LogEventListener {
+    private final Blackhole blackhole;
+
+    private ConsumingListener(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void beforeEvent(LogEvent currentLog) {
+      blackhole.consume(currentLog);
+    }
+
+    @Override
+    public void afterEvent(LogEvent currentLog) {
+      blackhole.consume(currentLog.getStatus());
+    }
+  }
+}
@@ -34,5 +34,17 @@ public interface Config {
   boolean proxyEnabled();
   String proxyHost();
   int proxyPort();
+  boolean cacheBrowserCookies();
+  int driverPoolSize();
+  boolean prewarmBrowser();
+  long browserHealthCheckTtl();
+  boolean asyncClose();
+  String driverManagerIndex();
+  String screenshotFormat();
+  int screenshotQuality();
+  String pageSourceCompression();
+  long pageSourceMaxSize();
+  boolean countRoundTrips();
+  boolean snapshotContainerLists();
 
 }
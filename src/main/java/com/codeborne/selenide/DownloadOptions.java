@@ -18,12 +18,17 @@ public class DownloadOptions {
   private final long timeout;
   private final FileFilter filter;
   private final DownloadAction action;
+  private final int resumeAttempts;
+  private final int parallelChunks;
 
-  private DownloadOptions(FileDownloadMode method, long timeout, FileFilter filter, DownloadAction action) {
+  private DownloadOptions(FileDownloadMode method, long timeout, FileFilter filter, DownloadAction action,
+                          int resumeAttempts, int parallelChunks) {
     this.method = method;
     this.timeout = timeout;
     this.filter = filter;
     this.action = action;
+    this.resumeAttempts = resumeAttempts;
+    this.parallelChunks = parallelChunks;
   }
 
   @CheckReturnValue
@@ -53,16 +58,32 @@ public class DownloadOptions {
     return action;
   }
 
+  /**
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  public int getResumeAttempts() {
+    return resumeAttempts;
+  }
+
+  /**
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  public int getParallelChunks() {
+    return parallelChunks;
+  }
+
   @CheckReturnValue
   @Nonnull
   public DownloadOptions withTimeout(long timeout) {
-    return new DownloadOptions(method, timeout, filter, action);
+    return new DownloadOptions(method, timeout, filter, action, resumeAttempts, parallelChunks);
   }
 
   @CheckReturnValue
   @Nonnull
   public DownloadOptions withFilter(FileFilter filter) {
-    return new DownloadOptions(method, timeout, filter, action);
+    return new DownloadOptions(method, timeout, filter, action, resumeAttempts, parallelChunks);
   }
 
   /**
@@ -76,24 +97,60 @@ public class DownloadOptions {
    * @since 5.22.0
    */
   public DownloadOptions withAction(DownloadAction action) {
-    return new DownloadOptions(method, timeout, filter, action);
+    return new DownloadOptions(method, timeout, filter, action, resumeAttempts, parallelChunks);
+  }
+
+  /**
+   * Resume interrupted download with HTTP "Range" request instead of failing.
+   * <p>
+   * Works only for {@link FileDownloadMode#HTTPGET} and only if the server supports ranges
+   * and sends "ETag" or "Last-Modified" header (so that parts of different file versions never get mixed).
+   * </p>
+   *
+   * @param attempts max number of resume attempts (0 means "don't resume")
+   * @return DownloadOptions
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public DownloadOptions withResume(int attempts) {
+    return new DownloadOptions(method, timeout, filter, action, attempts, parallelChunks);
+  }
+
+  /**
+   * Download large files with several parallel HTTP "Range" requests.
+   * <p>
+   * Works only for {@link FileDownloadMode#HTTPGET} and only if the server supports ranges
+   * and sends "Content-Length" header. Every chunk is at least 1 MB, so small files are still downloaded at once.
+   * </p>
+   *
+   * @param chunks max number of parallel requests (1 means "download at once")
+   * @return DownloadOptions
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public DownloadOptions withParallelChunks(int chunks) {
+    return new DownloadOptions(method, timeout, filter, action, resumeAttempts, chunks);
   }
 
   @Override
   public String toString() {
-    if (hasSpecifiedTimed() && !filter.isEmpty())
-      return String.format("method: %s, timeout: %s ms, filter: %s", method, timeout, filter.description());
-    else if (hasSpecifiedTimed())
-      return String.format("method: %s, timeout: %s ms", method, timeout);
-    else if (!filter.isEmpty())
-      return String.format("method: %s, filter: %s", method, filter.description());
-    else
-      return String.format("method: %s", method);
+    StringBuilder sb = new StringBuilder(String.format("method: %s", method));
+    if (hasSpecifiedTimed())
+      sb.append(String.format(", timeout: %s ms", timeout));
+    if (!filter.isEmpty())
+      sb.append(String.format(", filter: %s", filter.description()));
+    if (resumeAttempts > 0)
+      sb.append(String.format(", resume attempts: %s", resumeAttempts));
+    if (parallelChunks > 1)
+      sb.append(String.format(", parallel chunks: %s", parallelChunks));
+    return sb.toString();
   }
 
   @CheckReturnValue
   @Nonnull
   public static DownloadOptions using(FileDownloadMode method) {
-    return new DownloadOptions(method, UNSPECIFIED_TIMEOUT, none(), click());
+    return new DownloadOptions(method, UNSPECIFIED_TIMEOUT, none(), click(), 0, 1);
   }
 }
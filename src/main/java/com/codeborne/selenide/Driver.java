@@ -3,7 +3,6 @@ package com.codeborne.selenide;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
@@ -13,6 +12,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static com.codeborne.selenide.impl.WebDriverUnwrapper.unwrap;
+
 @ParametersAreNonnullByDefault
 public interface Driver {
   @CheckReturnValue
@@ -104,10 +105,6 @@ public interface Driver {
   @CheckReturnValue
   @Nonnull
   default SessionId getSessionId() {
-    WebDriver driver = getWebDriver();
-    if (driver instanceof WrapsDriver) {
-      driver = ((WrapsDriver) driver).getWrappedDriver();
-    }
-    return ((RemoteWebDriver) driver).getSessionId();
+    return ((RemoteWebDriver) unwrap(getWebDriver())).getSessionId();
   }
 }
@@ -180,6 +180,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
           return;
         }
         lastError = elementNotFound;
+        collection.invalidate();
       }
       sleep(driver().config().pollingInterval());
     }
@@ -1,8 +1,18 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.ContainerReader;
+import com.codeborne.selenide.impl.ElementsContainerCollection;
+import com.codeborne.selenide.impl.WebElementSource;
+
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 @ParametersAreNonnullByDefault
 public abstract class ElementsContainer {
@@ -13,4 +23,63 @@ public abstract class ElementsContainer {
   public SelenideElement getSelf() {
     return self;
   }
+
+  /**
+   * Read texts of all elements of this container into a new DTO.
+   * <br>
+   * Every (String) field of the DTO gets the text of the container's element field with the same name
+   * (value for {@code input} and {@code textarea}, or an attribute if the DTO field is annotated with {@link ReadAttribute}),
+   * or null if the element is not found.
+   * <br>
+   * All the fields are read with a single javascript call.
+   *
+   * @param dtoClass class with a no-arg constructor
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public <T> T readAll(Class<T> dtoClass) {
+    return requireNonNull(getSelf().execute(new ReadAll<>(this, dtoClass)));
+  }
+
+  /**
+   * Read all elements of given containers into DTOs, see {@link #readAll(Class)}.
+   * <br>
+   * For a list of containers created by page factory ({@code @FindBy(...) List<MyContainer> rows}),
+   * it takes 2 webdriver calls: to find all the rows, and to read all the fields of all the rows.
+   *
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public static <T> List<T> readAll(List<? extends ElementsContainer> containers, Class<T> dtoClass) {
+    if (containers instanceof ElementsContainerCollection) {
+      return ((ElementsContainerCollection) containers).readAll(dtoClass);
+    }
+    return containers.stream().map(container -> container.readAll(dtoClass)).collect(toList());
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class ReadAll<T> implements Command<T> {
+    private final ElementsContainer container;
+    private final Class<T> dtoClass;
+
+    private ReadAll(ElementsContainer container, Class<T> dtoClass) {
+      this.container = container;
+      this.dtoClass = dtoClass;
+    }
+
+    @Override
+    @Nonnull
+    public T execute(SelenideElement proxy, WebElementSource locator, @Nullable Object[] args) {
+      return ContainerReader.of(container.getClass(), dtoClass)
+        .read(locator.driver(), singletonList(locator.getWebElement()), index -> container)
+        .get(0);
+    }
+
+    @Override
+    public String toString() {
+      return "readAll(" + dtoClass.getSimpleName() + ")";
+    }
+  }
 }
@@ -0,0 +1,25 @@
+package com.codeborne.selenide;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field of a DTO read by {@link ElementsContainer#readAll(Class)}:
+ * the field gets the given attribute of the element (instead of its text or value).
+ * <br>
+ * {@code @ReadAttribute("href") String link;}
+ *
+ * @since 6.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ReadAttribute {
+  /**
+   * Name of the attribute
+   */
+  String value();
+}
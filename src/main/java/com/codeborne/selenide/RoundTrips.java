@@ -0,0 +1,62 @@
+package com.codeborne.selenide;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.System.lineSeparator;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Number of webdriver commands (round trips to the browser) sent by the current thread while running some code,
+ * broken down by Selenide steps (see {@link com.codeborne.selenide.logevents.SelenideLogger}).
+ *
+ * @see Selenide#roundTrips(Runnable)
+ * @see com.codeborne.selenide.junit5.MaxRoundTrips
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class RoundTrips {
+  /**
+   * Name of "step" for webdriver commands sent outside of any Selenide step
+   */
+  public static final String NO_STEP = "(no step)";
+
+  private final Map<String, Integer> steps;
+  private final int total;
+
+  /**
+   * @param steps number of webdriver commands per step
+   */
+  public RoundTrips(Map<String, Integer> steps) {
+    this.steps = unmodifiableMap(new LinkedHashMap<>(steps));
+    this.total = steps.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  @CheckReturnValue
+  public int total() {
+    return total;
+  }
+
+  /**
+   * @return number of webdriver commands per step (in order of steps' first command)
+   */
+  @CheckReturnValue
+  @Nonnull
+  public Map<String, Integer> steps() {
+    return steps;
+  }
+
+  @Override
+  @CheckReturnValue
+  @Nonnull
+  public String toString() {
+    StringBuilder sb = new StringBuilder("Round trips: ").append(total);
+    for (Map.Entry<String, Integer> step : steps.entrySet()) {
+      sb.append(lineSeparator()).append("  ").append(step.getValue()).append(" - ").append(step.getKey());
+    }
+    return sb.toString();
+  }
+}
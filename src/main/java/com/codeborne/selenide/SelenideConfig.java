@@ -8,6 +8,7 @@ import static com.codeborne.selenide.AssertionMode.STRICT;
 import static com.codeborne.selenide.Browsers.CHROME;
 import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
 import static com.codeborne.selenide.SelectorMode.CSS;
+import static com.codeborne.selenide.impl.WebPageSourceExtractor.checkPageSourceCompression;
 
 public class SelenideConfig implements Config {
   private String browser = System.getProperty("selenide.browser", CHROME);
@@ -42,6 +43,18 @@ public class SelenideConfig implements Config {
   private boolean proxyEnabled = Boolean.parseBoolean(System.getProperty("selenide.proxyEnabled", "false"));
   private String proxyHost = System.getProperty("selenide.proxyHost", "");
   private int proxyPort = Integer.parseInt(System.getProperty("selenide.proxyPort", "0"));
+  private boolean cacheBrowserCookies = Boolean.parseBoolean(System.getProperty("selenide.cacheBrowserCookies", "false"));
+  private int driverPoolSize = Integer.parseInt(System.getProperty("selenide.driverPoolSize", "0"));
+  private boolean prewarmBrowser = Boolean.parseBoolean(System.getProperty("selenide.prewarmBrowser", "false"));
+  private long browserHealthCheckTtl = Long.parseLong(System.getProperty("selenide.browserHealthCheckTtl", "0"));
+  private boolean asyncClose = Boolean.parseBoolean(System.getProperty("selenide.asyncClose", "false"));
+  private String driverManagerIndex = System.getProperty("selenide.driverManagerIndex");
+  private String screenshotFormat = System.getProperty("selenide.screenshotFormat", "png");
+  private int screenshotQuality = Integer.parseInt(System.getProperty("selenide.screenshotQuality", "90"));
+  private String pageSourceCompression = checkPageSourceCompression(System.getProperty("selenide.pageSourceCompression", "none"));
+  private long pageSourceMaxSize = Long.parseLong(System.getProperty("selenide.pageSourceMaxSize", "0"));
+  private boolean countRoundTrips = Boolean.parseBoolean(System.getProperty("selenide.countRoundTrips", "false"));
+  private boolean snapshotContainerLists = Boolean.parseBoolean(System.getProperty("selenide.snapshotContainerLists", "false"));
 
   @Override
   public String baseUrl() {
@@ -342,4 +355,124 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean cacheBrowserCookies() {
+    return cacheBrowserCookies;
+  }
+
+  public SelenideConfig cacheBrowserCookies(boolean cacheBrowserCookies) {
+    this.cacheBrowserCookies = cacheBrowserCookies;
+    return this;
+  }
+
+  @Override
+  public int driverPoolSize() {
+    return driverPoolSize;
+  }
+
+  public SelenideConfig driverPoolSize(int driverPoolSize) {
+    this.driverPoolSize = driverPoolSize;
+    return this;
+  }
+
+  @Override
+  public boolean prewarmBrowser() {
+    return prewarmBrowser;
+  }
+
+  public SelenideConfig prewarmBrowser(boolean prewarmBrowser) {
+    this.prewarmBrowser = prewarmBrowser;
+    return this;
+  }
+
+  @Override
+  public long browserHealthCheckTtl() {
+    return browserHealthCheckTtl;
+  }
+
+  public SelenideConfig browserHealthCheckTtl(long browserHealthCheckTtl) {
+    this.browserHealthCheckTtl = browserHealthCheckTtl;
+    return this;
+  }
+
+  @Override
+  public boolean asyncClose() {
+    return asyncClose;
+  }
+
+  public SelenideConfig asyncClose(boolean asyncClose) {
+    this.asyncClose = asyncClose;
+    return this;
+  }
+
+  @Override
+  public String driverManagerIndex() {
+    return driverManagerIndex;
+  }
+
+  public SelenideConfig driverManagerIndex(String driverManagerIndex) {
+    this.driverManagerIndex = driverManagerIndex;
+    return this;
+  }
+
+  @Override
+  public String screenshotFormat() {
+    return screenshotFormat;
+  }
+
+  public SelenideConfig screenshotFormat(String screenshotFormat) {
+    this.screenshotFormat = screenshotFormat;
+    return this;
+  }
+
+  @Override
+  public int screenshotQuality() {
+    return screenshotQuality;
+  }
+
+  public SelenideConfig screenshotQuality(int screenshotQuality) {
+    this.screenshotQuality = screenshotQuality;
+    return this;
+  }
+
+  @Override
+  public String pageSourceCompression() {
+    return pageSourceCompression;
+  }
+
+  public SelenideConfig pageSourceCompression(String pageSourceCompression) {
+    this.pageSourceCompression = checkPageSourceCompression(pageSourceCompression);
+    return this;
+  }
+
+  @Override
+  public long pageSourceMaxSize() {
+    return pageSourceMaxSize;
+  }
+
+  public SelenideConfig pageSourceMaxSize(long pageSourceMaxSize) {
+    this.pageSourceMaxSize = pageSourceMaxSize;
+    return this;
+  }
+
+  @Override
+  public boolean countRoundTrips() {
+    return countRoundTrips;
+  }
+
+  public SelenideConfig countRoundTrips(boolean countRoundTrips) {
+    this.countRoundTrips = countRoundTrips;
+    return this;
+  }
+
+  @Override
+  public boolean snapshotContainerLists() {
+    return snapshotContainerLists;
+  }
+
+  public SelenideConfig snapshotContainerLists(boolean snapshotContainerLists) {
+    this.snapshotContainerLists = snapshotContainerLists;
+    return this;
+  }
+
 }
@@ -15,6 +15,7 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -1263,4 +1264,35 @@ public interface SelenideElement extends WebElement, WrapsDriver, WrapsElement,
   @CheckReturnValue
   @Nullable
   BufferedImage screenshotAsImage();
+
+  /**
+   * Check that this element looks exactly like the given baseline image.
+   * Waits (up to default timeout) until the element screenshot matches the baseline.
+   * On failure, the diff image (different pixels are red) is saved to reports folder.
+   *
+   * @param baseline expected image of the element (PNG, JPEG etc.)
+   * @see com.codeborne.selenide.commands.ShouldLookLike
+   * @since 6.1.0
+   */
+  @Nonnull
+  @CanIgnoreReturnValue
+  SelenideElement shouldLookLike(File baseline);
+
+  /**
+   * Check that this element looks like the given baseline image.
+   * Waits (up to default timeout) until the element screenshot matches the baseline.
+   * On failure, the diff image (different pixels are red) is saved to reports folder.
+   * <p>
+   * Example: {@code $("#chart").shouldLookLike(new File("baselines/chart.png"), 0.01, new Rectangle(0, 0, 200, 20))}
+   * </p>
+   *
+   * @param baseline expected image of the element (PNG, JPEG etc.)
+   * @param tolerance max fraction (0..1) of pixels which may differ, e.g. 0.01 for 1%
+   * @param ignoredRegions regions of the element screenshot which are not compared (e.g. current date or animated image)
+   * @see com.codeborne.selenide.commands.ShouldLookLike
+   * @since 6.1.0
+   */
+  @Nonnull
+  @CanIgnoreReturnValue
+  SelenideElement shouldLookLike(File baseline, double tolerance, Rectangle... ignoredRegions);
 }
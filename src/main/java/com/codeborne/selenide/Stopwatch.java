@@ -1,5 +1,7 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.logevents.SelenideLogger;
+
 import javax.annotation.CheckReturnValue;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -24,12 +26,16 @@ public class Stopwatch {
   public void sleep(long milliseconds) {
     if (isTimeoutReached()) return;
 
+    long start = nanoTime();
     try {
       Thread.sleep(milliseconds);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new RuntimeException(e);
     }
+    finally {
+      SelenideLogger.phase("sleep", "sleep " + milliseconds + " ms", start);
+    }
   }
 
   /**
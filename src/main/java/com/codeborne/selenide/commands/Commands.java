@@ -142,6 +142,7 @@ public class Commands {
     add("should", new Should());
     add("shouldHave", new ShouldHave());
     add("shouldBe", new ShouldBe());
+    add("shouldLookLike", new ShouldLookLike());
   }
 
   public final void add(String method, Command<?> command) {
@@ -10,6 +10,7 @@ import com.codeborne.selenide.impl.DownloadFileToFolder;
 import com.codeborne.selenide.impl.DownloadFileWithHttpRequest;
 import com.codeborne.selenide.impl.DownloadFileWithProxyServer;
 import com.codeborne.selenide.impl.WebElementSource;
+import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,7 @@ import java.io.IOException;
 
 import static com.codeborne.selenide.DownloadOptions.using;
 import static com.codeborne.selenide.impl.Plugins.inject;
+import static java.lang.System.nanoTime;
 
 @ParametersAreNonnullByDefault
 public class DownloadFile implements Command<File> {
@@ -53,9 +55,21 @@ public class DownloadFile implements Command<File> {
 
     log.debug("Download file: {}", options);
 
+    long start = nanoTime();
+    try {
+      return download(linkWithHref, link, timeout, options);
+    }
+    finally {
+      SelenideLogger.phase("download", options.toString(), start);
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private File download(WebElementSource linkWithHref, WebElement link, long timeout, DownloadOptions options) throws IOException {
     switch (options.getMethod()) {
       case HTTPGET: {
-        return downloadFileWithHttpRequest.download(linkWithHref.driver(), link, timeout, options.getFilter());
+        return downloadFileWithHttpRequest.download(linkWithHref.driver(), link, timeout, options);
       }
       case PROXY: {
         return downloadFileWithProxyServer.download(linkWithHref, link, timeout, options.getFilter(), options.getAction());
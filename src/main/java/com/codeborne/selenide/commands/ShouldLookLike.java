@@ -0,0 +1,116 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ImageMismatch;
+import com.codeborne.selenide.impl.ImageComparator;
+import com.codeborne.selenide.impl.ImageDiff;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import com.codeborne.selenide.impl.WebElementSource;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.codeborne.selenide.commands.Util.firstOf;
+import static java.util.Arrays.asList;
+
+/**
+ * Compares screenshot of element with baseline image.
+ * <p>
+ * The command is retried until timeout, so the last baseline image read by every thread is kept decoded
+ * (until the baseline file is changed), and only the screenshot is taken again on every attempt.
+ * </p>
+ */
+@ParametersAreNonnullByDefault
+public class ShouldLookLike implements Command<SelenideElement> {
+  private final ScreenShotLaboratory screenshots;
+  private final ImageComparator comparator;
+  private final ThreadLocal<Baseline> lastBaseline = new ThreadLocal<>();
+
+  public ShouldLookLike() {
+    this(ScreenShotLaboratory.getInstance(), new ImageComparator());
+  }
+
+  ShouldLookLike(ScreenShotLaboratory screenshots, ImageComparator comparator) {
+    this.screenshots = screenshots;
+    this.comparator = comparator;
+  }
+
+  @Override
+  @Nonnull
+  public SelenideElement execute(SelenideElement proxy, WebElementSource locator, @Nullable Object[] args) {
+    File baseline = firstOf(args);
+    double tolerance = args.length > 1 ? (Double) args[1] : 0;
+    Rectangle[] ignoredRegions = args.length > 2 ? (Rectangle[]) args[2] : new Rectangle[0];
+
+    BufferedImage expected = baselineImage(baseline);
+    BufferedImage actual = screenshots.captureImage(locator.driver(), locator.getWebElement());
+    if (actual == null) {
+      throw new IllegalStateException("Failed to take screenshot of " + locator.description());
+    }
+
+    ImageDiff diff = comparator.compare(actual, expected, tolerance, asList(ignoredRegions));
+    if (!diff.matches()) {
+      throw new ImageMismatch(locator.driver(), locator.description(), baseline, diff);
+    }
+    return proxy;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private BufferedImage baselineImage(File file) {
+    if (!file.isFile()) {
+      throw new IllegalArgumentException("Baseline image not found: " + file.getAbsolutePath());
+    }
+    Baseline cached = lastBaseline.get();
+    if (cached != null && cached.isSameFile(file)) {
+      return cached.image;
+    }
+    BufferedImage image = readBaseline(file);
+    lastBaseline.set(new Baseline(file, image));
+    return image;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private BufferedImage readBaseline(File baseline) {
+    try {
+      BufferedImage image = ImageIO.read(baseline);
+      if (image == null) {
+        throw new IllegalArgumentException("Unsupported format of baseline image: " + baseline.getAbsolutePath());
+      }
+      return image;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Failed to read baseline image " + baseline.getAbsolutePath(), e);
+    }
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class Baseline {
+    private final File file;
+    private final long lastModified;
+    private final long length;
+    private final BufferedImage image;
+
+    private Baseline(File file, BufferedImage image) {
+      this.file = file.getAbsoluteFile();
+      this.lastModified = file.lastModified();
+      this.length = file.length();
+      this.image = image;
+    }
+
+    @CheckReturnValue
+    private boolean isSameFile(File other) {
+      return file.equals(other.getAbsoluteFile()) && lastModified == other.lastModified() && length == other.length();
+    }
+  }
+}
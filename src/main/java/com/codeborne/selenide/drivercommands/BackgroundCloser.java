@@ -0,0 +1,147 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.impl.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Closes browsers in background, so that test thread doesn't wait for browser to quit.
+ * <p>
+ * At most {@link #THREADS} browsers are closed at the same time, and at most {@link #QUEUE_CAPACITY} are waiting.
+ * When the queue is full, the browser is closed synchronously in the caller thread.
+ * </p>
+ *
+ * @see com.codeborne.selenide.Config#asyncClose()
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class BackgroundCloser {
+  private static final Logger log = LoggerFactory.getLogger(BackgroundCloser.class);
+  static final BackgroundCloser instance = new BackgroundCloser();
+  static final int THREADS = 4;
+  static final int QUEUE_CAPACITY = 100;
+
+  private final ThreadPoolExecutor executor;
+  private final Object lock = new Object();
+  private int pending;
+  private final AtomicLong closed = new AtomicLong();
+  private final AtomicLong totalLatency = new AtomicLong();
+  private final AtomicLong maxLatency = new AtomicLong();
+
+  BackgroundCloser() {
+    executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+      new DaemonThreadFactory("Selenide background close"), new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  public static BackgroundCloser instance() {
+    return instance;
+  }
+
+  /**
+   * Runs {@code close} in background
+   */
+  void close(Object description, Runnable close) {
+    long submitted = currentTimeMillis();
+    synchronized (lock) {
+      pending++;
+    }
+    executor.execute(() -> {
+      try {
+        close.run();
+      }
+      catch (RuntimeException e) {
+        log.error("Failed to close {} in background", description, e);
+      }
+      finally {
+        completed(currentTimeMillis() - submitted);
+      }
+    });
+  }
+
+  private void completed(long latency) {
+    closed.incrementAndGet();
+    totalLatency.addAndGet(latency);
+    maxLatency.accumulateAndGet(latency, Math::max);
+    synchronized (lock) {
+      pending--;
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Waits until all browsers are closed
+   *
+   * @return true if all browsers are closed, false if timeout has expired
+   */
+  boolean drain(long timeoutMs) {
+    long deadline = currentTimeMillis() + timeoutMs;
+    synchronized (lock) {
+      if (pending > 0) {
+        log.info("Wait for {} browser(s) being closed in background", pending);
+      }
+      try {
+        for (long left = timeoutMs; pending > 0 && left > 0; left = deadline - currentTimeMillis()) {
+          lock.wait(left);
+        }
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return pending == 0;
+    }
+  }
+
+  /**
+   * @return number of browsers that are being closed or waiting to be closed
+   */
+  @CheckReturnValue
+  public int queueDepth() {
+    synchronized (lock) {
+      return pending;
+    }
+  }
+
+  /**
+   * @return number of browsers closed in background
+   */
+  @CheckReturnValue
+  public long closedCount() {
+    return closed.get();
+  }
+
+  /**
+   * @return average time (in milliseconds) from {@code closeWebDriver()} call till browser is closed
+   */
+  @CheckReturnValue
+  public long averageLatency() {
+    long count = closed.get();
+    return count == 0 ? 0 : totalLatency.get() / count;
+  }
+
+  /**
+   * @return maximum time (in milliseconds) from {@code closeWebDriver()} call till browser is closed
+   */
+  @CheckReturnValue
+  public long maxLatency() {
+    return maxLatency.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s{queue depth: %s, closed: %s, average latency: %s ms, max latency: %s ms}",
+      getClass().getSimpleName(), queueDepth(), closedCount(), averageLatency(), maxLatency());
+  }
+}
@@ -0,0 +1,104 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.impl.RoundTripCounter;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.LongSupplier;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Remembers whether browser is alive, judging by results of all webdriver commands,
+ * so that {@link BrowserHealthChecker} doesn't need to send an extra request to the browser.
+ * <p>
+ * Any successful command proves that browser is alive (for {@code ttl} milliseconds),
+ * except local calls which don't reach the browser (like {@code manage()} or {@code switchTo()}).
+ * Any "unreachable browser" or "no such session" error, as well as {@code quit()}, proves that it's dead.
+ * </p>
+ *
+ * @see com.codeborne.selenide.Config#browserHealthCheckTtl()
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+class BrowserHealthCache implements WebDriverListener {
+  private static final Map<WebDriver, BrowserHealthCache> caches = synchronizedMap(new WeakHashMap<>());
+  private static final long UNKNOWN = Long.MIN_VALUE;
+
+  private final long ttl;
+  private final LongSupplier clock;
+  private volatile long aliveAt = UNKNOWN;
+  private volatile boolean dead;
+
+  BrowserHealthCache(long ttl) {
+    this(ttl, System::currentTimeMillis);
+  }
+
+  BrowserHealthCache(long ttl, LongSupplier clock) {
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  /**
+   * @param webDriver webdriver (already decorated with this listener) used by {@link com.codeborne.selenide.Driver}
+   */
+  void register(WebDriver webDriver) {
+    caches.put(webDriver, this);
+  }
+
+  @CheckReturnValue
+  @Nullable
+  static BrowserHealthCache of(WebDriver webDriver) {
+    return caches.get(webDriver);
+  }
+
+  /**
+   * @return true/false if browser is known to be alive/dead, or null if browser needs to be checked
+   */
+  @CheckReturnValue
+  @Nullable
+  Boolean isAlive() {
+    if (dead) {
+      return false;
+    }
+    long lastSuccess = aliveAt;
+    return lastSuccess != UNKNOWN && clock.getAsLong() - lastSuccess < ttl ? true : null;
+  }
+
+  @Override
+  public void afterAnyCall(Object target, Method method, Object[] args, @Nullable Object result) {
+    if (RoundTripCounter.isLocal(method)) {
+      return;
+    }
+    if (target instanceof WebDriver && "quit".equals(method.getName())) {
+      dead = true;
+    }
+    else if (target instanceof WebDriver && "close".equals(method.getName())) {
+      aliveAt = UNKNOWN;
+    }
+    else {
+      aliveAt = clock.getAsLong();
+    }
+  }
+
+  @Override
+  public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+    Throwable error = e.getTargetException();
+    if (error instanceof UnreachableBrowserException || error instanceof NoSuchSessionException) {
+      dead = true;
+    }
+    else if (error instanceof NoSuchWindowException) {
+      aliveAt = UNKNOWN;
+    }
+  }
+}
@@ -14,6 +14,12 @@ public class BrowserHealthChecker {
   private static final Logger log = LoggerFactory.getLogger(BrowserHealthChecker.class);
 
   public boolean isBrowserStillOpen(WebDriver webDriver) {
+    BrowserHealthCache healthCache = BrowserHealthCache.of(webDriver);
+    Boolean alive = healthCache == null ? null : healthCache.isAlive();
+    if (alive != null) {
+      return alive;
+    }
+
     try {
       webDriver.getTitle();
       return true;
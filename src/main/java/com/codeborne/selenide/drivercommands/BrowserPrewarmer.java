@@ -0,0 +1,174 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Creates a browser in background, so that {@link CreateDriverCommand} could adopt a ready browser
+ * instead of waiting for its cold start.
+ * <p>
+ * Only one browser is pre-warmed at a time. A pre-warmed browser with settings that don't match the next request
+ * is closed, as well as a browser which has not been adopted within {@link #IDLE_TIMEOUT}
+ * (e.g. the one pre-warmed after the last test), so that spare browsers don't stay open until JVM exit.
+ * </p>
+ * <p>
+ * Pre-warming stops when {@link ShutdownRegistry} closes all browsers (at JVM exit),
+ * or when {@link CreateDriverCommand#stopPrewarming()} is called.
+ * </p>
+ *
+ * @see Config#prewarmBrowser()
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+class BrowserPrewarmer {
+  private static final Logger log = LoggerFactory.getLogger(BrowserPrewarmer.class);
+  static final BrowserPrewarmer instance = new BrowserPrewarmer();
+  static final long IDLE_TIMEOUT = 60_000;
+
+  private final ScheduledExecutorService executor =
+    newSingleThreadScheduledExecutor(new DaemonThreadFactory("Selenide browser prewarmer"));
+  private final CloseDriverCommand closeDriverCommand;
+  private final long idleTimeout;
+  @Nullable
+  private Prewarmed prewarmed;
+  private boolean stopped;
+
+  BrowserPrewarmer() {
+    this(new CloseDriverCommand(null));
+  }
+
+  BrowserPrewarmer(CloseDriverCommand closeDriverCommand) {
+    this(closeDriverCommand, IDLE_TIMEOUT);
+  }
+
+  BrowserPrewarmer(CloseDriverCommand closeDriverCommand, long idleTimeout) {
+    this.closeDriverCommand = closeDriverCommand;
+    this.idleTimeout = idleTimeout;
+  }
+
+  /**
+   * Starts creating a browser in background (unless a browser with the same settings is already being pre-warmed)
+   */
+  synchronized void prewarm(Config config, List<Object> key, Callable<DriverPool.Session> startBrowser) {
+    if (stopped) {
+      return;
+    }
+    if (prewarmed != null) {
+      if (prewarmed.key.equals(key)) {
+        return;
+      }
+      discard(prewarmed);
+    }
+    log.info("Pre-warm browser in background");
+    Prewarmed candidate = new Prewarmed(config, key, executor.submit(startBrowser));
+    prewarmed = candidate;
+    executor.schedule(() -> expire(candidate), idleTimeout, MILLISECONDS);
+  }
+
+  /**
+   * Closes the pre-warmed browser if nobody has adopted it in time
+   */
+  private void expire(Prewarmed candidate) {
+    synchronized (this) {
+      if (prewarmed != candidate) {
+        return;
+      }
+      prewarmed = null;
+    }
+    log.info("Pre-warmed browser has not been adopted within {} ms", idleTimeout);
+    discard(candidate);
+  }
+
+  /**
+   * Closes the pre-warmed browser (if any), and ignores all further {@link #prewarm} calls
+   */
+  void stop() {
+    Prewarmed candidate;
+    synchronized (this) {
+      stopped = true;
+      candidate = take();
+    }
+    if (candidate != null) {
+      discard(candidate);
+    }
+  }
+
+  /**
+   * Waits until the pre-warmed browser is started
+   *
+   * @return the pre-warmed browser, or null if there is no pre-warmed browser with given settings
+   */
+  @CheckReturnValue
+  @Nullable
+  DriverPool.Session adopt(Config config, List<Object> key) {
+    Prewarmed candidate = take();
+    if (candidate == null) {
+      return null;
+    }
+    if (!candidate.key.equals(key)) {
+      discard(candidate);
+      return null;
+    }
+
+    try {
+      DriverPool.Session session = candidate.browser.get();
+      log.info("Adopt pre-warmed browser: {}", session.webDriver);
+      return session;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      discard(candidate);
+      return null;
+    }
+    catch (ExecutionException e) {
+      log.warn("Failed to pre-warm browser, will create it synchronously", e.getCause());
+      return null;
+    }
+  }
+
+  @Nullable
+  private synchronized Prewarmed take() {
+    Prewarmed result = prewarmed;
+    prewarmed = null;
+    return result;
+  }
+
+  /**
+   * Closes the browser as soon as it's started (the executor is single-threaded, so it has started by then)
+   */
+  private void discard(Prewarmed stale) {
+    executor.submit(() -> {
+      DriverPool.Session session = stale.browser.get();
+      log.info("Close pre-warmed browser which is not needed anymore: {}", session.webDriver);
+      closeDriverCommand.close(stale.config, session.webDriver, session.selenideProxyServer);
+      return null;
+    });
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class Prewarmed {
+    private final Config config;
+    private final List<Object> key;
+    private final Future<DriverPool.Session> browser;
+
+    private Prewarmed(Config config, List<Object> key, Future<DriverPool.Session> browser) {
+      this.config = config;
+      this.key = key;
+      this.browser = browser;
+    }
+  }
+}
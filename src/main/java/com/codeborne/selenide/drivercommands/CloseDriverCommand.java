@@ -2,7 +2,9 @@ package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.impl.Cleanup;
+import com.codeborne.selenide.impl.RoundTripCounter;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
+import com.codeborne.selenide.webdriver.CdpSession;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.UnreachableBrowserException;
@@ -17,18 +19,62 @@ import static java.lang.System.currentTimeMillis;
 @ParametersAreNonnullByDefault
 public class CloseDriverCommand {
   private static final Logger log = LoggerFactory.getLogger(CloseDriverCommand.class);
+  @Nullable
+  private final DriverPool driverPool;
+  @Nullable
+  private final BackgroundCloser backgroundCloser;
+
+  public CloseDriverCommand() {
+    this(DriverPool.instance, BackgroundCloser.instance);
+  }
+
+  /**
+   * @param driverPool pool to return browsers to, or null if browsers should always be closed
+   */
+  CloseDriverCommand(@Nullable DriverPool driverPool) {
+    this(driverPool, null);
+  }
+
+  /**
+   * @param backgroundCloser executor for closing browsers if {@link Config#asyncClose()} is enabled,
+   *                         or null if browsers should always be closed synchronously
+   */
+  CloseDriverCommand(@Nullable DriverPool driverPool, @Nullable BackgroundCloser backgroundCloser) {
+    this.driverPool = driverPool;
+    this.backgroundCloser = backgroundCloser;
+  }
 
   public void close(Config config, @Nullable WebDriver webDriver, @Nullable SelenideProxyServer selenideProxyServer) {
     long threadId = Thread.currentThread().getId();
+    if (webDriver != null) {
+      RoundTripCounter.instance.closed(webDriver);
+    }
     if (config.holdBrowserOpen()) {
       log.info("Hold browser and proxy open: {} -> {}, {}", threadId, webDriver, selenideProxyServer);
       return;
     }
 
+    if (webDriver != null && driverPool != null && driverPool.checkin(config, webDriver)) {
+      return;
+    }
+
+    if (config.asyncClose() && backgroundCloser != null && (webDriver != null || selenideProxyServer != null)) {
+      log.info("Close webdriver and proxy server in background: {} -> {}, {} ({})",
+        threadId, webDriver, selenideProxyServer, backgroundCloser);
+      backgroundCloser.close(webDriver != null ? webDriver : selenideProxyServer,
+        () -> close(threadId, webDriver, selenideProxyServer));
+      return;
+    }
+
+    close(threadId, webDriver, selenideProxyServer);
+  }
+
+  private void close(long threadId, @Nullable WebDriver webDriver, @Nullable SelenideProxyServer selenideProxyServer) {
     if (webDriver != null) {
       long start = currentTimeMillis();
       log.info("Close webdriver: {} -> {}...", threadId, webDriver);
       close(webDriver);
+      ShutdownRegistry.instance.deregister(webDriver);
       log.info("Closed webdriver {} in {} ms", threadId, currentTimeMillis() - start);
     }
 
@@ -42,6 +88,7 @@ public class CloseDriverCommand {
 
   private void close(WebDriver webdriver) {
     try {
+      CdpSession.closeSessionOf(webdriver);
       webdriver.quit();
     }
     catch (UnreachableBrowserException e) {
@@ -3,12 +3,14 @@ package com.codeborne.selenide.drivercommands;
 import com.codeborne.selenide.BrowserDownloadsFolder;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.impl.BrowserCookiesCache;
 import com.codeborne.selenide.impl.FileNamer;
+import com.codeborne.selenide.impl.RoundTripCounter;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
+import com.codeborne.selenide.proxy.SetCookieWatchdog;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.internal.ShutdownHooks;
 import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.openqa.selenium.support.events.EventFiringWebDriver;
 import org.openqa.selenium.support.events.WebDriverEventListener;
@@ -20,23 +22,44 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import static com.codeborne.selenide.impl.FileHelper.deleteFolderIfEmpty;
 import static com.codeborne.selenide.impl.FileHelper.ensureFolderExists;
+import static java.lang.System.currentTimeMillis;
 import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 
 @ParametersAreNonnullByDefault
 public class CreateDriverCommand {
   private static final Logger log = LoggerFactory.getLogger(CreateDriverCommand.class);
   private final FileNamer fileNamer;
+  private final DriverPool driverPool;
+  private final BrowserPrewarmer prewarmer;
+  private final RoundTripCounter roundTripCounter;
+  private final ShutdownRegistry shutdownRegistry = ShutdownRegistry.instance;
 
   public CreateDriverCommand() {
     this(new FileNamer());
   }
 
   CreateDriverCommand(FileNamer fileNamer) {
+    this(fileNamer, DriverPool.instance, BrowserPrewarmer.instance);
+  }
+
+  CreateDriverCommand(FileNamer fileNamer, DriverPool driverPool, BrowserPrewarmer prewarmer) {
+    this(fileNamer, driverPool, prewarmer, RoundTripCounter.instance);
+  }
+
+  CreateDriverCommand(FileNamer fileNamer, DriverPool driverPool, BrowserPrewarmer prewarmer, RoundTripCounter roundTripCounter) {
     this.fileNamer = fileNamer;
+    this.driverPool = driverPool;
+    this.prewarmer = prewarmer;
+    this.roundTripCounter = roundTripCounter;
   }
 
   @Nonnull
@@ -50,50 +73,155 @@ public class CreateDriverCommand {
         ", and cannot create a new webdriver because reopenBrowserOnFail=false");
     }
 
-    SelenideProxyServer selenideProxyServer = null;
+    long start = currentTimeMillis();
+    Map<String, Long> timings = new LinkedHashMap<>();
+    DriverPool.Session session = obtainBrowser(config, factory, userProvidedProxy, timings);
 
-    Proxy browserProxy = userProvidedProxy;
+    long listenersStart = currentTimeMillis();
+    WebDriver webDriver = addListeners(config, session, eventListeners, listeners);
+    if (session.cookiesCache != null) {
+      session.cookiesCache.register(webDriver);
+    }
+    if (session.healthCache != null) {
+      session.healthCache.register(webDriver);
+    }
+    shutdownRegistry.decorated(webDriver, session.webDriver);
+    roundTripCounter.opened(webDriver, countRoundTrips(config));
+    if (config.driverPoolSize() > 0) {
+      driverPool.checkedOut(webDriver, session);
+    }
+    timings.put("listeners", currentTimeMillis() - listenersStart);
+    timings.put("total", currentTimeMillis() - start);
+    log.info("Browser startup timings (ms): {}", timings);
+    return new Result(webDriver, session.selenideProxyServer, session.browserDownloadsFolder, timings);
+  }
 
-    if (config.proxyEnabled()) {
-      try {
-        selenideProxyServer = new SelenideProxyServer(config, userProvidedProxy);
-        selenideProxyServer.start();
-        browserProxy = selenideProxyServer.createSeleniumProxy();
-      }
-      catch (NoClassDefFoundError e) {
-        throw new IllegalStateException("Cannot initialize proxy. " +
-          "Probably you should add BrowserUpProxy dependency to your project " +
-          "- see https://search.maven.org/search?q=a:browserup-proxy-core", e);
-      }
+  /**
+   * Starts creating a browser in background, so that the next {@link #createDriver} call could adopt it.
+   * Called by the owner of a browser when the next browser is likely to be needed soon,
+   * e.g. when the current browser has been closed, or before a test.
+   *
+   * @see Config#prewarmBrowser()
+   * @since 6.1.0
+   */
+  public void prewarm(Config config, WebDriverFactory factory, @Nullable Proxy userProvidedProxy) {
+    prewarmer.prewarm(config, DriverPool.key(config, userProvidedProxy),
+      () -> startBrowser(config, factory, userProvidedProxy, new LinkedHashMap<>()));
+  }
+
+  /**
+   * Closes the pre-warmed browser (if any) and stops pre-warming browsers,
+   * e.g. when the caller knows that no more browsers are needed.
+   *
+   * @see Config#prewarmBrowser()
+   * @since 6.1.0
+   */
+  public void stopPrewarming() {
+    prewarmer.stop();
+  }
+
+  @Nonnull
+  private DriverPool.Session obtainBrowser(Config config, WebDriverFactory factory, @Nullable Proxy userProvidedProxy,
+                                           Map<String, Long> timings) {
+    long start = currentTimeMillis();
+    DriverPool.Session session = config.driverPoolSize() > 0 ? driverPool.checkout(config, userProvidedProxy) : null;
+    if (session != null) {
+      timings.put("pool", currentTimeMillis() - start);
+      return session;
     }
+    if (config.prewarmBrowser()) {
+      session = prewarmer.adopt(config, DriverPool.key(config, userProvidedProxy));
+      timings.put("prewarmed", currentTimeMillis() - start);
+    }
+    return session != null ? session : startBrowser(config, factory, userProvidedProxy, timings);
+  }
+
+  /**
+   * Selenide proxy is started in background while the browser is being created.
+   * Browser is configured with proxy address before the proxy is started: its port is kept reserved
+   * until the proxy starts (see {@link ProxyStartup}).
+   */
+  @Nonnull
+  private DriverPool.Session startBrowser(Config config, WebDriverFactory factory, @Nullable Proxy userProvidedProxy,
+                                          Map<String, Long> timings) {
+    ProxyStartup proxyStartup = config.proxyEnabled() ? ProxyStartup.start(config, userProvidedProxy) : null;
+    Proxy browserProxy = proxyStartup != null ? proxyStartup.seleniumProxy() : userProvidedProxy;
 
     @Nullable File browserDownloadsFolder = config.remote() != null ? null :
       ensureFolderExists(new File(config.downloadsFolder(), fileNamer.generateFileName()).getAbsoluteFile());
 
-    WebDriver webdriver = factory.createWebDriver(config, browserProxy, browserDownloadsFolder);
+    long start = currentTimeMillis();
+    WebDriver webdriver = createWebDriver(config, factory, browserProxy, browserDownloadsFolder, proxyStartup);
+    timings.put("browser", currentTimeMillis() - start);
 
     log.info("Create webdriver in current thread {}: {} -> {}",
       currentThread().getId(), webdriver.getClass().getSimpleName(), webdriver);
 
-    WebDriver webDriver = addListeners(webdriver, eventListeners, listeners);
-    ShutdownHooks.add(
-      new Thread(new SelenideDriverFinalCleanupThread(config, webDriver, selenideProxyServer))
-    );
-    if (browserDownloadsFolder != null) {
-      Runtime.getRuntime().addShutdownHook(
-        new Thread(() -> deleteFolderIfEmpty(browserDownloadsFolder))
-      );
+    SelenideProxyServer selenideProxyServer = null;
+    if (proxyStartup != null) {
+      selenideProxyServer = awaitProxy(config, proxyStartup, webdriver, timings);
     }
-    return new Result(webDriver, selenideProxyServer, BrowserDownloadsFolder.from(browserDownloadsFolder));
+
+    BrowserCookiesCache cookiesCache = cookiesCache(config, selenideProxyServer);
+    BrowserHealthCache healthCache = config.browserHealthCheckTtl() > 0 ? new BrowserHealthCache(config.browserHealthCheckTtl()) : null;
+    shutdownRegistry.register(config, webdriver, selenideProxyServer, browserDownloadsFolder);
+    List<Object> poolKey = config.driverPoolSize() > 0 ? DriverPool.key(config, userProvidedProxy) : emptyList();
+    return new DriverPool.Session(poolKey, webdriver, selenideProxyServer,
+      BrowserDownloadsFolder.from(browserDownloadsFolder), cookiesCache, healthCache);
   }
 
+  @Nullable
+  private BrowserCookiesCache cookiesCache(Config config, @Nullable SelenideProxyServer selenideProxyServer) {
+    // without proxy, cookies set by server could not be noticed
+    if (!config.cacheBrowserCookies() || selenideProxyServer == null) {
+      return null;
+    }
+    BrowserCookiesCache cookiesCache = new BrowserCookiesCache();
+    selenideProxyServer.addResponseFilter("setCookieWatchdog", new SetCookieWatchdog(cookiesCache::invalidate));
+    return cookiesCache;
+  }
+
+  @Nonnull
+  private WebDriver createWebDriver(Config config, WebDriverFactory factory, @Nullable Proxy browserProxy,
+                                    @Nullable File browserDownloadsFolder, @Nullable ProxyStartup proxyStartup) {
+    try {
+      return factory.createWebDriver(config, browserProxy, browserDownloadsFolder);
+    }
+    catch (RuntimeException | Error e) {
+      if (proxyStartup != null) {
+        proxyStartup.abort();
+      }
+      throw e;
+    }
+  }
+
+  @Nonnull
+  private SelenideProxyServer awaitProxy(Config config, ProxyStartup proxyStartup, WebDriver webdriver, Map<String, Long> timings) {
+    long start = currentTimeMillis();
+    try {
+      timings.put("proxy", proxyStartup.await());
+      timings.put("proxy wait", currentTimeMillis() - start);
+      return proxyStartup.selenideProxyServer();
+    }
+    catch (RuntimeException e) {
+      new CloseDriverCommand(null).close(config, webdriver, null);
+      throw e;
+    }
+  }
+
+  /**
+   * All listeners (Selenide own and user listeners) are added by a single decorator every time a browser is handed out,
+   * and the (deprecated) event listeners wrap it from outside, so that the original browser can be unwrapped
+   * through {@link org.openqa.selenium.WrapsDriver} (a decorator cannot be unwrapped if it decorates another decorator).
+   */
   @Nonnull
-  private WebDriver addListeners(WebDriver webdriver,
+  private WebDriver addListeners(Config config,
+                                 DriverPool.Session session,
                                  List<WebDriverEventListener> eventListeners,
                                  List<WebDriverListener> listeners) {
-    return addWebDriverListeners(
-      addEventListeners(webdriver, eventListeners),
-      listeners
+    return addEventListeners(
+      addWebDriverListeners(session.webDriver, allListeners(config, session, listeners)),
+      eventListeners
     );
   }
 
@@ -110,6 +238,29 @@ public class CreateDriverCommand {
     return wrapper;
   }
 
+  /**
+   * {@link RoundTripCounter} goes first, so that it counts every command sent by Selenide or test exactly once.
+   */
+  @Nonnull
+  private List<WebDriverListener> allListeners(Config config, DriverPool.Session session, List<WebDriverListener> listeners) {
+    List<WebDriverListener> result = new ArrayList<>(listeners.size() + 3);
+    if (countRoundTrips(config)) {
+      result.add(roundTripCounter);
+    }
+    if (session.cookiesCache != null) {
+      result.add(session.cookiesCache);
+    }
+    if (session.healthCache != null) {
+      result.add(session.healthCache);
+    }
+    result.addAll(listeners);
+    return result;
+  }
+
+  private boolean countRoundTrips(Config config) {
+    return config.countRoundTrips() || roundTripCounter.isRequested();
+  }
+
   @Nonnull
   private WebDriver addWebDriverListeners(WebDriver webdriver, List<WebDriverListener> listeners) {
     if (listeners.isEmpty()) {
@@ -128,13 +279,30 @@ public class CreateDriverCommand {
     public final SelenideProxyServer selenideProxyServer;
     @Nullable
     public final DownloadsFolder browserDownloadsFolder;
+    /**
+     * Duration of browser startup phases in milliseconds: "browser", "proxy", "listeners", "total" etc.
+     *
+     * @since 6.1.0
+     */
+    public final Map<String, Long> timings;
 
     public Result(WebDriver webDriver,
                   @Nullable SelenideProxyServer selenideProxyServer,
                   @Nullable DownloadsFolder browserDownloadsFolder) {
+      this(webDriver, selenideProxyServer, browserDownloadsFolder, emptyMap());
+    }
+
+    /**
+     * @since 6.1.0
+     */
+    public Result(WebDriver webDriver,
+                  @Nullable SelenideProxyServer selenideProxyServer,
+                  @Nullable DownloadsFolder browserDownloadsFolder,
+                  Map<String, Long> timings) {
       this.webDriver = webDriver;
       this.selenideProxyServer = selenideProxyServer;
       this.browserDownloadsFolder = browserDownloadsFolder;
+      this.timings = unmodifiableMap(new LinkedHashMap<>(timings));
     }
   }
 }
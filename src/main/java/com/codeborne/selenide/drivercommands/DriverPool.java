@@ -0,0 +1,290 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.impl.BrowserCookiesCache;
+import com.codeborne.selenide.proxy.AuthenticationFilter;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import com.codeborne.selenide.webdriver.CdpSession;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+
+/**
+ * Keeps closed browsers (together with their proxy servers and downloads folders) for reuse,
+ * so that the next test doesn't need to wait for a browser cold start.
+ * <p>
+ * A browser is returned to the pool by {@link CloseDriverCommand} after resetting its state
+ * (see {@link Config#driverPoolSize()}) and taken from the pool by {@link CreateDriverCommand}
+ * after checking that it's still alive. Browsers are reused only for the same browser settings.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class DriverPool {
+  private static final Logger log = LoggerFactory.getLogger(DriverPool.class);
+  static final DriverPool instance = new DriverPool();
+
+  private final BrowserHealthChecker browserHealthChecker;
+  private final CloseDriverCommand closeDriverCommand;
+  private final Function<WebDriver, Optional<CdpSession>> devTools;
+  private final Map<List<Object>, Deque<Session>> idle = new HashMap<>();
+  private final Map<WebDriver, Session> inUse = new IdentityHashMap<>();
+  private int idleCount;
+
+  DriverPool() {
+    this(new BrowserHealthChecker(), new CloseDriverCommand(null));
+  }
+
+  DriverPool(BrowserHealthChecker browserHealthChecker, CloseDriverCommand closeDriverCommand) {
+    this(browserHealthChecker, closeDriverCommand, CdpSession::of);
+  }
+
+  DriverPool(BrowserHealthChecker browserHealthChecker, CloseDriverCommand closeDriverCommand,
+             Function<WebDriver, Optional<CdpSession>> devTools) {
+    this.browserHealthChecker = browserHealthChecker;
+    this.closeDriverCommand = closeDriverCommand;
+    this.devTools = devTools;
+  }
+
+  /**
+   * @return an idle live browser with the same settings, or null if there is no such browser in the pool
+   */
+  @CheckReturnValue
+  @Nullable
+  Session checkout(Config config, @Nullable Proxy userProvidedProxy) {
+    List<Object> key = key(config, userProvidedProxy);
+    for (Session session = poll(key); session != null; session = poll(key)) {
+      if (browserHealthChecker.isBrowserStillOpen(session.webDriver)) {
+        log.info("Reuse browser from pool: {}", session.webDriver);
+        return session;
+      }
+      log.info("Discard dead browser from pool: {}", session.webDriver);
+      closeDriverCommand.close(config, session.webDriver, session.selenideProxyServer);
+    }
+    return null;
+  }
+
+  @Nullable
+  private synchronized Session poll(List<Object> key) {
+    Deque<Session> sessions = idle.get(key);
+    Session session = sessions == null ? null : sessions.pollFirst();
+    if (session != null) {
+      idleCount--;
+    }
+    return session;
+  }
+
+  /**
+   * Remembers which session the given webdriver (possibly wrapped with listeners) belongs to,
+   * so that it could be returned to the pool when closed.
+   */
+  synchronized void checkedOut(WebDriver webDriver, Session session) {
+    inUse.put(webDriver, session);
+  }
+
+  /**
+   * Resets the browser and puts it to the pool.
+   *
+   * @return false if the browser cannot be reused and should be closed (the pool is full, the browser is broken etc.)
+   */
+  boolean checkin(Config config, WebDriver webDriver) {
+    Session session = release(webDriver);
+    if (session == null || config.driverPoolSize() <= 0 || !session.hasOriginalProxyFilters() || !reset(session)) {
+      return false;
+    }
+    return offer(session, config.driverPoolSize());
+  }
+
+  @Nullable
+  private synchronized Session release(WebDriver webDriver) {
+    return inUse.remove(webDriver);
+  }
+
+  private synchronized boolean offer(Session session, int maxSize) {
+    if (idleCount >= maxSize) {
+      log.info("Driver pool is full ({} browsers), close browser {}", idleCount, session.webDriver);
+      return false;
+    }
+    idle.computeIfAbsent(session.key, k -> new ArrayDeque<>()).addLast(session);
+    idleCount++;
+    log.info("Returned browser to pool: {} (idle browsers: {})", session.webDriver, idleCount);
+    return true;
+  }
+
+  private boolean reset(Session session) {
+    WebDriver webDriver = session.webDriver;
+    try {
+      CdpSession cdp = devTools(webDriver);
+      Set<String> origins = new LinkedHashSet<>();
+      closeExtraWindows(webDriver, cdp == null ? null : origins);
+      if (cdp != null) {
+        addOrigin(origins, webDriver.getCurrentUrl());
+        clearBrowserData(cdp, origins);
+      }
+      else {
+        webDriver.manage().deleteAllCookies();
+      }
+      if (webDriver instanceof JavascriptExecutor) {
+        ((JavascriptExecutor) webDriver).executeScript(
+          "try {window.localStorage.clear(); window.sessionStorage.clear();} catch (e) {}"
+        );
+      }
+      webDriver.navigate().to("about:blank");
+    }
+    catch (WebDriverException e) {
+      log.warn("Failed to reset browser {}, it will be closed: {}", webDriver, e.toString());
+      return false;
+    }
+
+    if (session.selenideProxyServer != null) {
+      AuthenticationFilter authentication = session.selenideProxyServer.requestFilter("authentication");
+      if (authentication != null) {
+        authentication.removeAuthentication();
+      }
+    }
+    if (session.browserDownloadsFolder != null) {
+      session.browserDownloadsFolder.cleanupBeforeDownload();
+    }
+    if (session.cookiesCache != null) {
+      session.cookiesCache.invalidate();
+    }
+    return true;
+  }
+
+  /**
+   * @return DevTools session of a Chromium-based browser, or null for other browsers
+   * (which can clear cookies and storage of the current page only)
+   */
+  @CheckReturnValue
+  @Nullable
+  private CdpSession devTools(WebDriver webDriver) {
+    try {
+      return devTools.apply(webDriver).orElse(null);
+    }
+    catch (RuntimeException e) {
+      log.warn("Cannot connect to DevTools of {}, will clear cookies of current page only: {}", webDriver, e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * Deletes cookies of all domains, and storage (local storage, IndexedDB, cache storage etc.) of the pages opened in browser
+   */
+  private void clearBrowserData(CdpSession cdp, Set<String> origins) {
+    cdp.send("Network.clearBrowserCookies", emptyMap());
+    for (String origin : origins) {
+      Map<String, Object> params = new HashMap<>(2);
+      params.put("origin", origin);
+      params.put("storageTypes", "all");
+      cdp.send("Storage.clearDataForOrigin", params);
+    }
+  }
+
+  private void closeExtraWindows(WebDriver webDriver, @Nullable Set<String> origins) {
+    List<String> windows = new ArrayList<>(webDriver.getWindowHandles());
+    if (windows.size() > 1) {
+      for (String window : windows.subList(1, windows.size())) {
+        WebDriver popup = webDriver.switchTo().window(window);
+        if (origins != null) {
+          addOrigin(origins, popup.getCurrentUrl());
+        }
+        popup.close();
+      }
+      webDriver.switchTo().window(windows.get(0));
+    }
+  }
+
+  private static void addOrigin(Set<String> origins, @Nullable String url) {
+    if (url != null && (url.startsWith("http://") || url.startsWith("https://"))) {
+      try {
+        URL parsed = new URL(url);
+        origins.add(parsed.getProtocol() + "://" + parsed.getHost() + (parsed.getPort() == -1 ? "" : ":" + parsed.getPort()));
+      }
+      catch (MalformedURLException e) {
+        log.debug("Cannot clear storage of {}", url, e);
+      }
+    }
+  }
+
+  /**
+   * Browsers are interchangeable only if they were created with the same settings.
+   */
+  @CheckReturnValue
+  @Nonnull
+  static List<Object> key(Config config, @Nullable Proxy userProvidedProxy) {
+    return asList(config.browser(), config.headless(), config.remote(), config.browserBinary(), config.browserVersion(),
+      config.browserSize(), config.browserPosition(), config.pageLoadStrategy(), config.pageLoadTimeout(),
+      config.browserCapabilities().asMap(), config.proxyEnabled(), config.proxyHost(), config.proxyPort(),
+      config.downloadsFolder(), config.cacheBrowserCookies(), userProvidedProxy == null ? null : userProvidedProxy.toJson());
+  }
+
+  /**
+   * A started browser with its proxy server and downloads folder
+   */
+  @ParametersAreNonnullByDefault
+  static class Session {
+    final List<Object> key;
+    final WebDriver webDriver;
+    @Nullable
+    final SelenideProxyServer selenideProxyServer;
+    @Nullable
+    final DownloadsFolder browserDownloadsFolder;
+    @Nullable
+    final BrowserCookiesCache cookiesCache;
+    @Nullable
+    final BrowserHealthCache healthCache;
+    private final Set<String> proxyFilters;
+
+    Session(List<Object> key, WebDriver webDriver, @Nullable SelenideProxyServer selenideProxyServer,
+            @Nullable DownloadsFolder browserDownloadsFolder, @Nullable BrowserCookiesCache cookiesCache,
+            @Nullable BrowserHealthCache healthCache) {
+      this.key = key;
+      this.webDriver = webDriver;
+      this.selenideProxyServer = selenideProxyServer;
+      this.browserDownloadsFolder = browserDownloadsFolder;
+      this.cookiesCache = cookiesCache;
+      this.healthCache = healthCache;
+      this.proxyFilters = proxyFilters();
+    }
+
+    /**
+     * Custom proxy filters added by a test cannot be removed, so such a proxy cannot be reused.
+     */
+    @CheckReturnValue
+    boolean hasOriginalProxyFilters() {
+      return proxyFilters.equals(proxyFilters());
+    }
+
+    @Nonnull
+    private Set<String> proxyFilters() {
+      return selenideProxyServer == null ? emptySet() : selenideProxyServer.filterNames();
+    }
+  }
+}
@@ -135,12 +135,19 @@ public class LazyDriver implements Driver {
     this.closed = false;
   }
 
+  /**
+   * If {@link Config#prewarmBrowser()} is enabled, closing the browser starts creating the next one in background
+   */
   @Override
   public void close() {
+    boolean wasOpen = webDriver != null;
     closeDriverCommand.close(config, webDriver, selenideProxyServer);
     webDriver = null;
     selenideProxyServer = null;
     browserDownloadsFolder = null;
     closed = true;
+    if (wasOpen && config.prewarmBrowser()) {
+      createDriverCommand.prewarm(config, factory, userProvidedProxy);
+    }
   }
 }
@@ -0,0 +1,161 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.DaemonThreadFactory;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.Proxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+
+/**
+ * Starts Selenide proxy server in background while the browser is being created.
+ * <p>
+ * The browser is configured with the proxy address before the proxy server is started, so a free port is chosen
+ * in advance (unless it's configured explicitly by {@link Config#proxyPort()}) and kept bound by a placeholder socket.
+ * The placeholder is closed right before the proxy server binds the port, so that other processes cannot take the port
+ * while the browser is being created.
+ * </p>
+ */
+@ParametersAreNonnullByDefault
+class ProxyStartup {
+  private static final Logger log = LoggerFactory.getLogger(ProxyStartup.class);
+  private static final ExecutorService executor = newCachedThreadPool(new DaemonThreadFactory("Selenide proxy startup"));
+
+  private final SelenideProxyServer selenideProxyServer;
+  private final Proxy seleniumProxy;
+  private final Future<Long> startup;
+
+  ProxyStartup(SelenideProxyServer selenideProxyServer, int port) {
+    this(selenideProxyServer, port, null);
+  }
+
+  /**
+   * @param reservedPort placeholder socket bound to {@code port}, or null if the port is configured explicitly
+   */
+  ProxyStartup(SelenideProxyServer selenideProxyServer, int port, @Nullable ServerSocket reservedPort) {
+    this.selenideProxyServer = selenideProxyServer;
+    this.seleniumProxy = selenideProxyServer.createSeleniumProxy(port);
+    this.startup = executor.submit(() -> {
+      long start = currentTimeMillis();
+      release(reservedPort);
+      selenideProxyServer.start(port);
+      return currentTimeMillis() - start;
+    });
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  static ProxyStartup start(Config config, @Nullable Proxy userProvidedProxy) {
+    try {
+      SelenideProxyServer selenideProxyServer = new SelenideProxyServer(config, userProvidedProxy);
+      if (config.proxyPort() != 0) {
+        return new ProxyStartup(selenideProxyServer, config.proxyPort());
+      }
+      ServerSocket reservedPort = reservePort();
+      return new ProxyStartup(selenideProxyServer, reservedPort.getLocalPort(), reservedPort);
+    }
+    catch (NoClassDefFoundError e) {
+      throw proxyDependencyMissing(e);
+    }
+  }
+
+  /**
+   * @return socket bound to a free port (should be closed right before the proxy server starts)
+   */
+  @CheckReturnValue
+  @Nonnull
+  static ServerSocket reservePort() {
+    try {
+      ServerSocket socket = new ServerSocket();
+      socket.setReuseAddress(true);
+      socket.bind(new InetSocketAddress(0));
+      return socket;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Failed to find a free port for proxy server", e);
+    }
+  }
+
+  private static void release(@Nullable ServerSocket reservedPort) {
+    if (reservedPort != null) {
+      try {
+        reservedPort.close();
+      }
+      catch (IOException e) {
+        log.warn("Failed to release port {} for proxy server: {}", reservedPort.getLocalPort(), e.toString());
+      }
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  Proxy seleniumProxy() {
+    return seleniumProxy;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  SelenideProxyServer selenideProxyServer() {
+    return selenideProxyServer;
+  }
+
+  /**
+   * Waits until the proxy server is started
+   *
+   * @return time spent on starting the proxy server (in milliseconds)
+   */
+  long await() {
+    try {
+      return startup.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abort();
+      throw new IllegalStateException("Interrupted while starting proxy server", e);
+    }
+    catch (ExecutionException e) {
+      if (e.getCause() instanceof NoClassDefFoundError) {
+        throw proxyDependencyMissing(e.getCause());
+      }
+      throw new IllegalStateException("Failed to start proxy server", e.getCause());
+    }
+  }
+
+  /**
+   * Stops the proxy server as soon as it's started (e.g. if the browser failed to start)
+   */
+  void abort() {
+    executor.submit(() -> {
+      try {
+        startup.get();
+      }
+      finally {
+        log.info("Shutdown proxy server which is not needed anymore: {}", selenideProxyServer);
+        selenideProxyServer.shutdown();
+      }
+      return null;
+    });
+  }
+
+  @Nonnull
+  private static IllegalStateException proxyDependencyMissing(Throwable e) {
+    return new IllegalStateException("Cannot initialize proxy. " +
+      "Probably you should add BrowserUpProxy dependency to your project " +
+      "- see https://search.maven.org/search?q=a:browserup-proxy-core", e);
+  }
+}
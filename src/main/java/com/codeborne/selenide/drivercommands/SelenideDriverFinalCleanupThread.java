@@ -7,7 +7,12 @@ import org.openqa.selenium.WebDriver;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+/**
+ * @deprecated Not used anymore: browsers which are still open at JVM exit are closed by one shutdown hook
+ * (see {@code ShutdownRegistry}).
+ */
 @ParametersAreNonnullByDefault
+@Deprecated
 public class SelenideDriverFinalCleanupThread implements Runnable {
   private final Config config;
   private final WebDriver driver;
@@ -15,7 +20,7 @@ public class SelenideDriverFinalCleanupThread implements Runnable {
   private final CloseDriverCommand closeDriverCommand;
 
   SelenideDriverFinalCleanupThread(Config config, WebDriver driver, @Nullable SelenideProxyServer proxy) {
-    this(config, driver, proxy, new CloseDriverCommand());
+    this(config, driver, proxy, new CloseDriverCommand(null));
   }
 
   SelenideDriverFinalCleanupThread(Config config, WebDriver driver, @Nullable SelenideProxyServer proxy,
@@ -0,0 +1,167 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.DaemonThreadFactory;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.impl.FileHelper.deleteFolderIfEmpty;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Closes all browsers (and their proxy servers) which are still open when JVM exits.
+ * <p>
+ * Every browser is registered once when started and deregistered when closed, so that closed browsers
+ * don't stay reachable until JVM exit. Empty downloads folder of a browser is deleted when the browser is closed.
+ * At JVM exit, browsers being closed in background (see {@link BackgroundCloser})
+ * are awaited, and then the remaining browsers are closed in parallel
+ * (by at most {@link #MAX_PARALLEL_CLOSERS} threads), but not longer than {@link #SHUTDOWN_TIMEOUT} in total.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+class ShutdownRegistry {
+  private static final Logger log = LoggerFactory.getLogger(ShutdownRegistry.class);
+  static final ShutdownRegistry instance = new ShutdownRegistry();
+  static final long SHUTDOWN_TIMEOUT = 30_000;
+  private static final int MAX_PARALLEL_CLOSERS = 8;
+
+  private final CloseDriverCommand closeDriverCommand;
+  private final BackgroundCloser backgroundCloser;
+  private final BrowserPrewarmer prewarmer;
+  private final Map<WebDriver, Browser> browsers = new IdentityHashMap<>();
+  private final Map<WebDriver, WebDriver> decoratedBrowsers = new WeakHashMap<>();
+  private boolean hookAdded;
+
+  ShutdownRegistry() {
+    this(new CloseDriverCommand(null), BackgroundCloser.instance, BrowserPrewarmer.instance);
+  }
+
+  ShutdownRegistry(CloseDriverCommand closeDriverCommand, BackgroundCloser backgroundCloser, BrowserPrewarmer prewarmer) {
+    this.closeDriverCommand = closeDriverCommand;
+    this.backgroundCloser = backgroundCloser;
+    this.prewarmer = prewarmer;
+  }
+
+  /**
+   * Close given browser and proxy at JVM exit (unless {@link #deregister(WebDriver)} is called before).
+   * The downloads folder is deleted (if it's empty) when the browser is deregistered or closed at JVM exit.
+   */
+  synchronized void register(Config config, WebDriver webDriver, @Nullable SelenideProxyServer selenideProxyServer,
+                             @Nullable File browserDownloadsFolder) {
+    if (!hookAdded) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::closeAll, "Selenide shutdown"));
+      hookAdded = true;
+    }
+    browsers.put(webDriver, new Browser(config, webDriver, selenideProxyServer, browserDownloadsFolder));
+  }
+
+  /**
+   * Remember that {@code decorated} (e.g. with user listeners) is the same browser as the registered {@code webDriver},
+   * so that {@link #deregister(WebDriver)} could be called with any of them.
+   */
+  synchronized void decorated(WebDriver decorated, WebDriver webDriver) {
+    if (decorated != webDriver) {
+      decoratedBrowsers.put(decorated, webDriver);
+    }
+  }
+
+  /**
+   * The browser has been closed, so it doesn't need to be closed at JVM exit (and its empty downloads folder is deleted)
+   */
+  void deregister(WebDriver webDriver) {
+    Browser browser;
+    synchronized (this) {
+      WebDriver original = decoratedBrowsers.remove(webDriver);
+      browser = browsers.remove(original != null ? original : webDriver);
+    }
+    if (browser != null && browser.downloadsFolder != null) {
+      deleteFolderIfEmpty(browser.downloadsFolder);
+    }
+  }
+
+  @CheckReturnValue
+  synchronized int size() {
+    return browsers.size();
+  }
+
+  void closeAll() {
+    long deadline = currentTimeMillis() + SHUTDOWN_TIMEOUT;
+    prewarmer.stop();
+    if (!backgroundCloser.drain(SHUTDOWN_TIMEOUT)) {
+      log.warn("Browsers are still being closed in background: {}", backgroundCloser);
+    }
+
+    List<Browser> remaining;
+    synchronized (this) {
+      remaining = new ArrayList<>(browsers.values());
+      browsers.clear();
+      decoratedBrowsers.clear();
+    }
+
+    if (!remaining.isEmpty()) {
+      closeInParallel(remaining, deadline);
+    }
+    for (Browser browser : remaining) {
+      if (browser.downloadsFolder != null) {
+        deleteFolderIfEmpty(browser.downloadsFolder);
+      }
+    }
+  }
+
+  private void closeInParallel(List<Browser> remaining, long deadline) {
+    long start = currentTimeMillis();
+    log.info("Close {} remaining browser(s) at JVM exit", remaining.size());
+    ExecutorService executor = newFixedThreadPool(Math.min(remaining.size(), MAX_PARALLEL_CLOSERS),
+      new DaemonThreadFactory("Selenide shutdown"));
+    for (Browser browser : remaining) {
+      executor.execute(() -> closeDriverCommand.close(browser.config, browser.webDriver, browser.selenideProxyServer));
+    }
+    executor.shutdown();
+    try {
+      if (executor.awaitTermination(Math.max(0, deadline - currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+        log.info("Closed {} browser(s) in {} ms", remaining.size(), currentTimeMillis() - start);
+      }
+      else {
+        log.warn("Failed to close all browsers in {} ms, giving up", SHUTDOWN_TIMEOUT);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class Browser {
+    private final Config config;
+    private final WebDriver webDriver;
+    @Nullable
+    private final SelenideProxyServer selenideProxyServer;
+    @Nullable
+    private final File downloadsFolder;
+
+    private Browser(Config config, WebDriver webDriver, @Nullable SelenideProxyServer selenideProxyServer,
+                    @Nullable File downloadsFolder) {
+      this.config = config;
+      this.webDriver = webDriver;
+      this.selenideProxyServer = selenideProxyServer;
+      this.downloadsFolder = downloadsFolder;
+    }
+  }
+}
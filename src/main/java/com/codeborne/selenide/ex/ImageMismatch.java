@@ -0,0 +1,55 @@
+package com.codeborne.selenide.ex;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.impl.ImageDiff;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+/**
+ * Element screenshot doesn't look like the baseline image.
+ * <p>
+ * The diff image is saved to reports folder only when the error message is requested
+ * (i.e. not for every failed attempt while waiting).
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class ImageMismatch extends UIAssertionError {
+  private final transient Driver driver;
+  private final transient ImageDiff diff;
+  @Nullable
+  private String diffDetails;
+
+  public ImageMismatch(Driver driver, String elementDescription, File baseline, ImageDiff diff) {
+    super(String.format("Element should look like %s {%s}", baseline.getPath(), elementDescription));
+    this.driver = driver;
+    this.diff = diff;
+  }
+
+  @CheckReturnValue
+  public ImageDiff getDiff() {
+    return diff;
+  }
+
+  @CheckReturnValue
+  @Override
+  protected String uiDetails() {
+    return diffDetails() + super.uiDetails();
+  }
+
+  @CheckReturnValue
+  private synchronized String diffDetails() {
+    if (diffDetails == null) {
+      BufferedImage diffImage = diff.diffImage();
+      File diffFile = diffImage == null ? null : ScreenShotLaboratory.getInstance().saveImage(driver, diffImage);
+      diffDetails = String.format("%n%s", diff) + (diffFile == null ? "" : String.format("%nDiff: %s", diffFile.getAbsolutePath()));
+    }
+    return diffDetails;
+  }
+}
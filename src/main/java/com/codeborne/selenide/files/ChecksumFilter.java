@@ -0,0 +1,31 @@
+package com.codeborne.selenide.files;
+
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+class ChecksumFilter implements FileFilter {
+  private final String algorithm;
+  private final String checksum;
+
+  ChecksumFilter(String algorithm, String checksum) {
+    this.algorithm = algorithm;
+    this.checksum = checksum;
+  }
+
+  @Override public boolean match(DownloadedFile file) {
+    return file.getChecksum(algorithm).equalsIgnoreCase(checksum);
+  }
+
+  @Override public String description() {
+    return "with " + algorithm + " \"" + checksum + "\"";
+  }
+
+  @Override public Set<String> checksums() {
+    return singleton(algorithm);
+  }
+
+  @Override public String toString() {
+    return description();
+  }
+}
@@ -1,24 +1,52 @@
 package com.codeborne.selenide.files;
 
+import com.codeborne.selenide.impl.DigestingOutputStream;
+
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.singleton;
+import static org.apache.commons.io.IOUtils.copyLarge;
+import static org.apache.commons.io.output.NullOutputStream.NULL_OUTPUT_STREAM;
 
 @ParametersAreNonnullByDefault
 public class DownloadedFile {
+  private static final long UNKNOWN_SIZE = -1;
+
   private final File file;
   private final Map<String, String> headers;
+  private final long size;
+  private final Map<String, String> checksums;
 
   /**
    * @param file the downloaded file
    * @param headers map of http headers. NB! Map keys (header names) are LOWER CASE!
    */
   public DownloadedFile(File file, Map<String, String> headers) {
+    this(file, headers, UNKNOWN_SIZE, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * @param file the downloaded file
+   * @param headers map of http headers. NB! Map keys (header names) are LOWER CASE!
+   * @param size number of bytes written to the file during download
+   * @param checksums checksums calculated during download: algorithm name (e.g. "SHA-256") -&gt; lower case hex string
+   * @since 6.1.0
+   */
+  public DownloadedFile(File file, Map<String, String> headers, long size, Map<String, String> checksums) {
     this.file = file;
     this.headers = headers;
+    this.size = size;
+    this.checksums = new ConcurrentHashMap<>(checksums);
   }
 
   @CheckReturnValue
@@ -36,4 +64,38 @@ public class DownloadedFile {
   public String getContentType() {
     return headers.get("content-type");
   }
+
+  /**
+   * @return number of bytes counted during download, or the current file size if it was not counted.
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  public long getSize() {
+    return size == UNKNOWN_SIZE ? file.length() : size;
+  }
+
+  /**
+   * @param algorithm any {@link java.security.MessageDigest} algorithm, e.g. "SHA-256" or "MD5"
+   * @return checksum as a lower case hex string.
+   * Calculated during download if the file filter has requested it (see {@link FileFilter#checksums()}),
+   * otherwise it's calculated (only once) by reading the file.
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public String getChecksum(String algorithm) {
+    return checksums.computeIfAbsent(algorithm, this::readChecksum);
+  }
+
+  @Nonnull
+  private String readChecksum(String algorithm) {
+    try (InputStream in = new FileInputStream(file);
+         DigestingOutputStream out = new DigestingOutputStream(NULL_OUTPUT_STREAM, singleton(algorithm))) {
+      copyLarge(in, out);
+      return out.checksums().get(algorithm);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Failed to calculate " + algorithm + " of " + file.getAbsolutePath(), e);
+    }
+  }
 }
@@ -1,6 +1,9 @@
 package com.codeborne.selenide.files;
 
 import java.io.Serializable;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
 
 public interface FileFilter extends Serializable {
   boolean match(DownloadedFile file);
@@ -9,4 +12,14 @@ public interface FileFilter extends Serializable {
   default boolean isEmpty() {
     return false;
   }
+
+  /**
+   * @return checksum algorithms (e.g. "SHA-256") this filter needs.
+   * Selenide calculates them while saving the downloaded file, so {@link DownloadedFile#getChecksum(String)}
+   * doesn't need to read the file again.
+   * @since 6.1.0
+   */
+  default Set<String> checksums() {
+    return emptySet();
+  }
 }
@@ -18,4 +18,34 @@ public class FileFilters {
   public static FileFilter withExtension(String extension) {
     return new ExtensionFilter(extension);
   }
+
+  /**
+   * @since 6.1.0
+   */
+  public static FileFilter withSize(long bytes) {
+    return new SizeFilter(bytes, bytes);
+  }
+
+  /**
+   * @since 6.1.0
+   */
+  public static FileFilter withSizeBetween(long minBytes, long maxBytes) {
+    return new SizeFilter(minBytes, maxBytes);
+  }
+
+  /**
+   * @param algorithm any {@link java.security.MessageDigest} algorithm, e.g. "SHA-1" or "MD5"
+   * @param checksum expected checksum as a hex string
+   * @since 6.1.0
+   */
+  public static FileFilter withChecksum(String algorithm, String checksum) {
+    return new ChecksumFilter(algorithm, checksum);
+  }
+
+  /**
+   * @since 6.1.0
+   */
+  public static FileFilter withSha256(String checksum) {
+    return new ChecksumFilter("SHA-256", checksum);
+  }
 }
@@ -0,0 +1,26 @@
+package com.codeborne.selenide.files;
+
+class SizeFilter implements FileFilter {
+  private final long minSize;
+  private final long maxSize;
+
+  SizeFilter(long minSize, long maxSize) {
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+  }
+
+  @Override public boolean match(DownloadedFile file) {
+    long size = file.getSize();
+    return size >= minSize && size <= maxSize;
+  }
+
+  @Override public String description() {
+    return minSize == maxSize ?
+      "with size " + minSize + " bytes" :
+      "with size between " + minSize + " and " + maxSize + " bytes";
+  }
+
+  @Override public String toString() {
+    return description();
+  }
+}
@@ -0,0 +1,199 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.hc.client5.http.cookie.BasicCookieStore;
+import org.apache.hc.client5.http.cookie.CookieStore;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.net.URL;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Caches browser cookies for downloading files via HTTP (see {@link DownloadFileWithHttpRequest}),
+ * so that every download doesn't need to ask the browser for cookies.
+ * <p>
+ * The cache is used only with Selenide proxy, which invalidates it on every "Set-Cookie" response
+ * and every loaded html page (see {@link com.codeborne.selenide.proxy.SetCookieWatchdog}).
+ * So clicks, typing and other actions don't invalidate the cache unless the server really changes cookies.
+ * Besides, the cache is invalidated by navigation and adding/deleting cookies via webdriver,
+ * and by scripts which access {@code document.cookie}.
+ * </p>
+ * <p>
+ * NB! Cookies changed by page's own javascript are not noticed.
+ * </p>
+ *
+ * @see com.codeborne.selenide.Config#cacheBrowserCookies()
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class BrowserCookiesCache implements WebDriverListener {
+  private static final Map<WebDriver, BrowserCookiesCache> caches = synchronizedMap(new WeakHashMap<>());
+
+  private final AtomicLong version = new AtomicLong();
+  @Nullable
+  private volatile Snapshot snapshot;
+
+  /**
+   * @param webDriver webdriver (already decorated with this listener) used by {@link com.codeborne.selenide.Driver}
+   */
+  public void register(WebDriver webDriver) {
+    caches.put(webDriver, this);
+  }
+
+  @CheckReturnValue
+  @Nullable
+  static BrowserCookiesCache of(WebDriver webDriver) {
+    return caches.get(webDriver);
+  }
+
+  /**
+   * @return cookie store for a single download.
+   * Cookies set by server during download don't get into the cache (the browser doesn't know about them either).
+   */
+  @CheckReturnValue
+  @Nonnull
+  CookieStore cookieStore(WebDriver webDriver) {
+    return new DownloadCookieStore(browserCookies(webDriver));
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private CookieStore browserCookies(WebDriver webDriver) {
+    long currentVersion = version.get();
+    Snapshot current = snapshot;
+    if (current != null && current.version == currentVersion) {
+      return current.cookieStore;
+    }
+    WebdriverCookieStore cookieStore = new WebdriverCookieStore(webDriver);
+    snapshot = new Snapshot(cookieStore, currentVersion);
+    return cookieStore;
+  }
+
+  public void invalidate() {
+    version.incrementAndGet();
+  }
+
+  @Override
+  public void afterGet(WebDriver driver, String url) {
+    invalidate();
+  }
+
+  @Override
+  public void afterTo(WebDriver.Navigation navigation, String url) {
+    invalidate();
+  }
+
+  @Override
+  public void afterTo(WebDriver.Navigation navigation, URL url) {
+    invalidate();
+  }
+
+  @Override
+  public void afterBack(WebDriver.Navigation navigation) {
+    invalidate();
+  }
+
+  @Override
+  public void afterForward(WebDriver.Navigation navigation) {
+    invalidate();
+  }
+
+  @Override
+  public void afterRefresh(WebDriver.Navigation navigation) {
+    invalidate();
+  }
+
+  @Override
+  public void afterAddCookie(WebDriver.Options options, Cookie cookie) {
+    invalidate();
+  }
+
+  @Override
+  public void afterDeleteCookieNamed(WebDriver.Options options, String name) {
+    invalidate();
+  }
+
+  @Override
+  public void afterDeleteCookie(WebDriver.Options options, Cookie cookie) {
+    invalidate();
+  }
+
+  @Override
+  public void afterDeleteAllCookies(WebDriver.Options options) {
+    invalidate();
+  }
+
+  @Override
+  public void afterExecuteScript(WebDriver driver, String script, Object[] args, @Nullable Object result) {
+    invalidateIfChangesCookies(script);
+  }
+
+  @Override
+  public void afterExecuteAsyncScript(WebDriver driver, String script, Object[] args, @Nullable Object result) {
+    invalidateIfChangesCookies(script);
+  }
+
+  private void invalidateIfChangesCookies(String script) {
+    if (script.contains("document.cookie")) {
+      invalidate();
+    }
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class DownloadCookieStore implements CookieStore {
+    private final CookieStore browserCookies;
+    private final BasicCookieStore serverCookies = new BasicCookieStore();
+
+    private DownloadCookieStore(CookieStore browserCookies) {
+      this.browserCookies = browserCookies;
+    }
+
+    @Override
+    public void addCookie(org.apache.hc.client5.http.cookie.Cookie cookie) {
+      serverCookies.addCookie(cookie);
+    }
+
+    @Override
+    public List<org.apache.hc.client5.http.cookie.Cookie> getCookies() {
+      if (serverCookies.getCookies().isEmpty()) {
+        return browserCookies.getCookies();
+      }
+      BasicCookieStore allCookies = new BasicCookieStore();
+      browserCookies.getCookies().forEach(allCookies::addCookie);
+      serverCookies.getCookies().forEach(allCookies::addCookie);
+      return allCookies.getCookies();
+    }
+
+    @Override
+    public boolean clearExpired(Date date) {
+      return serverCookies.clearExpired(date);
+    }
+
+    @Override
+    public void clear() {
+      serverCookies.clear();
+    }
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class Snapshot {
+    private final CookieStore cookieStore;
+    private final long version;
+
+    private Snapshot(CookieStore cookieStore, long version) {
+      this.cookieStore = cookieStore;
+      this.version = version;
+    }
+  }
+}
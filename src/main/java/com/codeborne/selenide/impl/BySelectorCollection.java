@@ -67,6 +67,13 @@ public class BySelectorCollection implements CollectionSource {
     return driver;
   }
 
+  @Override
+  public void invalidate() {
+    if (parent != null) {
+      parent.invalidate();
+    }
+  }
+
   @Override
   public void setAlias(String alias) {
     this.alias = new Alias(alias);
@@ -0,0 +1,68 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Nth element found by selector, which is remembered after it's found (or given from a snapshot of the list),
+ * and found again only after it has been {@link #invalidate() invalidated}.
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class CachedElementFinder extends WebElementSource {
+  private final ElementFinder finder;
+  @Nullable
+  private volatile WebElement element;
+
+  CachedElementFinder(Driver driver, @Nullable WebElementSource parent, By criteria, int index, @Nullable WebElement element) {
+    this.finder = new ElementFinder(driver, parent, criteria, index);
+    this.element = element;
+  }
+
+  @Override
+  @CheckReturnValue
+  @Nonnull
+  public Driver driver() {
+    return finder.driver();
+  }
+
+  @Override
+  @CheckReturnValue
+  @Nonnull
+  public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    WebElement result = element;
+    if (result == null) {
+      result = finder.getWebElement();
+      element = result;
+    }
+    return result;
+  }
+
+  @Override
+  public void invalidate() {
+    element = null;
+    finder.invalidate();
+  }
+
+  @Override
+  @CheckReturnValue
+  @Nonnull
+  public String getSearchCriteria() {
+    return finder.getSearchCriteria();
+  }
+
+  @Override
+  @CheckReturnValue
+  @Nonnull
+  public String toString() {
+    return "{" + description() + '}';
+  }
+}
@@ -0,0 +1,74 @@
+package com.codeborne.selenide.impl;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Screenshot as it was received from browser.
+ * <p>
+ * It's written to file as is (without decoding and encoding again),
+ * and decoded to {@link BufferedImage} only when (and only once) the image is needed.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+class CapturedImage {
+  private final byte[] bytes;
+  @Nullable
+  private BufferedImage image;
+
+  CapturedImage(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  byte[] bytes() {
+    return bytes;
+  }
+
+  /**
+   * Photographer may ignore the requested format, so the file extension is detected by the image content
+   */
+  @CheckReturnValue
+  @Nonnull
+  String extension() {
+    if (bytes.length > 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8) {
+      return "jpg";
+    }
+    if (bytes.length > 12 && new String(bytes, 0, 4, US_ASCII).equals("RIFF") && new String(bytes, 8, 4, US_ASCII).equals("WEBP")) {
+      return "webp";
+    }
+    return "png";
+  }
+
+  @CheckReturnValue
+  @Nullable
+  synchronized BufferedImage image() {
+    if (image == null) {
+      try (InputStream in = new ByteArrayInputStream(bytes)) {
+        image = ImageIO.read(in);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Failed to decode screenshot", e);
+      }
+    }
+    return image;
+  }
+
+  void writeTo(File file) throws IOException {
+    FileHelper.writeToFile(bytes, file);
+  }
+}
@@ -0,0 +1,124 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.webdriver.CdpSession;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Takes screenshots of Chromium-based browsers with a single "Page.captureScreenshot" DevTools command:
+ * <ul>
+ *   <li>screenshots can be taken in JPEG and WebP formats (which are much smaller than PNG), and</li>
+ *   <li>element screenshots are clipped by the browser, without decoding and cropping the whole screenshot.</li>
+ * </ul>
+ * PNG screenshots, as well as screenshots of other browsers (and Chromium-based browsers without DevTools endpoint),
+ * are taken in PNG format by {@link WebdriverPhotographer}.
+ *
+ * @see com.codeborne.selenide.Config#screenshotFormat()
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class CdpPhotographer implements Photographer {
+  private static final Logger log = LoggerFactory.getLogger(CdpPhotographer.class);
+
+  /**
+   * Returns element bounds relative to the document (or null if the element is inside a frame)
+   */
+  private static final String ELEMENT_CLIP = "var r = arguments[0].getBoundingClientRect();" +
+    "return window.top === window ? [r.left + window.pageXOffset, r.top + window.pageYOffset, r.width, r.height] : null;";
+
+  private final Photographer webdriverPhotographer;
+
+  public CdpPhotographer() {
+    this(new WebdriverPhotographer());
+  }
+
+  CdpPhotographer(Photographer webdriverPhotographer) {
+    this.webdriverPhotographer = webdriverPhotographer;
+  }
+
+  @Override
+  public <T> Optional<T> takeScreenshot(Driver driver, OutputType<T> outputType) {
+    return webdriverPhotographer.takeScreenshot(driver, outputType);
+  }
+
+  @Override
+  public Optional<byte[]> takeScreenshot(Driver driver, String format, int quality) {
+    Optional<CdpSession> cdp = "png".equals(format) ? Optional.empty() : cdpSession(driver);
+    if (!cdp.isPresent()) {
+      return webdriverPhotographer.takeScreenshot(driver, "png", quality);
+    }
+    return Optional.of(captureScreenshot(cdp.get(), format, quality, null));
+  }
+
+  @Override
+  public Optional<byte[]> takeScreenshot(Driver driver, WebElement element, String format, int quality) {
+    Optional<CdpSession> cdp = "png".equals(format) ? Optional.empty() : cdpSession(driver);
+    if (!cdp.isPresent()) {
+      return webdriverPhotographer.takeScreenshot(driver, element, "png", quality);
+    }
+    List<Number> bounds = driver.executeJavaScript(ELEMENT_CLIP, element);
+    if (bounds == null || bounds.get(2).doubleValue() <= 0 || bounds.get(3).doubleValue() <= 0) {
+      // element inside frame, or invisible element: let webdriver handle it (and report the error)
+      return webdriverPhotographer.takeScreenshot(driver, element, "png", quality);
+    }
+    Map<String, Object> clip = new HashMap<>();
+    clip.put("x", bounds.get(0));
+    clip.put("y", bounds.get(1));
+    clip.put("width", bounds.get(2));
+    clip.put("height", bounds.get(3));
+    clip.put("scale", 1);
+    return Optional.of(captureScreenshot(cdp.get(), format, quality, clip));
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private byte[] captureScreenshot(CdpSession cdp, String format, int quality, @Nullable Map<String, Object> clip) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("format", format);
+    if (!"png".equals(format)) {
+      params.put("quality", quality);
+    }
+    if (clip != null) {
+      params.put("clip", clip);
+      params.put("captureBeyondViewport", true);
+    }
+    String data = (String) cdp.send("Page.captureScreenshot", params).get("data");
+    return Base64.getDecoder().decode(data);
+  }
+
+  /**
+   * The current window handle is requested from webdriver only if the browser has several windows:
+   * otherwise the session's page is the current window.
+   *
+   * @return DevTools session attached to the current browser window (or empty if it's not available)
+   */
+  @CheckReturnValue
+  @Nonnull
+  private Optional<CdpSession> cdpSession(Driver driver) {
+    try {
+      Optional<CdpSession> cdp = CdpSession.of(driver.getWebDriver());
+      if (!cdp.isPresent() || cdp.get().isAttachedToOnlyPage()) {
+        return cdp;
+      }
+      String windowHandle = driver.getWebDriver().getWindowHandle();
+      return cdp.filter(session -> windowHandle.equals(session.targetId()));
+    }
+    catch (RuntimeException e) {
+      log.debug("Cannot take screenshot via DevTools: {}", e.toString());
+      return Optional.empty();
+    }
+  }
+}
@@ -46,6 +46,11 @@ public class CollectionElement extends WebElementSource {
     return collection.getElement(index);
   }
 
+  @Override
+  public void invalidate() {
+    collection.invalidate();
+  }
+
   @Override
   @CheckReturnValue
   @Nonnull
@@ -33,4 +33,13 @@ public interface CollectionSource {
   Driver driver();
 
   void setAlias(String alias);
+
+  /**
+   * Forget web elements found before (if this collection or its parent caches them),
+   * so that they are found again on the next attempt.
+   *
+   * @since 6.1.0
+   */
+  default void invalidate() {
+  }
 }
@@ -0,0 +1,270 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.ReadAttribute;
+import com.codeborne.selenide.SelectorMode;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.PageObjectException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ByIdOrName;
+import org.openqa.selenium.support.ui.Select;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+/**
+ * Reads element fields of a page object container into a DTO with fields of the same names.
+ * <p>
+ * Selectors of the container fields are compiled (once per container class and DTO class) into a script,
+ * which reads all the fields of all given containers in a single webdriver call.
+ * Fields with selectors that cannot be evaluated by script (e.g. {@link By#linkText(String)})
+ * are read one by one via the container, as well as all fields if {@link Config#selectorMode()} is Sizzle.
+ * </p>
+ * <p>
+ * The script returns the same values as reading the fields one by one: attributes are read like
+ * {@link WebElement#getAttribute(String)} does (property if any, e.g. current "value" or absolute "href"),
+ * texts are normalized like {@link WebElement#getText()} does, and selects give text of the selected option.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class ContainerReader<T> {
+  private static final JavaScript js = new JavaScript("read-all.js");
+  private static final Pattern ID_OR_NAME = Pattern.compile("by id or name \"(.*)\"", Pattern.DOTALL);
+
+  private static final ClassValue<ConcurrentMap<Class<?>, ContainerReader<?>>> readers =
+    new ClassValue<ConcurrentMap<Class<?>, ContainerReader<?>>>() {
+      @Override
+      protected ConcurrentMap<Class<?>, ContainerReader<?>> computeValue(Class<?> containerClass) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+
+  private final Class<T> dtoClass;
+  private final List<PageObjectPlan.FieldPlan> scriptFields = new ArrayList<>();
+  private final List<Map<String, Object>> scriptArgument = new ArrayList<>();
+  private final List<ContainerField> containerFields = new ArrayList<>();
+  private final List<ContainerField> allFields = new ArrayList<>();
+
+  @CheckReturnValue
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public static <T> ContainerReader<T> of(Class<?> containerClass, Class<T> dtoClass) {
+    return (ContainerReader<T>) readers.get(containerClass)
+      .computeIfAbsent(dtoClass, dto -> new ContainerReader<>(containerClass, dto));
+  }
+
+  ContainerReader(Class<?> containerClass, Class<T> dtoClass) {
+    this.dtoClass = dtoClass;
+    Map<String, PageObjectPlan.FieldPlan> elements = elementFields(containerClass);
+
+    for (Class<?> type = dtoClass; type != Object.class; type = type.getSuperclass()) {
+      for (PageObjectPlan.FieldPlan dtoField : PageObjectPlan.of(type).fields()) {
+        if (Modifier.isStatic(dtoField.field.getModifiers()) || dtoField.field.isSynthetic()) continue;
+        if (dtoField.field.getType() != String.class) {
+          throw new IllegalArgumentException("Cannot read field " + dtoField.field + ": only String fields are supported");
+        }
+        PageObjectPlan.FieldPlan element = elements.get(dtoField.field.getName());
+        if (element == null) {
+          throw new IllegalArgumentException("Cannot read field " + dtoField.field + ": " +
+            containerClass.getName() + " has no element field " + dtoField.field.getName());
+        }
+        ReadAttribute attribute = dtoField.field.getAnnotation(ReadAttribute.class);
+        String attributeName = attribute == null ? null : attribute.value();
+        ContainerField containerField = new ContainerField(dtoField, element, attributeName);
+        allFields.add(containerField);
+        List<Map<String, String>> locators = locators(element.selector());
+        if (locators == null) {
+          containerFields.add(containerField);
+        }
+        else {
+          scriptFields.add(dtoField);
+          Map<String, Object> spec = new HashMap<>(2);
+          spec.put("locators", locators);
+          if (attributeName != null) {
+            spec.put("attribute", attributeName);
+          }
+          scriptArgument.add(spec);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param roots       root elements of the containers (in the same order as {@code containers})
+   * @param containers  gives Nth container (used only to read fields which cannot be read by script)
+   * @return a DTO per container
+   */
+  @CheckReturnValue
+  @Nonnull
+  public List<T> read(Driver driver, List<WebElement> roots, IntFunction<? extends ElementsContainer> containers) {
+    if (roots.isEmpty()) {
+      return emptyList();
+    }
+    // Sizzle selectors cannot be evaluated by querySelector()
+    boolean byScript = driver.config().selectorMode() != SelectorMode.Sizzle;
+    List<PageObjectPlan.FieldPlan> fieldsByScript = byScript ? scriptFields : emptyList();
+    List<ContainerField> fieldsOneByOne = byScript ? containerFields : allFields;
+    List<List<Object>> values = fieldsByScript.isEmpty() ? emptyList() : js.execute(driver.getWebDriver(), roots, scriptArgument);
+
+    List<T> result = new ArrayList<>(roots.size());
+    for (int i = 0; i < roots.size(); i++) {
+      T dto = newDto();
+      for (int f = 0; f < fieldsByScript.size(); f++) {
+        Object value = values.get(i).get(f);
+        fieldsByScript.get(f).set(dto, value == null ? null : value.toString());
+      }
+      if (!fieldsOneByOne.isEmpty()) {
+        ElementsContainer container = containers.apply(i);
+        for (ContainerField field : fieldsOneByOne) {
+          field.dtoField.set(dto, field.read(container));
+        }
+      }
+      result.add(dto);
+    }
+    return result;
+  }
+
+  @Nonnull
+  private T newDto() {
+    try {
+      return PageObjectPlan.of(dtoClass).newInstance();
+    }
+    catch (ReflectiveOperationException e) {
+      throw new PageObjectException("Failed to create new instance of " + dtoClass, e);
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private static Map<String, PageObjectPlan.FieldPlan> elementFields(Class<?> containerClass) {
+    Map<String, PageObjectPlan.FieldPlan> result = new LinkedHashMap<>();
+    for (Class<?> type = containerClass; type != ElementsContainer.class && type != Object.class; type = type.getSuperclass()) {
+      for (PageObjectPlan.FieldPlan field : PageObjectPlan.of(type).fields()) {
+        if (WebElement.class.isAssignableFrom(field.field.getType())) {
+          result.putIfAbsent(field.field.getName(), field);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return locators which the script can evaluate relatively to the container root (or null if it can't)
+   */
+  @CheckReturnValue
+  @Nullable
+  static List<Map<String, String>> locators(By selector) {
+    if (selector instanceof ByIdOrName) {
+      Matcher matcher = ID_OR_NAME.matcher(selector.toString());
+      return matcher.matches() ?
+        asList(css("[id=" + cssString(matcher.group(1)) + "]"), css("[name=" + cssString(matcher.group(1)) + "]")) :
+        null;
+    }
+    if (!(selector instanceof By.Remotable)) {
+      return null;
+    }
+    By.Remotable.Parameters parameters = ((By.Remotable) selector).getRemoteParameters();
+    String value = String.valueOf(parameters.value());
+    switch (parameters.using()) {
+      case "css selector":
+      case "tag name":
+        return singletonList(css(value));
+      case "id":
+        return singletonList(css("[id=" + cssString(value) + "]"));
+      case "name":
+        return singletonList(css("[name=" + cssString(value) + "]"));
+      case "class":
+      case "class name":
+        return singletonList(css("[class~=" + cssString(value) + "]"));
+      case "xpath":
+        return singletonList(singletonMap("xpath", value));
+      default:
+        return null;
+    }
+  }
+
+  @Nonnull
+  private static Map<String, String> css(String selector) {
+    return singletonMap("css", selector);
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  static String cssString(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      }
+      else if (c == '\n' || c == '\r' || c == '\f') {
+        sb.append('\\').append(Integer.toHexString(c)).append(' ');
+      }
+      else {
+        sb.append(c);
+      }
+    }
+    return sb.append('"').toString();
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class ContainerField {
+    private final PageObjectPlan.FieldPlan dtoField;
+    private final PageObjectPlan.FieldPlan element;
+    @Nullable
+    private final String attribute;
+
+    private ContainerField(PageObjectPlan.FieldPlan dtoField, PageObjectPlan.FieldPlan element, @Nullable String attribute) {
+      this.dtoField = dtoField;
+      this.element = element;
+      this.attribute = attribute;
+    }
+
+    @Nullable
+    private String read(ElementsContainer container) {
+      Object value = element.get(container);
+      if (!(value instanceof WebElement)) {
+        return null;
+      }
+      if (value instanceof SelenideElement && !((SelenideElement) value).exists()) {
+        return null;
+      }
+      WebElement webElement = (WebElement) value;
+      if (attribute != null) {
+        return webElement.getAttribute(attribute);
+      }
+      String tag = webElement.getTagName();
+      if ("input".equalsIgnoreCase(tag) || "textarea".equalsIgnoreCase(tag)) {
+        return webElement.getAttribute("value");
+      }
+      if ("select".equalsIgnoreCase(tag)) {
+        List<WebElement> selected = new Select(webElement).getAllSelectedOptions();
+        return selected.isEmpty() ? "" : selected.get(0).getText();
+      }
+      return webElement.getText();
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.codeborne.selenide.impl;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads for Selenide background tasks, so that they never prevent JVM from exiting.
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class DaemonThreadFactory implements ThreadFactory {
+  private final String name;
+  private final AtomicInteger counter = new AtomicInteger();
+
+  public DaemonThreadFactory(String name) {
+    this.name = name;
+  }
+
+  @Override
+  @CheckReturnValue
+  @Nonnull
+  public Thread newThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, name + " #" + counter.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,94 @@
+package com.codeborne.selenide.impl;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts bytes and calculates checksums of everything written to the underlying stream,
+ * so that downloaded files don't need to be read again for verification.
+ */
+@ParametersAreNonnullByDefault
+public class DigestingOutputStream extends FilterOutputStream {
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Map<String, MessageDigest> digests = new HashMap<>();
+  private long size;
+  private Map<String, String> checksums;
+
+  public DigestingOutputStream(OutputStream out, Set<String> algorithms) {
+    super(out);
+    for (String algorithm : algorithms) {
+      digests.put(algorithm, messageDigest(algorithm));
+    }
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    for (MessageDigest digest : digests.values()) {
+      digest.update((byte) b);
+    }
+    size++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    for (MessageDigest digest : digests.values()) {
+      digest.update(b, off, len);
+    }
+    size += len;
+  }
+
+  @CheckReturnValue
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Completes the checksum calculation: nothing should be written after calling this method.
+   *
+   * @return algorithm -&gt; lower case hex checksum of all written bytes
+   */
+  @CheckReturnValue
+  @Nonnull
+  public Map<String, String> checksums() {
+    if (checksums == null) {
+      checksums = new HashMap<>();
+      for (Map.Entry<String, MessageDigest> digest : digests.entrySet()) {
+        checksums.put(digest.getKey(), toHex(digest.getValue().digest()));
+      }
+    }
+    return checksums;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  static String toHex(byte[] bytes) {
+    char[] result = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      result[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      result[i * 2 + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(result);
+  }
+
+  @Nonnull
+  private static MessageDigest messageDigest(String algorithm) {
+    try {
+      return MessageDigest.getInstance(algorithm);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm, e);
+    }
+  }
+}
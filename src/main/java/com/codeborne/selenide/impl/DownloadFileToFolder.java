@@ -71,9 +71,15 @@ public class DownloadFileToFolder {
     folder.cleanupBeforeDownload();
     long downloadStartedAt = System.currentTimeMillis();
 
-    action.perform(driver, clickable);
+    Downloads newDownloads;
+    try (DownloadsFolderWatcher watcher = DownloadsFolderWatcher.watch(folder, downloadStartedAt)) {
+      action.perform(driver, clickable);
+      newDownloads = watcher == null ?
+        waitForNewFiles(timeout, fileFilter, config, folder, downloadStartedAt) :
+        watcher.waitForDownloads(fileFilter, timeout, config.pollingInterval());
+    }
+    logDownloads(folder, newDownloads);
 
-    Downloads newDownloads = waitForNewFiles(timeout, fileFilter, config, folder, downloadStartedAt);
     File downloadedFile = newDownloads.firstDownloadedFile(anyClickableElement.toString(), timeout, fileFilter);
     return archiveFile(config, downloadedFile);
   }
@@ -83,14 +89,16 @@ public class DownloadFileToFolder {
                                     DownloadsFolder folder, long clickMoment) {
     HasDownloads hasDownloads = new HasDownloads(fileFilter, clickMoment);
     waiter.wait(folder, hasDownloads, timeout, config.pollingInterval());
+    return hasDownloads.downloads;
+  }
 
+  private void logDownloads(DownloadsFolder folder, Downloads downloads) {
     if (log.isInfoEnabled()) {
-      log.info(hasDownloads.downloads.filesAsString());
+      log.info(downloads.filesAsString());
     }
     if (log.isDebugEnabled()) {
       log.debug("All downloaded files in {}: {}", folder, folder.files());
     }
-    return hasDownloads.downloads;
   }
 
   @Nonnull
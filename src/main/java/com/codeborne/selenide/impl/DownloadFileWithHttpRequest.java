@@ -1,12 +1,14 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.DownloadOptions;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ex.TimeoutException;
 import com.codeborne.selenide.files.FileFilter;
 import com.codeborne.selenide.files.DownloadedFile;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
@@ -24,6 +26,7 @@ import org.apache.hc.core5.http.protocol.BasicHttpContext;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.ssl.TrustStrategy;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,16 +38,22 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.security.cert.X509Certificate;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.codeborne.selenide.DownloadOptions.using;
+import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
+import static com.codeborne.selenide.impl.FileHelper.ensureParentFolderExists;
 import static com.codeborne.selenide.impl.Plugins.inject;
 import static java.util.Collections.emptyMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static org.apache.commons.io.FileUtils.copyInputStreamToFile;
+import static org.apache.commons.io.IOUtils.copyLarge;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.hc.client5.http.protocol.HttpClientContext.COOKIE_STORE;
 
@@ -69,12 +78,21 @@ public class DownloadFileWithHttpRequest {
   @CheckReturnValue
   @Nonnull
   public File download(Driver driver, WebElement element, long timeout, FileFilter fileFilter) throws IOException {
+    return download(driver, element, timeout, using(HTTPGET).withFilter(fileFilter));
+  }
+
+  /**
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public File download(Driver driver, WebElement element, long timeout, DownloadOptions options) throws IOException {
     String fileToDownloadLocation = element.getAttribute("href");
     if (fileToDownloadLocation == null || fileToDownloadLocation.trim().isEmpty()) {
       throw new IllegalArgumentException("The element does not have href attribute: " + describe.fully(driver, element));
     }
 
-    return download(driver, fileToDownloadLocation, timeout, fileFilter);
+    return download(driver, fileToDownloadLocation, timeout, options);
   }
 
   @CheckReturnValue
@@ -86,8 +104,23 @@ public class DownloadFileWithHttpRequest {
   @CheckReturnValue
   @Nonnull
   public File download(Driver driver, String relativeOrAbsoluteUrl, long timeout, FileFilter fileFilter) throws IOException {
+    return download(driver, relativeOrAbsoluteUrl, timeout, using(HTTPGET).withFilter(fileFilter));
+  }
+
+  /**
+   * @param options file filter, and optionally resuming interrupted download / downloading in parallel chunks
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public File download(Driver driver, String relativeOrAbsoluteUrl, long timeout, DownloadOptions options) throws IOException {
+    FileFilter fileFilter = options.getFilter();
     String url = makeAbsoluteUrl(driver.config(), relativeOrAbsoluteUrl);
-    CloseableHttpResponse response = executeHttpRequest(driver, url, timeout);
+    boolean ranged = options.getResumeAttempts() > 0 || options.getParallelChunks() > 1;
+    RangedDownload.RangeRequest rangeRequest = ranged ? rangeRequest(driver, url, timeout) : null;
+    CloseableHttpResponse response = rangeRequest != null ?
+      (CloseableHttpResponse) rangeRequest.execute(null, null) :
+      executeHttpRequest(driver, url, timeout);
 
     if (response.getCode() >= 500) {
       throw new RuntimeException("Failed to download file " + url + ": " + response);
@@ -97,15 +130,17 @@ public class DownloadFileWithHttpRequest {
     }
 
     String fileName = getFileName(url, response);
-    File downloadedFile = downloader.prepareTargetFile(driver.config(), fileName);
-    saveContentToFile(response, downloadedFile);
+    File targetFile = downloader.prepareTargetFile(driver.config(), fileName);
+    DownloadedFile downloadedFile = rangeRequest != null ?
+      saveContentWithRanges(url, response, rangeRequest, targetFile, options) :
+      saveContentToFile(response, targetFile, fileFilter.checksums());
 
-    if (!fileFilter.match(new DownloadedFile(downloadedFile, emptyMap()))) {
+    if (!fileFilter.match(downloadedFile)) {
       throw new FileNotFoundException(String.format("Failed to download file from %s in %d ms. %s;%n actually downloaded: %s",
-        relativeOrAbsoluteUrl, timeout, fileFilter.description(), downloadedFile.getAbsolutePath())
+        relativeOrAbsoluteUrl, timeout, fileFilter.description(), targetFile.getAbsolutePath())
       );
     }
-    return downloadedFile;
+    return targetFile;
   }
 
   @CheckReturnValue
@@ -117,18 +152,53 @@ public class DownloadFileWithHttpRequest {
   @CheckReturnValue
   @Nonnull
   protected CloseableHttpResponse executeHttpRequest(Driver driver, String fileToDownloadLocation, long timeout) throws IOException {
-    CloseableHttpClient httpClient = ignoreSelfSignedCerts ? createTrustingHttpClient() : createDefaultHttpClient();
     HttpGet httpGet = new HttpGet(fileToDownloadLocation);
     configureHttpGet(httpGet, timeout);
     addHttpHeaders(driver, httpGet);
+    return execute(httpGet, createHttpContext(driver), fileToDownloadLocation, timeout);
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private CloseableHttpResponse execute(HttpGet httpGet, HttpContext context, String url, long timeout) throws IOException {
+    CloseableHttpClient httpClient = ignoreSelfSignedCerts ? createTrustingHttpClient() : createDefaultHttpClient();
     try {
-      return httpClient.execute(httpGet, createHttpContext(driver));
+      return httpClient.execute(httpGet, context);
     }
     catch (SocketTimeoutException timeoutException) {
-      throw new TimeoutException("Failed to download " + fileToDownloadLocation + " in " + timeout + " ms.", timeoutException);
+      throw new TimeoutException("Failed to download " + url + " in " + timeout + " ms.", timeoutException);
     }
   }
 
+  /**
+   * Headers and cookies are taken from browser only once (in the current thread),
+   * so that parallel chunk requests don't touch webdriver.
+   * Compression is disabled because byte ranges of compressed and decompressed content don't match.
+   */
+  @CheckReturnValue
+  @Nonnull
+  private RangedDownload.RangeRequest rangeRequest(Driver driver, String url, long timeout) {
+    HttpGet template = new HttpGet(url);
+    addHttpHeaders(driver, template);
+    Object cookieStore = createHttpContext(driver).getAttribute(COOKIE_STORE);
+
+    return (range, ifRange) -> {
+      HttpGet httpGet = new HttpGet(url);
+      configureHttpGet(httpGet, timeout);
+      httpGet.setHeaders(template.getHeaders());
+      httpGet.setHeader("Accept-Encoding", "identity");
+      if (range != null) {
+        httpGet.setHeader("Range", range);
+      }
+      if (ifRange != null) {
+        httpGet.setHeader("If-Range", ifRange);
+      }
+      HttpContext context = new BasicHttpContext();
+      context.setAttribute(COOKIE_STORE, cookieStore);
+      return execute(httpGet, context, url, timeout);
+    };
+  }
+
   protected void configureHttpGet(HttpGet httpGet, long timeout) {
     httpGet.setConfig(RequestConfig.custom()
         .setConnectTimeout(timeout, MILLISECONDS)
@@ -188,11 +258,18 @@ public class DownloadFileWithHttpRequest {
   protected HttpContext createHttpContext(Driver driver) {
     HttpContext localContext = new BasicHttpContext();
     if (driver.hasWebDriverStarted()) {
-      localContext.setAttribute(COOKIE_STORE, new WebdriverCookieStore(driver.getWebDriver()));
+      localContext.setAttribute(COOKIE_STORE, cookieStore(driver.getWebDriver()));
     }
     return localContext;
   }
 
+  @CheckReturnValue
+  @Nonnull
+  private CookieStore cookieStore(WebDriver webDriver) {
+    BrowserCookiesCache cookiesCache = BrowserCookiesCache.of(webDriver);
+    return cookiesCache == null ? new WebdriverCookieStore(webDriver) : cookiesCache.cookieStore(webDriver);
+  }
+
   protected void addHttpHeaders(Driver driver, HttpGet httpGet) {
     if (driver.hasWebDriverStarted()) {
       httpGet.setHeader("User-Agent", driver.getUserAgent());
@@ -218,7 +295,41 @@ public class DownloadFileWithHttpRequest {
     return isNotBlank(fileNameFromUrl) ? fileNameFromUrl : downloader.randomFileName();
   }
 
-  protected void saveContentToFile(CloseableHttpResponse response, File downloadedFile) throws IOException {
-    copyInputStreamToFile(response.getEntity().getContent(), downloadedFile);
+  /**
+   * Saves response body to file, calculating its size and given checksums on the fly
+   * (so that the file doesn't need to be read again for verification).
+   */
+  @Nonnull
+  protected DownloadedFile saveContentToFile(CloseableHttpResponse response, File downloadedFile,
+                                             Set<String> checksums) throws IOException {
+    ensureParentFolderExists(downloadedFile);
+    try (InputStream in = response.getEntity().getContent();
+         DigestingOutputStream out = new DigestingOutputStream(new FileOutputStream(downloadedFile), checksums)) {
+      copyLarge(in, out);
+      out.flush();
+      return new DownloadedFile(downloadedFile, emptyMap(), out.size(), out.checksums());
+    }
+  }
+
+  /**
+   * Saves response body to file, resuming interrupted transfer and/or downloading it in parallel chunks.
+   * Checksums of a file downloaded in chunks are calculated only if file filter needs them (by reading the file).
+   */
+  @Nonnull
+  private DownloadedFile saveContentWithRanges(String url, CloseableHttpResponse response, RangedDownload.RangeRequest rangeRequest,
+                                               File downloadedFile, DownloadOptions options) throws IOException {
+    ensureParentFolderExists(downloadedFile);
+    long contentLength = response.getEntity().getContentLength();
+    RangedDownload download = new RangedDownload(url, response, contentLength, options.getResumeAttempts(), rangeRequest);
+    int chunks = download.chunks(options.getParallelChunks());
+    if (chunks > 1) {
+      download.saveInChunks(response, downloadedFile, chunks);
+      return new DownloadedFile(downloadedFile, emptyMap(), contentLength, emptyMap());
+    }
+    try (DigestingOutputStream out = new DigestingOutputStream(new FileOutputStream(downloadedFile), options.getFilter().checksums())) {
+      download.save(response, out);
+      out.flush();
+      return new DownloadedFile(downloadedFile, emptyMap(), out.size(), out.checksums());
+    }
   }
 }
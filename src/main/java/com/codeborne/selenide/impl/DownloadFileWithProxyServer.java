@@ -67,7 +67,7 @@ public class DownloadFileWithProxyServer {
       throw new IllegalStateException("Cannot download file: download filter is not activated");
     }
 
-    filter.activate();
+    filter.activate(fileFilter.checksums());
     try {
       waiter.wait(filter, new PreviousDownloadsCompleted(), timeout, config.pollingInterval());
 
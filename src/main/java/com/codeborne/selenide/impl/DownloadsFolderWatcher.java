@@ -0,0 +1,234 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.files.DownloadedFile;
+import com.codeborne.selenide.files.FileFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.codeborne.selenide.impl.DownloadFileToFolder.isFileModifiedLaterThan;
+import static com.codeborne.selenide.impl.FileHelper.ensureFolderExists;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Detects new files in downloads folder using {@link WatchService} events instead of listing the whole folder.
+ * <p>
+ * Only files created or modified after {@link #watch(DownloadsFolder, long)} are considered.
+ * Partial files ({@code .crdownload}, {@code .part}, {@code .download}) are never reported as downloads.
+ * A file is considered completely downloaded when
+ * 1. all partial files have been renamed/deleted by browser, or
+ * 2. its size has not changed during {@code pollingInterval} (for browsers writing the file directly).
+ * </p>
+ */
+@ParametersAreNonnullByDefault
+class DownloadsFolderWatcher implements Closeable {
+  private static final Logger log = LoggerFactory.getLogger(DownloadsFolderWatcher.class);
+  private static final Set<String> PARTIAL_FILE_EXTENSIONS = new HashSet<>(asList("crdownload", "part", "download"));
+
+  private final DownloadsFolder folder;
+  private final WatchService watchService;
+  private final Clock clock;
+  private final long downloadStartedAt;
+  private final boolean nativeEvents;
+  private final Map<File, FileState> candidates = new LinkedHashMap<>();
+  private boolean partialFilesSeen;
+
+  DownloadsFolderWatcher(DownloadsFolder folder, WatchService watchService, Clock clock, long downloadStartedAt) {
+    this.folder = folder;
+    this.watchService = watchService;
+    this.clock = clock;
+    this.downloadStartedAt = downloadStartedAt;
+    this.nativeEvents = !"PollingWatchService".equals(watchService.getClass().getSimpleName());
+  }
+
+  /**
+   * @return null if file system doesn't support watching the folder (caller should fall back to polling)
+   */
+  @CheckReturnValue
+  @Nullable
+  static DownloadsFolderWatcher watch(DownloadsFolder folder, long downloadStartedAt) {
+    WatchService watchService = null;
+    try {
+      Path path = ensureFolderExists(folder.toFile()).toPath();
+      watchService = path.getFileSystem().newWatchService();
+      path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+      return new DownloadsFolderWatcher(folder, watchService, new Clock(), downloadStartedAt);
+    }
+    catch (IOException | UnsupportedOperationException e) {
+      log.warn("Cannot watch downloads folder {}, will poll it instead: {}", folder, e.toString());
+      closeQuietly(watchService);
+      return null;
+    }
+  }
+
+  private static void closeQuietly(@Nullable WatchService watchService) {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      }
+      catch (IOException e) {
+        log.debug("Failed to close watch service", e);
+      }
+    }
+  }
+
+  /**
+   * Blocks until a completely downloaded file matching {@code fileFilter} appears or timeout exceeds.
+   * Returns immediately after a file system event completes the download.
+   */
+  @Nonnull
+  Downloads waitForDownloads(FileFilter fileFilter, long timeout, long pollingInterval) {
+    long start = clock.timestamp();
+    while (true) {
+      Downloads downloads = new Downloads(completedFiles(pollingInterval));
+      long remaining = timeout - (clock.timestamp() - start);
+      if (!downloads.files(fileFilter).isEmpty() || remaining <= 0) {
+        return downloads;
+      }
+      awaitEvents(Math.min(pollingInterval, remaining));
+    }
+  }
+
+  private void awaitEvents(long milliseconds) {
+    try {
+      WatchKey key = watchService.poll(milliseconds, MILLISECONDS);
+      while (key != null) {
+        processEvents(key);
+        key = watchService.poll();
+      }
+      if (!nativeEvents) {
+        rescan();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void processEvents(WatchKey key) {
+    Path dir = (Path) key.watchable();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        rescan();
+        continue;
+      }
+      File file = dir.resolve((Path) event.context()).toFile();
+      if (event.kind() == ENTRY_DELETE) {
+        candidates.remove(file);
+      }
+      else {
+        touched(file);
+      }
+    }
+    key.reset();
+  }
+
+  private void rescan() {
+    for (File file : folder.files()) {
+      if (!candidates.containsKey(file) && isFileModifiedLaterThan(file, downloadStartedAt)) {
+        touched(file);
+      }
+    }
+  }
+
+  private void touched(File file) {
+    if (isPartial(file)) {
+      partialFilesSeen = true;
+    }
+    candidates.put(file, new FileState(file.length(), clock.timestamp()));
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private List<DownloadedFile> completedFiles(long stabilityPeriod) {
+    if (candidates.keySet().stream().anyMatch(DownloadsFolderWatcher::isPartial)) {
+      return new ArrayList<>();
+    }
+
+    long now = clock.timestamp();
+    List<DownloadedFile> result = new ArrayList<>();
+    for (Map.Entry<File, FileState> candidate : candidates.entrySet()) {
+      File file = candidate.getKey();
+      FileState state = candidate.getValue();
+      boolean stable = state.isStable(file.length(), now, stabilityPeriod);
+      if (file.isFile() && (stable || partialFilesSeen)) {
+        result.add(state.downloadedFile(file));
+      }
+    }
+    return result;
+  }
+
+  @CheckReturnValue
+  static boolean isPartial(File file) {
+    String name = file.getName();
+    int extensionStart = name.lastIndexOf('.');
+    return extensionStart > 0 && PARTIAL_FILE_EXTENSIONS.contains(name.substring(extensionStart + 1).toLowerCase());
+  }
+
+  @Override
+  public void close() {
+    try {
+      watchService.close();
+    }
+    catch (IOException e) {
+      log.warn("Failed to close watch service for {}", folder, e);
+    }
+  }
+
+  private static class FileState {
+    private long size;
+    private long changedAt;
+    @Nullable
+    private DownloadedFile downloadedFile;
+
+    private FileState(long size, long changedAt) {
+      this.size = size;
+      this.changedAt = changedAt;
+    }
+
+    private boolean isStable(long currentSize, long now, long period) {
+      if (currentSize != size) {
+        size = currentSize;
+        changedAt = now;
+        downloadedFile = null;
+      }
+      return now - changedAt >= period;
+    }
+
+    /**
+     * The same instance is returned until file size changes,
+     * so that checksums requested by file filter are calculated only once.
+     */
+    private DownloadedFile downloadedFile(File file) {
+      if (downloadedFile == null) {
+        downloadedFile = new DownloadedFile(file, emptyMap(), size, emptyMap());
+      }
+      return downloadedFile;
+    }
+  }
+}
@@ -102,6 +102,13 @@ public class ElementFinder extends WebElementSource {
     return elementSelector.findElement(driver, parent, criteria, index);
   }
 
+  @Override
+  public void invalidate() {
+    if (parent != null) {
+      parent.invalidate();
+    }
+  }
+
   @Override
   @CheckReturnValue
   @Nonnull
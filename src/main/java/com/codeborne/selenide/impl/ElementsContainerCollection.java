@@ -4,8 +4,10 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ElementsContainer;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.PageObjectException;
+import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
@@ -14,6 +16,9 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.impl.Plugins.inject;
@@ -44,7 +49,49 @@ public class ElementsContainerCollection extends AbstractList<ElementsContainer>
   @Nonnull
   @Override
   public ElementsContainer get(int index) {
-    WebElementSource self = new ElementFinder(driver, parent, selector, index);
+    WebElementSource self = driver.config().snapshotContainerLists() ?
+      new CachedElementFinder(driver, parent, selector, index, null) :
+      new ElementFinder(driver, parent, selector, index);
+    return container(self);
+  }
+
+  /**
+   * In "snapshot" mode, finds all the rows once, and binds every container to its row element.
+   *
+   * @see com.codeborne.selenide.Config#snapshotContainerLists()
+   */
+  @CheckReturnValue
+  @Nonnull
+  @Override
+  public Iterator<ElementsContainer> iterator() {
+    if (!driver.config().snapshotContainerLists()) {
+      return super.iterator();
+    }
+    List<WebElement> rows = findRows();
+    return IntStream.range(0, rows.size())
+      .mapToObj(index -> container(new CachedElementFinder(driver, parent, selector, index, rows.get(index))))
+      .iterator();
+  }
+
+  /**
+   * Reads all the rows into DTOs with 2 webdriver calls (finding the rows and reading all their fields).
+   *
+   * @see ElementsContainer#readAll(List, Class)
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public <T> List<T> readAll(Class<T> dtoClass) {
+    return SelenideLogger.get(field.getName(), "readAll(" + dtoClass.getSimpleName() + ")", () -> {
+      List<WebElement> rows = findRows();
+      return ContainerReader.of(listType, dtoClass).read(driver, rows,
+        index -> container(new CachedElementFinder(driver, parent, selector, index, rows.get(index))));
+    });
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private ElementsContainer container(WebElementSource self) {
     try {
       return pageFactory.initElementsContainer(driver, field, self, listType, genericTypes);
     }
@@ -56,8 +103,14 @@ public class ElementsContainerCollection extends AbstractList<ElementsContainer>
   @CheckReturnValue
   @Override
   public int size() {
+    return findRows().size();
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private List<WebElement> findRows() {
     try {
-      return elementSelector.findElements(driver, parent, selector).size();
+      return elementSelector.findElements(driver, parent, selector);
     }
     catch (NoSuchElementException e) {
       throw new ElementNotFound(selector.toString(), exist, e);
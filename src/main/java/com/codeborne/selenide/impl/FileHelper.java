@@ -6,14 +6,18 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import static java.nio.file.Files.createDirectories;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 @ParametersAreNonnullByDefault
 public final class FileHelper {
@@ -23,14 +27,25 @@ public final class FileHelper {
   }
 
   public static void writeToFile(byte[] source, File targetFile) throws IOException {
-    try (InputStream in = new ByteArrayInputStream(source)) {
-      copyFile(in, targetFile);
+    ensureParentFolderExists(targetFile);
+
+    try (FileChannel out = FileChannel.open(targetFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.wrap(source);
+      while (buffer.hasRemaining()) {
+        out.write(buffer);
+      }
     }
   }
 
   public static void copyFile(File sourceFile, File targetFile) throws IOException {
-    try (FileInputStream in = new FileInputStream(sourceFile)) {
-      copyFile(in, targetFile);
+    ensureParentFolderExists(targetFile);
+
+    try (FileChannel in = FileChannel.open(sourceFile.toPath(), READ);
+         FileChannel out = FileChannel.open(targetFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+      long size = in.size();
+      for (long position = 0; position < size; ) {
+        position += out.transferFrom(in, position, size - position);
+      }
     }
   }
 
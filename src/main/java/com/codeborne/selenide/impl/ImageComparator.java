@@ -0,0 +1,222 @@
+package com.codeborne.selenide.impl;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares images pixel by pixel.
+ * <p>
+ * Images are split into horizontal bands of {@link #BAND_HEIGHT} rows, which are read into {@code int[]} rasters
+ * and compared in parallel (by fork-join pool). Comparison stops as soon as more pixels than allowed are found different;
+ * the exact number of different pixels and the diff image are calculated only when needed (see {@link ImageDiff}).
+ * </p>
+ * <p>
+ * If no pixels may differ, perceptual hashes (8x8 "average hash" of sampled pixels) of the images are compared first:
+ * different hashes mean that some pixels are different, so such images are reported as different without comparing all pixels.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class ImageComparator {
+  static final int BAND_HEIGHT = 64;
+  static final int HASH_SIZE = 8;
+  private static final int HASH_SAMPLES = 8;
+  private static final int RGB = 0xFFFFFF;
+  private static final int DIFFERENT_PIXEL = 0xFF0000;
+
+  private final ForkJoinPool pool;
+
+  public ImageComparator() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  public ImageComparator(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * @param tolerance max fraction (0..1) of pixels which may differ
+   * @param ignoredRegions regions of the images which are not compared
+   */
+  @CheckReturnValue
+  @Nonnull
+  public ImageDiff compare(BufferedImage actual, BufferedImage expected, double tolerance, List<Rectangle> ignoredRegions) {
+    if (actual.getWidth() != expected.getWidth() || actual.getHeight() != expected.getHeight()) {
+      String reason = String.format("Image size mismatch: actual %sx%s, expected %sx%s",
+        actual.getWidth(), actual.getHeight(), expected.getWidth(), expected.getHeight());
+      return new ImageDiff(this, actual, expected, ignoredRegions, 0, 0, reason);
+    }
+
+    long allowedPixels = (long) (tolerance * actual.getWidth() * actual.getHeight());
+    if (allowedPixels == 0) {
+      int distance = Long.bitCount(perceptualHash(actual, ignoredRegions) ^ perceptualHash(expected, ignoredRegions));
+      if (distance > 0) {
+        return new ImageDiff(this, actual, expected, ignoredRegions, allowedPixels, 0,
+          String.format("Images look different (perceptual hash distance: %s of %s)", distance, HASH_SIZE * HASH_SIZE));
+      }
+    }
+
+    long differentPixels = pool.invoke(new BandTask(actual, expected, ignoredRegions, 0, bands(actual),
+      allowedPixels, new AtomicLong(), null));
+    return new ImageDiff(this, actual, expected, ignoredRegions, allowedPixels, differentPixels, null);
+  }
+
+  /**
+   * Compares all pixels of the images and paints the diff: different pixels are red, other pixels are faded
+   *
+   * @return number of different pixels
+   */
+  long diff(BufferedImage actual, BufferedImage expected, List<Rectangle> ignoredRegions, int[] diffRaster) {
+    return pool.invoke(new BandTask(actual, expected, ignoredRegions, 0, bands(actual),
+      Long.MAX_VALUE, new AtomicLong(), diffRaster));
+  }
+
+  private static int bands(BufferedImage image) {
+    return (image.getHeight() + BAND_HEIGHT - 1) / BAND_HEIGHT;
+  }
+
+  /**
+   * "Average hash": 1 bit per each of 8x8 cells, which is set if the cell is brighter than the whole image.
+   * Every cell is sampled in 8x8 points, so the hash is calculated fast even for big images.
+   */
+  @CheckReturnValue
+  static long perceptualHash(BufferedImage image, List<Rectangle> ignoredRegions) {
+    int cells = HASH_SIZE * HASH_SIZE;
+    double[] brightness = new double[cells];
+    double total = 0;
+    int samplesPerRow = HASH_SIZE * HASH_SAMPLES;
+    for (int cell = 0; cell < cells; cell++) {
+      int sum = 0;
+      int samples = 0;
+      for (int sample = 0; sample < HASH_SAMPLES * HASH_SAMPLES; sample++) {
+        int x = (cell % HASH_SIZE * HASH_SAMPLES + sample % HASH_SAMPLES) * image.getWidth() / samplesPerRow;
+        int y = (cell / HASH_SIZE * HASH_SAMPLES + sample / HASH_SAMPLES) * image.getHeight() / samplesPerRow;
+        if (!isIgnored(x, y, ignoredRegions)) {
+          sum += gray(image.getRGB(x, y));
+          samples++;
+        }
+      }
+      brightness[cell] = samples == 0 ? 0 : (double) sum / samples;
+      total += brightness[cell];
+    }
+
+    double average = total / cells;
+    long hash = 0;
+    for (int cell = 0; cell < cells; cell++) {
+      if (brightness[cell] > average) {
+        hash |= 1L << cell;
+      }
+    }
+    return hash;
+  }
+
+  private static int gray(int rgb) {
+    return (((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF)) / 3;
+  }
+
+  private static int faded(int rgb) {
+    int gray = 255 - (255 - gray(rgb)) / 3;
+    return gray << 16 | gray << 8 | gray;
+  }
+
+  private static boolean isIgnored(int x, int y, List<Rectangle> ignoredRegions) {
+    for (Rectangle region : ignoredRegions) {
+      if (region.contains(x, y)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @ParametersAreNonnullByDefault
+  private static class BandTask extends RecursiveTask<Long> {
+    private final BufferedImage actual;
+    private final BufferedImage expected;
+    private final List<Rectangle> ignoredRegions;
+    private final int fromBand;
+    private final int toBand;
+    private final long limit;
+    private final AtomicLong differentPixels;
+    @Nullable
+    private final int[] diffRaster;
+
+    private BandTask(BufferedImage actual, BufferedImage expected, List<Rectangle> ignoredRegions, int fromBand, int toBand,
+                     long limit, AtomicLong differentPixels, @Nullable int[] diffRaster) {
+      this.actual = actual;
+      this.expected = expected;
+      this.ignoredRegions = ignoredRegions;
+      this.fromBand = fromBand;
+      this.toBand = toBand;
+      this.limit = limit;
+      this.differentPixels = differentPixels;
+      this.diffRaster = diffRaster;
+    }
+
+    @Override
+    protected Long compute() {
+      if (toBand - fromBand > 1) {
+        int middle = (fromBand + toBand) >>> 1;
+        BandTask first = new BandTask(actual, expected, ignoredRegions, fromBand, middle, limit, differentPixels, diffRaster);
+        BandTask second = new BandTask(actual, expected, ignoredRegions, middle, toBand, limit, differentPixels, diffRaster);
+        first.fork();
+        long secondResult = second.compute();
+        return first.join() + secondResult;
+      }
+      return compareBand();
+    }
+
+    private long compareBand() {
+      if (differentPixels.get() > limit) {
+        return 0;
+      }
+      int width = actual.getWidth();
+      int fromY = fromBand * BAND_HEIGHT;
+      int rows = Math.min(BAND_HEIGHT, actual.getHeight() - fromY);
+      int[] actualPixels = actual.getRGB(0, fromY, width, rows, null, 0, width);
+      int[] expectedPixels = expected.getRGB(0, fromY, width, rows, null, 0, width);
+      List<Rectangle> regions = regionsInBand(fromY, rows);
+
+      long count = 0;
+      for (int row = 0; row < rows; row++) {
+        int offset = row * width;
+        for (int x = 0; x < width; x++) {
+          int pixel = actualPixels[offset + x];
+          boolean different = ((pixel ^ expectedPixels[offset + x]) & RGB) != 0 && !isIgnored(x, fromY + row, regions);
+          if (different) {
+            count++;
+          }
+          if (diffRaster != null) {
+            diffRaster[fromY * width + offset + x] = different ? DIFFERENT_PIXEL : faded(pixel);
+          }
+        }
+        if (diffRaster == null && differentPixels.get() + count > limit) {
+          break;
+        }
+      }
+      differentPixels.addAndGet(count);
+      return count;
+    }
+
+    @Nonnull
+    private List<Rectangle> regionsInBand(int fromY, int rows) {
+      List<Rectangle> regions = new ArrayList<>(ignoredRegions.size());
+      Rectangle band = new Rectangle(0, fromY, actual.getWidth(), rows);
+      for (Rectangle region : ignoredRegions) {
+        if (region.intersects(band)) {
+          regions.add(region);
+        }
+      }
+      return regions;
+    }
+  }
+}
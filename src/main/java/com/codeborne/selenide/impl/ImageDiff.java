@@ -0,0 +1,113 @@
+package com.codeborne.selenide.impl;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+/**
+ * Result of {@link ImageComparator#compare(BufferedImage, BufferedImage, double, List)}.
+ * <p>
+ * If images don't match, the exact number of different pixels and the diff image are calculated lazily
+ * (comparison stops as soon as more pixels than allowed are different).
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class ImageDiff {
+  private final ImageComparator comparator;
+  private final BufferedImage actual;
+  private final BufferedImage expected;
+  private final List<Rectangle> ignoredRegions;
+  private final long allowedPixels;
+  private final boolean matches;
+  @Nullable
+  private final String reason;
+  private long differentPixels;
+  private boolean exact;
+  @Nullable
+  private BufferedImage diffImage;
+
+  ImageDiff(ImageComparator comparator, BufferedImage actual, BufferedImage expected, List<Rectangle> ignoredRegions,
+            long allowedPixels, long differentPixels, @Nullable String reason) {
+    this.comparator = comparator;
+    this.actual = actual;
+    this.expected = expected;
+    this.ignoredRegions = ignoredRegions;
+    this.allowedPixels = allowedPixels;
+    this.differentPixels = differentPixels;
+    this.reason = reason;
+    this.matches = reason == null && differentPixels <= allowedPixels;
+    this.exact = matches;
+  }
+
+  @CheckReturnValue
+  public boolean matches() {
+    return matches;
+  }
+
+  @CheckReturnValue
+  public long allowedPixels() {
+    return allowedPixels;
+  }
+
+  @CheckReturnValue
+  public long totalPixels() {
+    return (long) actual.getWidth() * actual.getHeight();
+  }
+
+  /**
+   * @return number of different pixels, or -1 if images have different size
+   */
+  @CheckReturnValue
+  public synchronized long differentPixels() {
+    if (!exact) {
+      calculateDiff();
+    }
+    return sameSize() ? differentPixels : -1;
+  }
+
+  /**
+   * @return image where different pixels are red (and other pixels are faded),
+   * or null if images match or have different size
+   */
+  @CheckReturnValue
+  @Nullable
+  public synchronized BufferedImage diffImage() {
+    if (!matches && diffImage == null) {
+      calculateDiff();
+    }
+    return diffImage;
+  }
+
+  private void calculateDiff() {
+    exact = true;
+    if (sameSize()) {
+      int width = actual.getWidth();
+      int height = actual.getHeight();
+      int[] raster = new int[width * height];
+      differentPixels = comparator.diff(actual, expected, ignoredRegions, raster);
+      diffImage = new BufferedImage(width, height, TYPE_INT_RGB);
+      diffImage.setRGB(0, 0, width, height, raster, 0, width);
+    }
+  }
+
+  private boolean sameSize() {
+    return actual.getWidth() == expected.getWidth() && actual.getHeight() == expected.getHeight();
+  }
+
+  @Override
+  public String toString() {
+    if (!sameSize()) {
+      return String.valueOf(reason);
+    }
+    String pixels = String.format("Different pixels: %s of %s (%.2f%%), allowed: %s",
+      differentPixels(), totalPixels(), 100.0 * differentPixels() / totalPixels(), allowedPixels);
+    return reason == null ? pixels : reason + System.lineSeparator() + pixels;
+  }
+}
@@ -0,0 +1,225 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.ex.PageObjectException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Everything {@link SelenidePageFactory} needs to know about a page object class (or a container class),
+ * computed once per class: its own declared fields with method handles to read and write them,
+ * selectors built from their annotations, and a method handle of the no-arg constructor.
+ * <p>
+ * Only fields declared by the class itself are included (superclasses have their own plans).
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+final class PageObjectPlan {
+  private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+
+  private static final ClassValue<PageObjectPlan> plans = new ClassValue<PageObjectPlan>() {
+    @Override
+    protected PageObjectPlan computeValue(Class<?> type) {
+      return new PageObjectPlan(type);
+    }
+  };
+
+  private final Class<?> type;
+  private final List<FieldPlan> fields;
+  private final Map<Field, FieldPlan> fieldsByField;
+  private final Type[] genericInterfaces;
+  @Nullable
+  private final MethodHandle constructor;
+  @Nullable
+  private final ReflectiveOperationException constructorError;
+
+  private PageObjectPlan(Class<?> type) {
+    this.type = type;
+    Field[] declaredFields = type.getDeclaredFields();
+    FieldPlan[] plans = new FieldPlan[declaredFields.length];
+    fieldsByField = new HashMap<>(declaredFields.length * 2);
+    for (int i = 0; i < declaredFields.length; i++) {
+      plans[i] = new FieldPlan(declaredFields[i]);
+      fieldsByField.put(declaredFields[i], plans[i]);
+    }
+    fields = unmodifiableList(asList(plans));
+    genericInterfaces = type.getGenericInterfaces();
+
+    MethodHandle handle = null;
+    ReflectiveOperationException error = null;
+    try {
+      Constructor<?> declaredConstructor = type.getDeclaredConstructor();
+      declaredConstructor.setAccessible(true);
+      handle = MethodHandles.lookup().unreflectConstructor(declaredConstructor).asType(CONSTRUCTOR);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) {
+      error = e instanceof ReflectiveOperationException ? (ReflectiveOperationException) e : new InstantiationException(e.toString());
+    }
+    constructor = handle;
+    constructorError = error;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  static PageObjectPlan of(Class<?> type) {
+    return plans.get(type);
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  static FieldPlan of(Field field) {
+    FieldPlan plan = of(field.getDeclaringClass()).fieldsByField.get(field);
+    if (plan == null) {
+      throw new IllegalArgumentException("Field " + field + " is not declared in " + field.getDeclaringClass());
+    }
+    return plan;
+  }
+
+  /**
+   * @return fields declared by this class (in the order of {@link Class#getDeclaredFields()})
+   */
+  @CheckReturnValue
+  @Nonnull
+  List<FieldPlan> fields() {
+    return fields;
+  }
+
+  /**
+   * @return generic interfaces of the class (the returned array must not be modified)
+   */
+  @CheckReturnValue
+  @Nonnull
+  Type[] genericInterfaces() {
+    return genericInterfaces;
+  }
+
+  /**
+   * Creates a new instance with no-arg constructor (which may be private)
+   */
+  @CheckReturnValue
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  <T> T newInstance() throws ReflectiveOperationException {
+    if (constructor == null) {
+      throw constructorError != null ? constructorError : new InstantiationException(type.getName());
+    }
+    try {
+      return (T) (Object) constructor.invokeExact();
+    }
+    catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  @ParametersAreNonnullByDefault
+  static final class FieldPlan {
+    final Field field;
+    @Nullable
+    private final MethodHandle getter;
+    @Nullable
+    private final MethodHandle setter;
+    @Nullable
+    private final IllegalAccessException accessError;
+    @Nullable
+    private volatile By selector;
+
+    private FieldPlan(Field field) {
+      this.field = field;
+      MethodHandle get = null;
+      MethodHandle set = null;
+      IllegalAccessException error = null;
+      try {
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        get = receiverFirst(field, lookup.unreflectGetter(field)).asType(GETTER);
+        set = receiverFirst(field, lookup.unreflectSetter(field)).asType(SETTER);
+      }
+      catch (IllegalAccessException e) {
+        // e.g. static final field: reported only if Selenide really needs to assign it
+        error = e;
+      }
+      catch (RuntimeException e) {
+        error = (IllegalAccessException) new IllegalAccessException(e.toString()).initCause(e);
+      }
+      this.getter = get;
+      this.setter = set;
+      this.accessError = error;
+    }
+
+    /**
+     * Static fields don't have receiver, but all handles take the page object as the first argument
+     */
+    @Nonnull
+    private static MethodHandle receiverFirst(Field field, MethodHandle handle) {
+      return Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+
+    @CheckReturnValue
+    @Nullable
+    Object get(Object page) {
+      if (getter == null) {
+        throw new PageObjectException("Failed to access field " + field + " in " + page, accessError);
+      }
+      try {
+        return (Object) getter.invokeExact(page);
+      }
+      catch (RuntimeException | Error e) {
+        throw e;
+      }
+      catch (Throwable e) {
+        throw new IllegalStateException("Failed to access field " + field + " in " + page, e);
+      }
+    }
+
+    void set(Object page, Object value) {
+      if (setter == null) {
+        throw new PageObjectException("Failed to assign field " + field + " to value " + value, accessError);
+      }
+      try {
+        setter.invokeExact(page, value);
+      }
+      catch (RuntimeException | Error e) {
+        throw e;
+      }
+      catch (Throwable e) {
+        throw new IllegalStateException("Failed to assign field " + field + " to value " + value, e);
+      }
+    }
+
+    /**
+     * @return selector built from annotations of the field (built once, since {@link By} is immutable)
+     */
+    @CheckReturnValue
+    @Nonnull
+    By selector() {
+      By result = selector;
+      if (result == null) {
+        result = new Annotations(field).buildBy();
+        selector = result;
+      }
+      return result;
+    }
+  }
+}
@@ -2,9 +2,34 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebElement;
 
 import java.util.Optional;
 
+import static org.openqa.selenium.OutputType.BYTES;
+
 public interface Photographer {
   <T> Optional<T> takeScreenshot(Driver driver, OutputType<T> outputType);
+
+  /**
+   * Takes screenshot of the current browser window
+   *
+   * @param format desired image format ("png", "jpeg" or "webp") - the photographer is free to ignore it and return PNG
+   * @param quality quality (0..100) of JPEG and WebP images
+   * @since 6.1.0
+   */
+  default Optional<byte[]> takeScreenshot(Driver driver, String format, int quality) {
+    return takeScreenshot(driver, BYTES);
+  }
+
+  /**
+   * Takes screenshot of given element (it may be located inside a frame the driver is switched to)
+   *
+   * @param format desired image format ("png", "jpeg" or "webp") - the photographer is free to ignore it and return PNG
+   * @param quality quality (0..100) of JPEG and WebP images
+   * @since 6.1.0
+   */
+  default Optional<byte[]> takeScreenshot(Driver driver, WebElement element, String format, int quality) {
+    return Optional.of(element.getScreenshotAs(BYTES));
+  }
 }
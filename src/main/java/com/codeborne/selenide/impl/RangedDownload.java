@@ -0,0 +1,239 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Saves response body using HTTP "Range" requests:
+ * 1. resumes an interrupted transfer from the last received byte instead of starting from scratch;
+ * 2. downloads large files in several parallel chunks, each written to its own position of the file.
+ * <p>
+ * Every partial response is validated by its "Content-Range" and by "ETag"/"Last-Modified" of the first response,
+ * so that parts of different file versions never get mixed.
+ * </p>
+ */
+@ParametersAreNonnullByDefault
+class RangedDownload {
+  private static final Logger log = LoggerFactory.getLogger(RangedDownload.class);
+  private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+  private static final int SC_PARTIAL_CONTENT = 206;
+  static final long MIN_CHUNK_SIZE = 1024 * 1024;
+
+  private final String url;
+  private final int resumeAttempts;
+  private final RangeRequest rangeRequest;
+  private final long contentLength;
+  private final boolean acceptsRanges;
+  @Nullable
+  private final String etag;
+  @Nullable
+  private final String ifRange;
+
+  RangedDownload(String url, HttpResponse firstResponse, long contentLength, int resumeAttempts, RangeRequest rangeRequest) {
+    this.url = url;
+    this.resumeAttempts = resumeAttempts;
+    this.rangeRequest = rangeRequest;
+    this.contentLength = contentLength;
+    this.acceptsRanges = "bytes".equalsIgnoreCase(header(firstResponse, "Accept-Ranges"));
+    this.etag = header(firstResponse, "ETag");
+    boolean strongEtag = etag != null && !etag.startsWith("W/");
+    this.ifRange = strongEtag ? etag : header(firstResponse, "Last-Modified");
+  }
+
+  /**
+   * @return number of parallel chunks to download the file with (1 means "at once")
+   */
+  @CheckReturnValue
+  int chunks(int maxChunks) {
+    if (!acceptsRanges || ifRange == null || contentLength < 2 * MIN_CHUNK_SIZE) {
+      return 1;
+    }
+    return (int) Math.max(1, Math.min(maxChunks, contentLength / MIN_CHUNK_SIZE));
+  }
+
+  @CheckReturnValue
+  long contentLength() {
+    return contentLength;
+  }
+
+  /**
+   * Copies the whole response body to {@code out}, resuming the transfer if connection breaks.
+   */
+  void save(ClassicHttpResponse firstResponse, OutputStream out) throws IOException {
+    transfer(firstResponse, 0, contentLength - 1, (buffer, length, position) -> out.write(buffer, 0, length));
+  }
+
+  /**
+   * Downloads {@code chunks} parts of the file in parallel and writes them directly to their positions in {@code file}.
+   * Every chunk (including the first one) is requested with "Range" header, while {@code firstResponse} is discarded unread:
+   * closing it normally would make httpclient drain the whole body just to reuse the connection.
+   */
+  void saveInChunks(ClassicHttpResponse firstResponse, File file, int chunks) throws IOException {
+    discard(firstResponse);
+    long chunkSize = (contentLength + chunks - 1) / chunks;
+    ExecutorService executor = newFixedThreadPool(chunks - 1);
+    try (FileChannel channel = FileChannel.open(file.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+      Sink sink = (buffer, length, position) -> write(channel, buffer, length, position);
+      List<Future<?>> futures = new ArrayList<>(chunks - 1);
+      for (long from = chunkSize; from < contentLength; from += chunkSize) {
+        long start = from;
+        long end = Math.min(contentLength, from + chunkSize) - 1;
+        futures.add(executor.submit(() -> {
+          transfer(requestRange(start, end), start, end, sink);
+          return null;
+        }));
+      }
+      transfer(requestRange(0, chunkSize - 1), 0, chunkSize - 1, sink);
+      for (Future<?> future : futures) {
+        await(future);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void transfer(ClassicHttpResponse firstResponse, long from, long to, Sink sink) throws IOException {
+    byte[] buffer = new byte[8192];
+    long position = from;
+    ClassicHttpResponse response = firstResponse;
+    for (int attempt = 1; ; attempt++) {
+      try (ClassicHttpResponse current = response; InputStream in = current.getEntity().getContent()) {
+        int read;
+        while ((read = in.read(buffer, 0, bytesToRead(buffer, position, to))) > 0) {
+          sink.write(buffer, read, position);
+          position += read;
+        }
+        break;
+      }
+      catch (IOException e) {
+        if (attempt > resumeAttempts || ifRange == null) {
+          throw e;
+        }
+        log.warn("Download of {} interrupted after {} bytes ({}), resuming (attempt {}/{})",
+          url, position - from, e.toString(), attempt, resumeAttempts);
+      }
+      response = requestRange(position, to);
+    }
+
+    if (to >= 0 && position != to + 1) {
+      throw new IOException(String.format("Failed to download %s: received %s bytes instead of %s",
+        url, position - from, to + 1 - from));
+    }
+  }
+
+  private void discard(ClassicHttpResponse response) {
+    try {
+      InputStream content = response.getEntity() == null ? null : response.getEntity().getContent();
+      if (content instanceof EofSensorInputStream) {
+        ((EofSensorInputStream) content).abort();
+      }
+      response.close();
+    }
+    catch (IOException e) {
+      log.debug("Failed to discard response of {}: {}", url, e.toString());
+    }
+  }
+
+  private int bytesToRead(byte[] buffer, long position, long to) {
+    return to < 0 ? buffer.length : (int) Math.min(buffer.length, to + 1 - position);
+  }
+
+  @Nonnull
+  private ClassicHttpResponse requestRange(long from, long to) throws IOException {
+    String range = "bytes=" + from + "-" + (to >= 0 ? String.valueOf(to) : "");
+    ClassicHttpResponse response = rangeRequest.execute(range, ifRange);
+    if (response.getCode() != SC_PARTIAL_CONTENT || !isSameVersion(response, from)) {
+      response.close();
+      throw new IOException(String.format("Cannot download %s of %s (file has changed or server doesn't support ranges): %s",
+        range, url, response));
+    }
+    return response;
+  }
+
+  @CheckReturnValue
+  private boolean isSameVersion(HttpResponse response, long from) {
+    String contentRange = header(response, "Content-Range");
+    Matcher matcher = contentRange == null ? null : CONTENT_RANGE.matcher(contentRange);
+    if (matcher == null || !matcher.matches() || Long.parseLong(matcher.group(1)) != from) {
+      return false;
+    }
+    String totalLength = matcher.group(3);
+    if (contentLength >= 0 && !"*".equals(totalLength) && Long.parseLong(totalLength) != contentLength) {
+      return false;
+    }
+    return etag == null || etag.equals(header(response, "ETag"));
+  }
+
+  private static void write(FileChannel channel, byte[] buffer, int length, long position) throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, length);
+    long offset = position;
+    while (bytes.hasRemaining()) {
+      offset += channel.write(bytes, offset);
+    }
+  }
+
+  private static void await(Future<?> future) throws IOException {
+    try {
+      future.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while downloading file");
+    }
+    catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  @Nullable
+  private static String header(HttpResponse response, String name) {
+    Header header = response.getFirstHeader(name);
+    return header == null ? null : header.getValue();
+  }
+
+  /**
+   * Executes GET request with given "Range" and "If-Range" headers
+   */
+  @FunctionalInterface
+  interface RangeRequest {
+    @Nonnull
+    ClassicHttpResponse execute(String range, @Nullable String ifRange) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface Sink {
+    void write(byte[] buffer, int length, long position) throws IOException;
+  }
+}
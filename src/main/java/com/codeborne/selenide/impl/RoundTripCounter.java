@@ -0,0 +1,166 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.RoundTrips;
+import com.codeborne.selenide.logevents.SelenideLog;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.codeborne.selenide.RoundTrips.NO_STEP;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Counts webdriver commands sent by the current thread, and attributes them to the current Selenide step.
+ * <p>
+ * Browsers are decorated with this listener if {@link com.codeborne.selenide.Config#countRoundTrips()} is enabled,
+ * or once the first recording has been started (see {@link #isRequested()}).
+ * Commands are counted only while some recording is active in the current thread (see {@link #start()}),
+ * so that otherwise the listener costs a single thread-local lookup.
+ * Commands which don't go to the browser (like {@code driver.manage()} or {@code getWrappedDriver()}) are not counted.
+ * </p>
+ * <p>
+ * Browsers opened without this listener are remembered until closed: a recording cannot tell how many commands
+ * its thread has sent to them, so it fails instead of reporting too few round trips (see {@link Recording#roundTrips()}).
+ * </p>
+ *
+ * @see com.codeborne.selenide.Selenide#roundTrips(Runnable)
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class RoundTripCounter implements WebDriverListener {
+  public static final RoundTripCounter instance = new RoundTripCounter();
+
+  private final ThreadLocal<List<Recording>> recordings = ThreadLocal.withInitial(ArrayList::new);
+  private final Map<WebDriver, Long> uncountedBrowsers = synchronizedMap(new WeakHashMap<>());
+  private volatile boolean requested;
+
+  /**
+   * @return true if somebody has started counting round trips (so browsers opened from now on should be counted)
+   */
+  @CheckReturnValue
+  public boolean isRequested() {
+    return requested;
+  }
+
+  /**
+   * Remembers that the current thread has got a browser, which is either decorated with this listener or not.
+   */
+  public void opened(WebDriver webDriver, boolean counted) {
+    if (!counted) {
+      uncountedBrowsers.put(webDriver, currentThread().getId());
+    }
+  }
+
+  /**
+   * Forgets the browser (it's closed or returned to the pool), possibly in another thread than it was opened.
+   */
+  public void closed(WebDriver webDriver) {
+    uncountedBrowsers.remove(webDriver);
+  }
+
+  @CheckReturnValue
+  private boolean hasUncountedBrowser() {
+    return uncountedBrowsers.containsValue(currentThread().getId());
+  }
+
+  /**
+   * Starts counting webdriver commands sent by the current thread.
+   * Recordings can be nested: every command is counted by all active recordings.
+   */
+  @CheckReturnValue
+  @Nonnull
+  public Recording start() {
+    requested = true;
+    Recording recording = new Recording();
+    recordings.get().add(recording);
+    return recording;
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  public RoundTrips count(Runnable code) {
+    Recording recording = start();
+    try {
+      code.run();
+    }
+    finally {
+      recording.stop();
+    }
+    return recording.roundTrips();
+  }
+
+  @Override
+  public void beforeAnyCall(Object target, Method method, Object[] args) {
+    List<Recording> active = recordings.get();
+    if (active.isEmpty() || isLocal(method)) {
+      return;
+    }
+    SelenideLog step = SelenideLogger.currentStep();
+    String stepName = step == null ? NO_STEP : step.toString();
+    for (Recording recording : active) {
+      recording.count(stepName);
+    }
+  }
+
+  /**
+   * @return true for methods of webdriver (and objects returned by it) which don't send any command to the browser
+   */
+  @CheckReturnValue
+  public static boolean isLocal(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    return declaringClass == Object.class
+      || declaringClass == WrapsDriver.class
+      || declaringClass == WrapsElement.class
+      || declaringClass == HasCapabilities.class
+      || method.getReturnType().getDeclaringClass() == WebDriver.class;
+  }
+
+  @ParametersAreNonnullByDefault
+  public class Recording {
+    private final Map<String, Integer> steps = new LinkedHashMap<>();
+    private boolean blind = hasUncountedBrowser();
+
+    private Recording() {
+    }
+
+    private synchronized void count(String step) {
+      steps.merge(step, 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting (must be called in the same thread which started the recording)
+     */
+    public synchronized void stop() {
+      recordings.get().remove(this);
+      blind |= hasUncountedBrowser();
+    }
+
+    /**
+     * @throws IllegalStateException if the thread has used a browser opened before counting was requested
+     *                               (and {@link com.codeborne.selenide.Config#countRoundTrips()} was disabled)
+     */
+    @CheckReturnValue
+    @Nonnull
+    public synchronized RoundTrips roundTrips() {
+      if (blind) {
+        throw new IllegalStateException("Cannot count round trips of a browser opened before counting started. " +
+          "Enable countRoundTrips (-Dselenide.countRoundTrips=true) or reopen the browser.");
+      }
+      return new RoundTrips(steps);
+    }
+  }
+}
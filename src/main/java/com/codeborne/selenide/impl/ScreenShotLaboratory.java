@@ -3,6 +3,7 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -18,10 +19,8 @@ import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -35,14 +34,14 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
-import static com.codeborne.selenide.impl.FileHelper.ensureParentFolderExists;
+import static com.codeborne.selenide.impl.FileHelper.ensureFolderExists;
 import static com.codeborne.selenide.impl.Plugins.inject;
 import static java.io.File.separatorChar;
+import static java.lang.System.nanoTime;
 import static java.lang.ThreadLocal.withInitial;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.joining;
-import static org.openqa.selenium.OutputType.BYTES;
 import static org.openqa.selenium.OutputType.FILE;
 
 @ParametersAreNonnullByDefault
@@ -127,11 +126,13 @@ public class ScreenShotLaboratory {
   @CheckReturnValue
   @Nonnull
   private Screenshot takeScreenShot(Config config, Driver driver, String fileName, boolean saveScreenshot, boolean savePageSource) {
+    long start = nanoTime();
     File source = savePageSource ? savePageSourceToFile(config, fileName, driver) : null;
     File image = saveScreenshot ? savePageImageToFile(config, fileName, driver) : null;
     if (image != null) {
       addToHistory(image);
     }
+    SelenideLogger.phase("screenshot", fileName, start);
     return new Screenshot(toUrl(config, image), toUrl(config, source));
   }
 
@@ -139,9 +140,11 @@ public class ScreenShotLaboratory {
   @Nullable
   public File takeScreenshot(Driver driver, WebElement element) {
     try {
-      BufferedImage destination = takeScreenshotAsImage(driver, element);
-      if (destination != null) {
-        return writeToFile(driver, destination);
+      CapturedImage screenshot = ifWebDriverStarted(driver, webdriver ->
+        ifReportsFolderNotNull(driver.config(), config ->
+          captureElement(driver, element, config.screenshotFormat(), config.screenshotQuality()).orElse(null)));
+      if (screenshot != null) {
+        return writeToFile(driver, screenshot);
       }
     }
     catch (IOException e) {
@@ -154,26 +157,31 @@ public class ScreenShotLaboratory {
   @Nullable
   public BufferedImage takeScreenshotAsImage(Driver driver, WebElement element) {
     return ifWebDriverStarted(driver, webdriver ->
-      ifReportsFolderNotNull(driver.config(), config ->
-        takeElementScreenshotAsImage(driver, element).orElse(null)));
+      ifReportsFolderNotNull(driver.config(), config -> captureImage(driver, element)));
+  }
+
+  /**
+   * Takes screenshot of given element without saving it to file, so it doesn't need {@link Config#reportsFolder()}
+   *
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nullable
+  public BufferedImage captureImage(Driver driver, WebElement element) {
+    return ifWebDriverStarted(driver, webdriver ->
+      captureElement(driver, element, "png", 100).map(CapturedImage::image).orElse(null));
   }
 
   @CheckReturnValue
   @Nonnull
-  private Optional<BufferedImage> takeElementScreenshotAsImage(Driver driver, WebElement element) {
+  private Optional<CapturedImage> captureElement(Driver driver, WebElement element, String format, int quality) {
     if (!(driver.getWebDriver() instanceof TakesScreenshot)) {
       log.warn("Cannot take screenshot because browser does not support screenshots");
       return Optional.empty();
     }
 
     try {
-      byte[] screenshot = element.getScreenshotAs(BYTES);
-      try (InputStream in = new ByteArrayInputStream(screenshot)) {
-        return Optional.of(ImageIO.read(in));
-      }
-      catch (IOException e) {
-        throw new RuntimeException("Failed to take element screenshot", e);
-      }
+      return photographer.takeScreenshot(driver, element, format, quality).map(CapturedImage::new);
     }
     catch (InvalidElementStateException elementIsNotVisible) {
       log.error("Failed to take element screenshot: {}", elementIsNotVisible.toString());
@@ -191,9 +199,11 @@ public class ScreenShotLaboratory {
   @Nullable
   public File takeScreenshot(Driver driver, WebElement iframe, SelenideElement element) {
     try {
-      BufferedImage destination = takeScreenshotAsImage(driver, iframe, element);
-      if (destination != null) {
-        return writeToFile(driver, destination);
+      CapturedImage screenshot = ifWebDriverStarted(driver, webdriver ->
+        ifReportsFolderNotNull(driver.config(), config ->
+          captureElement(driver, iframe, element, config.screenshotFormat(), config.screenshotQuality())));
+      if (screenshot != null) {
+        return writeToFile(driver, screenshot);
       }
     }
     catch (IOException e) {
@@ -204,35 +214,59 @@ public class ScreenShotLaboratory {
 
   @CheckReturnValue
   @Nonnull
-  private File writeToFile(Driver driver, BufferedImage destination) throws IOException {
-    File screenshotOfElement = new File(driver.config().reportsFolder(), generateScreenshotFileName() + ".png").getAbsoluteFile();
-    ensureParentFolderExists(screenshotOfElement);
-    ImageIO.write(destination, "png", screenshotOfElement);
+  private File writeToFile(Driver driver, CapturedImage screenshot) throws IOException {
+    File screenshotOfElement = new File(driver.config().reportsFolder(),
+      generateScreenshotFileName() + '.' + screenshot.extension()).getAbsoluteFile();
+    screenshot.writeTo(screenshotOfElement);
     return screenshotOfElement;
   }
 
   @CheckReturnValue
   @Nullable
   public BufferedImage takeScreenshotAsImage(Driver driver, WebElement iframe, SelenideElement element) {
-    return ifWebDriverStarted(driver, webdriver ->
+    CapturedImage screenshot = ifWebDriverStarted(driver, webdriver ->
       ifReportsFolderNotNull(driver.config(), config ->
-        takeElementScreenshotAsImage(driver, iframe, element)
+        captureElement(driver, iframe, element, "png", 100)
       ));
+    return screenshot == null ? null : screenshot.image();
   }
 
   @Nullable
   @CheckReturnValue
-  private BufferedImage takeElementScreenshotAsImage(Driver driver, WebElement iframe, SelenideElement element) {
+  private CapturedImage captureElement(Driver driver, WebElement iframe, SelenideElement element, String format, int quality) {
     driver.switchTo().frame(iframe);
     try {
       WebElement webElement = element.toWebElement();
-      return takeElementScreenshotAsImage(driver, webElement).orElse(null);
+      return captureElement(driver, webElement, format, quality).orElse(null);
     }
     finally {
       driver.switchTo().parentFrame();
     }
   }
 
+  /**
+   * Saves given image (e.g. diff of visual comparison) to reports folder
+   *
+   * @return the saved file, or null if failed to save it
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nullable
+  public File saveImage(Driver driver, BufferedImage image) {
+    return ifReportsFolderNotNull(driver.config(), config -> {
+      File file = new File(config.reportsFolder(), generateScreenshotFileName() + ".diff.png").getAbsoluteFile();
+      try {
+        ensureFolderExists(file.getParentFile());
+        ImageIO.write(image, "png", file);
+        return file;
+      }
+      catch (IOException e) {
+        log.error("Failed to save image to {}", file, e);
+        return null;
+      }
+    });
+  }
+
   @CheckReturnValue
   @Nullable
   public File takeScreenShotAsFile(Driver driver) {
@@ -265,14 +299,15 @@ public class ScreenShotLaboratory {
   @Nullable
   protected File savePageImageToFile(Config config, String fileName, Driver driver) {
     try {
-      Optional<byte[]> scrFile = photographer.takeScreenshot(driver, BYTES);
+      Optional<byte[]> scrFile = photographer.takeScreenshot(driver, config.screenshotFormat(), config.screenshotQuality());
       if (!scrFile.isPresent()) {
         log.info("Webdriver doesn't support screenshots");
         return null;
       }
-      File imageFile = new File(config.reportsFolder(), fileName + ".png").getAbsoluteFile();
+      CapturedImage screenshot = new CapturedImage(scrFile.get());
+      File imageFile = new File(config.reportsFolder(), fileName + '.' + screenshot.extension()).getAbsoluteFile();
       try {
-        FileHelper.writeToFile(scrFile.get(), imageFile);
+        screenshot.writeTo(imageFile);
       }
       catch (IOException e) {
         log.error("Failed to save screenshot to {}", imageFile, e);
@@ -28,6 +28,7 @@ import java.util.Set;
 import static com.codeborne.selenide.AssertionMode.SOFT;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.lang.System.nanoTime;
 import static java.util.Arrays.asList;
 
 @ParametersAreNonnullByDefault
@@ -57,7 +58,8 @@ class SelenideElementProxy implements InvocationHandler {
       "shouldHave",
       "shouldNot",
       "shouldNotHave",
-      "shouldNotBe"
+      "shouldNotBe",
+      "shouldLookLike"
   ));
 
   private final WebElementSource webElementSource;
@@ -125,7 +127,10 @@ class SelenideElementProxy implements InvocationHandler {
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
 
     Throwable lastError;
+    int attempt = 0;
     do {
+      long attemptStart = nanoTime();
+      attempt++;
       try {
         if (isSelenideElementMethod(method)) {
           return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
@@ -146,6 +151,8 @@ class SelenideElementProxy implements InvocationHandler {
       else if (!shouldRetryAfterError(lastError)) {
         throw lastError;
       }
+      webElementSource.invalidate();
+      SelenideLogger.phase("retry", "attempt " + attempt + " failed: " + lastError.getClass().getSimpleName(), attemptStart);
       stopwatch.sleep(pollingIntervalMs);
     }
     while (!stopwatch.isTimeoutReached());
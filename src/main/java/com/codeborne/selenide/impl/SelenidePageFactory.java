@@ -10,7 +10,6 @@ import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.FindBys;
-import org.openqa.selenium.support.pagefactory.Annotations;
 import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
 import org.openqa.selenium.support.pagefactory.FieldDecorator;
@@ -21,7 +20,6 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -44,9 +42,7 @@ public class SelenidePageFactory implements PageObjectFactory {
   @Nonnull
   public <PageObjectClass> PageObjectClass page(Driver driver, Class<PageObjectClass> pageObjectClass) {
     try {
-      Constructor<PageObjectClass> constructor = pageObjectClass.getDeclaredConstructor();
-      constructor.setAccessible(true);
-      return page(driver, constructor.newInstance());
+      return page(driver, PageObjectPlan.of(pageObjectClass).<PageObjectClass>newInstance());
     }
     catch (ReflectiveOperationException e) {
       throw new PageObjectException("Failed to create new instance of " + pageObjectClass, e);
@@ -57,7 +53,7 @@ public class SelenidePageFactory implements PageObjectFactory {
   @CheckReturnValue
   @Nonnull
   public <PageObjectClass, T extends PageObjectClass> PageObjectClass page(Driver driver, T pageObject) {
-    Type[] types = pageObject.getClass().getGenericInterfaces();
+    Type[] types = PageObjectPlan.of(pageObject.getClass()).genericInterfaces();
     initElements(driver, null, pageObject, types);
     return pageObject;
   }
@@ -78,8 +74,8 @@ public class SelenidePageFactory implements PageObjectFactory {
 
   protected void initFields(Driver driver, @Nullable WebElementSource searchContext,
                             Object page, Class<?> proxyIn, Type[] genericTypes) {
-    Field[] fields = proxyIn.getDeclaredFields();
-    for (Field field : fields) {
+    for (PageObjectPlan.FieldPlan fieldPlan : PageObjectPlan.of(proxyIn).fields()) {
+      Field field = fieldPlan.field;
       if (!isInitialized(page, field)) {
         By selector = findSelector(driver, field);
         Object value = decorate(page.getClass().getClassLoader(), driver, searchContext, field, selector, genericTypes);
@@ -92,28 +88,16 @@ public class SelenidePageFactory implements PageObjectFactory {
 
   @Nonnull
   protected By findSelector(Driver driver, Field field) {
-    return new Annotations(field).buildBy();
+    return PageObjectPlan.of(field).selector();
   }
 
   protected void setFieldValue(Object page, Field field, Object value) {
-    try {
-      field.setAccessible(true);
-      field.set(page, value);
-    }
-    catch (IllegalAccessException e) {
-      throw new PageObjectException("Failed to assign field " + field + " to value " + value, e);
-    }
+    PageObjectPlan.of(field).set(page, value);
   }
 
   @CheckReturnValue
   protected boolean isInitialized(Object page, Field field) {
-    try {
-      field.setAccessible(true);
-      return field.get(page) != null;
-    }
-    catch (IllegalAccessException e) {
-      throw new PageObjectException("Failed to access field " + field + " in " + page, e);
-    }
+    return PageObjectPlan.of(field).get(page) != null;
   }
 
   @Override
@@ -151,9 +135,7 @@ public class SelenidePageFactory implements PageObjectFactory {
     if (Modifier.isAbstract(type.getModifiers())) {
       throw new IllegalArgumentException("Cannot initialize field " + field + ": " + type + " is abstract");
     }
-    Constructor<?> constructor = type.getDeclaredConstructor();
-    constructor.setAccessible(true);
-    ElementsContainer result = (ElementsContainer) constructor.newInstance();
+    ElementsContainer result = PageObjectPlan.of(type).newInstance();
     initElements(driver, self, result, genericTypes);
     return result;
   }
@@ -164,7 +146,7 @@ public class SelenidePageFactory implements PageObjectFactory {
   public final Object decorate(ClassLoader loader,
                                Driver driver, @Nullable WebElementSource searchContext,
                                Field field, By selector) {
-    Type[] classGenericTypes = field.getDeclaringClass().getGenericInterfaces();
+    Type[] classGenericTypes = PageObjectPlan.of(field.getDeclaringClass()).genericInterfaces();
     return decorate(loader, driver, searchContext, field, selector, classGenericTypes);
   }
 
@@ -0,0 +1,43 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Unwraps the original browser from decorators and event firing wrappers.
+ * <p>
+ * Unwrapping is limited by {@link #MAX_DEPTH} layers: a Selenium decorator which decorates another decorator
+ * returns itself (decorated again) from {@link WrapsDriver#getWrappedDriver()}, so it cannot be unwrapped.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public final class WebDriverUnwrapper {
+  static final int MAX_DEPTH = 10;
+
+  private WebDriverUnwrapper() {
+  }
+
+  /**
+   * @return the innermost webdriver which is not a {@link WrapsDriver},
+   * or the given webdriver if it cannot be unwrapped within {@link #MAX_DEPTH} layers
+   */
+  @CheckReturnValue
+  @Nonnull
+  public static WebDriver unwrap(WebDriver webDriver) {
+    WebDriver driver = webDriver;
+    for (int depth = 0; depth < MAX_DEPTH && driver instanceof WrapsDriver; depth++) {
+      WebDriver wrapped = ((WrapsDriver) driver).getWrappedDriver();
+      if (wrapped == null || wrapped == driver) {
+        return driver;
+      }
+      driver = wrapped;
+    }
+    return driver instanceof WrapsDriver ? webDriver : driver;
+  }
+}
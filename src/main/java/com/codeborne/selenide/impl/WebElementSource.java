@@ -44,6 +44,16 @@ public abstract class WebElementSource {
   @Nonnull
   public abstract String getSearchCriteria();
 
+  /**
+   * Forget the web element found before (if this source caches it),
+   * so that it's found again on the next attempt.
+   * Called after a failed attempt to act on the element (e.g. because the element is stale).
+   *
+   * @since 6.1.0
+   */
+  public void invalidate() {
+  }
+
   public void setAlias(String alias) {
     this.alias = new Alias(alias);
   }
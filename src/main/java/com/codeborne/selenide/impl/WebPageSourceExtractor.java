@@ -11,17 +11,38 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.zip.GZIPOutputStream;
 
+import static java.nio.charset.CodingErrorAction.REPLACE;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
+/**
+ * Saves page source to a file.
+ * <p>
+ * Page source is encoded to UTF-8 chunk by chunk straight into the file (optionally gzipped),
+ * so that big page sources are not copied in memory.
+ * </p>
+ *
+ * @see Config#pageSourceCompression()
+ * @see Config#pageSourceMaxSize()
+ */
 @ParametersAreNonnullByDefault
 public class WebPageSourceExtractor implements PageSourceExtractor {
   private static final Logger log = LoggerFactory.getLogger(WebPageSourceExtractor.class);
+  static final int BUFFER_SIZE = 64 * 1024;
   private final Set<String> printedErrors = new ConcurrentSkipListSet<>();
 
   @Nonnull
@@ -34,7 +55,7 @@ public class WebPageSourceExtractor implements PageSourceExtractor {
   private File extract(Config config, WebDriver driver, String fileName, boolean retryIfAlert) {
     File pageSource = createFile(config, fileName);
     try {
-      writeToFile(driver.getPageSource(), pageSource);
+      writeToFile(config, driver.getPageSource(), pageSource);
     }
     catch (UnhandledAlertException e) {
       if (retryIfAlert) {
@@ -46,30 +67,120 @@ public class WebPageSourceExtractor implements PageSourceExtractor {
     }
     catch (WebDriverException e) {
       log.warn("Failed to save page source to {}", fileName, e);
-      writeToFile(e.toString(), pageSource);
+      writeToFile(config, e.toString(), pageSource);
       return pageSource;
     }
     catch (RuntimeException e) {
       log.error("Failed to save page source to {}", fileName, e);
-      writeToFile(e.toString(), pageSource);
+      writeToFile(config, e.toString(), pageSource);
     }
     return pageSource;
   }
 
   @Nonnull
   protected File createFile(Config config, String fileName) {
-    return new File(config.reportsFolder(), fileName + ".html").getAbsoluteFile();
+    String extension = gzip(config) ? ".html.gz" : ".html";
+    return new File(config.reportsFolder(), fileName + extension).getAbsoluteFile();
   }
 
   protected void writeToFile(String content, File targetFile) {
-    try (ByteArrayInputStream in = new ByteArrayInputStream(content.getBytes(UTF_8))) {
-      FileHelper.copyFile(in, targetFile);
+    writeToFile(content, targetFile, false, 0);
+  }
+
+  /**
+   * Writes page source compressed and truncated according to given config.
+   * Without compression and size limit, delegates to {@link #writeToFile(String, File)}
+   * (so subclasses overriding it need to override this method only to support compression or size limit).
+   *
+   * @since 6.1.0
+   */
+  protected void writeToFile(Config config, String content, File targetFile) {
+    boolean gzip = gzip(config);
+    if (!gzip && config.pageSourceMaxSize() <= 0) {
+      writeToFile(content, targetFile);
+    }
+    else {
+      writeToFile(content, targetFile, gzip, config.pageSourceMaxSize());
+    }
+  }
+
+  private void writeToFile(String content, File targetFile, boolean gzip, long maxSize) {
+    FileHelper.ensureParentFolderExists(targetFile);
+    try (WritableByteChannel out = open(targetFile, gzip)) {
+      int written = encode(content, out, maxSize);
+      if (written < content.length()) {
+        log.warn("Page source is truncated to {} bytes: {}", maxSize, targetFile.getAbsolutePath());
+        encode(String.format("%n<!-- Page source truncated by Selenide: %s of %s characters -->%n", written, content.length()), out, 0);
+      }
     }
     catch (IOException e) {
       log.error("Failed to write file {}", targetFile.getAbsolutePath(), e);
     }
   }
 
+  @CheckReturnValue
+  @Nonnull
+  private WritableByteChannel open(File targetFile, boolean gzip) throws IOException {
+    FileChannel file = FileChannel.open(targetFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING);
+    return gzip ? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(file), BUFFER_SIZE)) : file;
+  }
+
+  /**
+   * Encodes given text to UTF-8 through a fixed-size buffer.
+   * Encoding stops at a character boundary when {@code maxSize} bytes are written.
+   *
+   * @param maxSize max number of bytes to write (zero means no limit)
+   * @return number of written characters
+   */
+  static int encode(String content, WritableByteChannel out, long maxSize) throws IOException {
+    CharsetEncoder encoder = UTF_8.newEncoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+    CharBuffer in = CharBuffer.wrap(content);
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    long remaining = maxSize > 0 ? maxSize : Long.MAX_VALUE;
+    while (in.hasRemaining()) {
+      buffer.limit((int) Math.min(remaining, BUFFER_SIZE));
+      encoder.encode(in, buffer, true);
+      buffer.flip();
+      if (!buffer.hasRemaining()) {
+        break;
+      }
+      remaining -= buffer.remaining();
+      while (buffer.hasRemaining()) {
+        out.write(buffer);
+      }
+      buffer.clear();
+    }
+    return in.position();
+  }
+
+  /**
+   * @return true if page source should be gzipped (unsupported compression is reported once and ignored)
+   */
+  @CheckReturnValue
+  private boolean gzip(Config config) {
+    try {
+      return "gzip".equalsIgnoreCase(checkPageSourceCompression(config.pageSourceCompression()));
+    }
+    catch (IllegalArgumentException e) {
+      printOnce("pageSourceCompression", e);
+      return false;
+    }
+  }
+
+  /**
+   * @return the given page source compression, if it's supported
+   * @throws IllegalArgumentException if the compression is not supported
+   * @see Config#pageSourceCompression()
+   * @since 6.1.0
+   */
+  @Nonnull
+  public static String checkPageSourceCompression(String compression) {
+    if (!"gzip".equalsIgnoreCase(compression) && !"none".equalsIgnoreCase(compression)) {
+      throw new IllegalArgumentException("Unsupported page source compression: " + compression + " (expected: none or gzip)");
+    }
+    return compression;
+  }
+
   protected synchronized void printOnce(String action, Throwable error) {
     if (!printedErrors.contains(action)) {
       log.error(error.getMessage(), error);
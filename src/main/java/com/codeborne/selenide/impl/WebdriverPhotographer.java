@@ -3,10 +3,20 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.Driver;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebElement;
 
 import java.util.Optional;
 
+import static org.openqa.selenium.OutputType.BYTES;
+
+/**
+ * Takes PNG screenshots with webdriver.
+ * Screenshots in other formats (see {@link com.codeborne.selenide.Config#screenshotFormat()})
+ * are taken by {@link CdpPhotographer}.
+ */
 public class WebdriverPhotographer implements Photographer {
+  private final Photographer cdpPhotographer = new CdpPhotographer(this);
+
   @Override
   public <T> Optional<T> takeScreenshot(Driver driver, OutputType<T> outputType) {
     if (driver.getWebDriver() instanceof TakesScreenshot) {
@@ -15,4 +25,18 @@ public class WebdriverPhotographer implements Photographer {
     }
     return Optional.empty();
   }
+
+  @Override
+  public Optional<byte[]> takeScreenshot(Driver driver, String format, int quality) {
+    return "png".equals(format) ?
+      takeScreenshot(driver, BYTES) :
+      cdpPhotographer.takeScreenshot(driver, format, quality);
+  }
+
+  @Override
+  public Optional<byte[]> takeScreenshot(Driver driver, WebElement element, String format, int quality) {
+    return "png".equals(format) ?
+      Optional.of(element.getScreenshotAs(BYTES)) :
+      cdpPhotographer.takeScreenshot(driver, element, format, quality);
+  }
 }
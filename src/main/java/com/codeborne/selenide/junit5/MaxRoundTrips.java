@@ -0,0 +1,39 @@
+package com.codeborne.selenide.junit5;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test if it sends more webdriver commands (round trips to the browser) than given budget.
+ * The error message contains number of commands sent by every Selenide step.
+ * <br>
+ * Can be put on a test method or a test class (then the budget applies to each test of the class):
+ * <br>
+ * {@code @MaxRoundTrips(20)}
+ * <br>
+ * Only commands sent by the test thread (including {@code @BeforeEach} and {@code @AfterEach} methods) are counted.
+ * <br>
+ * Only browsers opened after the first such test are counted, unless
+ * {@link com.codeborne.selenide.Config#countRoundTrips()} is enabled.
+ * The test fails with {@link IllegalStateException} if it has used a browser which is not counted.
+ *
+ * @see com.codeborne.selenide.RoundTrips
+ * @since 6.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(RoundTripsExtension.class)
+public @interface MaxRoundTrips {
+  /**
+   * Max number of webdriver commands the test may send
+   */
+  int value();
+}
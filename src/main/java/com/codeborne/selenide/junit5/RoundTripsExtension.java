@@ -0,0 +1,66 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.RoundTrips;
+import com.codeborne.selenide.impl.RoundTripCounter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.create;
+
+/**
+ * Counts webdriver commands sent by every test, and checks them against {@link MaxRoundTrips} budget.
+ * <br>
+ * Usually it's not needed to register this extension explicitly: it's registered by {@link MaxRoundTrips} annotation.
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class RoundTripsExtension implements BeforeEachCallback, AfterEachCallback {
+  public static final ExtensionContext.Namespace namespace = create(RoundTripsExtension.class);
+  private static final String RECORDING = "recording";
+
+  private final RoundTripCounter counter;
+
+  public RoundTripsExtension() {
+    this(RoundTripCounter.instance);
+  }
+
+  RoundTripsExtension(RoundTripCounter counter) {
+    this.counter = counter;
+  }
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    context.getStore(namespace).put(RECORDING, counter.start());
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    RoundTripCounter.Recording recording = context.getStore(namespace).remove(RECORDING, RoundTripCounter.Recording.class);
+    if (recording == null) {
+      return;
+    }
+    recording.stop();
+    RoundTrips roundTrips = recording.roundTrips();
+    context.publishReportEntry("roundTrips", roundTrips.toString());
+
+    MaxRoundTrips budget = budget(context);
+    if (budget != null && roundTrips.total() > budget.value() && !context.getExecutionException().isPresent()) {
+      throw new AssertionError(String.format("Test %s exceeded round trips budget: %s > %s%n%s",
+        context.getDisplayName(), roundTrips.total(), budget.value(), roundTrips));
+    }
+  }
+
+  @CheckReturnValue
+  @Nullable
+  private static MaxRoundTrips budget(ExtensionContext context) {
+    Optional<MaxRoundTrips> methodBudget = context.getTestMethod().map(method -> method.getAnnotation(MaxRoundTrips.class));
+    return methodBudget.orElseGet(() -> context.getTestClass().map(clazz -> clazz.getAnnotation(MaxRoundTrips.class)).orElse(null));
+  }
+}
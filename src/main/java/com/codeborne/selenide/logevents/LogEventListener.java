@@ -14,4 +14,17 @@ public interface LogEventListener {
   void afterEvent(LogEvent currentLog);
 
   void beforeEvent(LogEvent currentLog);
+
+  /**
+   * Called when some phase of the current step has finished: sleeping before the next retry ("sleep"),
+   * failed attempt of the step ("retry"), taking screenshot ("screenshot") or downloading a file ("download").
+   *
+   * @param category   kind of the phase: "sleep", "retry", "screenshot", "download"
+   * @param name       human-readable description of the phase
+   * @param startNanos start of the phase (as returned by {@link System#nanoTime()})
+   * @param endNanos   end of the phase (as returned by {@link System#nanoTime()})
+   * @since 6.1.0
+   */
+  default void onPhase(String category, String name, long startNanos, long endNanos) {
+  }
 }
@@ -10,8 +10,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -30,6 +32,7 @@ public class SelenideLogger {
   private static final Logger LOG = LoggerFactory.getLogger(SelenideLogger.class);
 
   protected static final ThreadLocal<Map<String, LogEventListener>> listeners = new ThreadLocal<>();
+  private static final ThreadLocal<Deque<SelenideLog>> steps = ThreadLocal.withInitial(ArrayDeque::new);
 
   private static final DurationFormat df = new DurationFormat();
   private static final Pattern REGEX_UPPER_CASE = Pattern.compile("([A-Z])");
@@ -116,6 +119,7 @@ public class SelenideLogger {
     Collection<LogEventListener> listeners = getEventLoggerListeners();
 
     SelenideLog log = new SelenideLog(source, subject);
+    steps.get().push(log);
     for (LogEventListener listener : listeners) {
       try {
         listener.beforeEvent(log);
@@ -134,6 +138,7 @@ public class SelenideLogger {
 
   public static void commitStep(SelenideLog log, EventStatus status) {
     log.setStatus(status);
+    steps.get().removeFirstOccurrence(log);
 
     Collection<LogEventListener> listeners = getEventLoggerListeners();
     for (LogEventListener listener : listeners) {
@@ -172,6 +177,39 @@ public class SelenideLogger {
     }
   }
 
+  /**
+   * Notifies listeners (of the current thread) that some phase of the current step has finished
+   *
+   * @param startNanos start of the phase (as returned by {@link System#nanoTime()})
+   * @see LogEventListener#onPhase(String, String, long, long)
+   * @since 6.1.0
+   */
+  public static void phase(String category, String name, long startNanos) {
+    Map<String, LogEventListener> threadListeners = listeners.get();
+    if (threadListeners == null || threadListeners.isEmpty()) {
+      return;
+    }
+    long endNanos = System.nanoTime();
+    for (LogEventListener listener : threadListeners.values()) {
+      try {
+        listener.onPhase(category, name, startNanos, endNanos);
+      }
+      catch (RuntimeException e) {
+        LOG.error("Failed to call listener {}", listener, e);
+      }
+    }
+  }
+
+  /**
+   * @return the innermost step which is being executed in the current thread (or null if no step is in progress)
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nullable
+  public static SelenideLog currentStep() {
+    return steps.get().peek();
+  }
+
   @CheckReturnValue
   @Nonnull
   private static Collection<LogEventListener> getEventLoggerListeners() {
@@ -0,0 +1,266 @@
+package com.codeborne.selenide.logevents;
+
+import com.codeborne.selenide.impl.RoundTripCounter;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.codeborne.selenide.impl.FileHelper.ensureParentFolderExists;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records a timeline of the test run in Chrome Trace Event format, which can be opened as a flame chart
+ * in <a href="https://ui.perfetto.dev">Perfetto</a> or {@code chrome://tracing}:
+ * <ul>
+ *   <li>Selenide steps (category "step"),</li>
+ *   <li>webdriver commands sent during the steps (category "webdriver"),</li>
+ *   <li>phases of the steps: failed attempts ("retry"), sleeps between them ("sleep"), screenshots and downloads.</li>
+ * </ul>
+ * Every thread gets its own track. Events are written as soon as they finish,
+ * so the file can be opened even if the listener was not closed (e.g. if the test run was killed).
+ * <p>
+ * The same instance should be registered as webdriver listener, and as log event listener in every test thread:
+ * </p>
+ * <pre>
+ *   TraceEventListener trace = new TraceEventListener(new File("build/reports/tests/selenide-trace.json"));
+ *   WebDriverRunner.addListener(trace);
+ *   SelenideLogger.addListener("trace", trace);
+ *   ...
+ *   trace.close();
+ * </pre>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class TraceEventListener implements LogEventListener, WebDriverListener, Closeable {
+  private static final Logger log = LoggerFactory.getLogger(TraceEventListener.class);
+  private static final int PID = 1;
+
+  private final Writer writer;
+  private final long originNanos = nanoTime();
+  private final Set<Long> threads = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<Map<LogEvent, Long>> steps = ThreadLocal.withInitial(IdentityHashMap::new);
+  private final ThreadLocal<Deque<Long>> commands = ThreadLocal.withInitial(ArrayDeque::new);
+  private boolean empty = true;
+  private boolean closed;
+
+  public TraceEventListener(File file) {
+    this(open(file));
+  }
+
+  TraceEventListener(Writer writer) {
+    this.writer = writer;
+    write("[");
+    metadata("process_name", 0, "Selenide");
+  }
+
+  @Nonnull
+  private static Writer open(File file) {
+    ensureParentFolderExists(file);
+    try {
+      return Files.newBufferedWriter(file.toPath(), UTF_8);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Failed to create trace file " + file.getAbsolutePath(), e);
+    }
+  }
+
+  @Override
+  public void beforeEvent(LogEvent currentLog) {
+    registerThread();
+    steps.get().put(currentLog, nanoTime());
+  }
+
+  @Override
+  public void afterEvent(LogEvent currentLog) {
+    Map<LogEvent, Long> threadSteps = steps.get();
+    Long start = threadSteps.remove(currentLog);
+    long end = nanoTime();
+    Throwable error = currentLog.getError();
+    complete("step", String.valueOf(currentLog), start != null ? start : end, end,
+      "status", currentLog.getStatus().name(), "error", error == null ? null : firstLine(error.toString()));
+    if (threadSteps.isEmpty()) {
+      flush();
+    }
+  }
+
+  @Override
+  public void onPhase(String category, String name, long startNanos, long endNanos) {
+    registerThread();
+    complete(category, name, startNanos, endNanos, null, null, null, null);
+  }
+
+  @Override
+  public void beforeAnyCall(Object target, Method method, Object[] args) {
+    if (!RoundTripCounter.isLocal(method)) {
+      registerThread();
+      commands.get().push(nanoTime());
+    }
+  }
+
+  @Override
+  public void afterAnyCall(Object target, Method method, Object[] args, @Nullable Object result) {
+    command(target, method, args, null);
+  }
+
+  @Override
+  public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+    command(target, method, args, e.getTargetException());
+  }
+
+  private void command(Object target, Method method, @Nullable Object[] args, @Nullable Throwable error) {
+    if (RoundTripCounter.isLocal(method)) {
+      return;
+    }
+    Long start = commands.get().poll();
+    if (start != null) {
+      String name = targetName(target, method) + '.' + method.getName();
+      if (args != null && args.length > 0 && args[0] instanceof By) {
+        name += ' ' + args[0].toString();
+      }
+      complete("webdriver", name, start, nanoTime(), "error", error == null ? null : firstLine(error.toString()), null, null);
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private static String targetName(Object target, Method method) {
+    if (target instanceof WebElement) return "WebElement";
+    if (target instanceof WebDriver) return "WebDriver";
+    return method.getDeclaringClass().getSimpleName();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (!closed) {
+      write("\n]\n");
+      closed = true;
+      try {
+        writer.close();
+      }
+      catch (IOException e) {
+        log.error("Failed to close trace file", e);
+      }
+    }
+  }
+
+  private void registerThread() {
+    Thread thread = Thread.currentThread();
+    if (threads.add(thread.getId())) {
+      metadata("thread_name", thread.getId(), thread.getName());
+    }
+  }
+
+  private void metadata(String name, long tid, String value) {
+    StringBuilder sb = new StringBuilder(100);
+    sb.append("{\"name\":\"").append(name).append("\",\"ph\":\"M\",\"pid\":").append(PID).append(",\"tid\":").append(tid);
+    sb.append(",\"args\":{\"name\":");
+    quote(sb, value);
+    sb.append("}}");
+    event(sb);
+  }
+
+  private void complete(String category, String name, long startNanos, long endNanos,
+                        @Nullable String arg1, @Nullable String value1, @Nullable String arg2, @Nullable String value2) {
+    StringBuilder sb = new StringBuilder(200);
+    sb.append("{\"name\":");
+    quote(sb, name);
+    sb.append(",\"cat\":\"").append(category).append("\",\"ph\":\"X\"");
+    sb.append(",\"ts\":").append((startNanos - originNanos) / 1000);
+    sb.append(",\"dur\":").append((endNanos - startNanos) / 1000);
+    sb.append(",\"pid\":").append(PID).append(",\"tid\":").append(Thread.currentThread().getId());
+    sb.append(",\"args\":{");
+    arg(sb, arg1, value1, false);
+    arg(sb, arg2, value2, value1 != null);
+    sb.append("}}");
+    event(sb);
+  }
+
+  private void arg(StringBuilder sb, @Nullable String name, @Nullable String value, boolean comma) {
+    if (name != null && value != null) {
+      if (comma) {
+        sb.append(',');
+      }
+      quote(sb, name);
+      sb.append(':');
+      quote(sb, value);
+    }
+  }
+
+  private synchronized void event(CharSequence json) {
+    write(empty ? "\n" : ",\n");
+    write(json);
+    empty = false;
+  }
+
+  private synchronized void write(CharSequence text) {
+    if (closed) {
+      return;
+    }
+    try {
+      writer.append(text);
+    }
+    catch (IOException e) {
+      log.error("Failed to write trace event", e);
+    }
+  }
+
+  private synchronized void flush() {
+    if (closed) {
+      return;
+    }
+    try {
+      writer.flush();
+    }
+    catch (IOException e) {
+      log.error("Failed to write trace events", e);
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private static String firstLine(String text) {
+    int newLine = text.indexOf('\n');
+    return newLine == -1 ? text : text.substring(0, newLine);
+  }
+
+  static void quote(StringBuilder sb, String text) {
+    sb.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      }
+      else if (c < ' ') {
+        sb.append(String.format("\\u%04x", (int) c));
+      }
+      else {
+        sb.append(c);
+      }
+    }
+    sb.append('"');
+  }
+}
@@ -5,12 +5,12 @@ import com.browserup.bup.util.HttpMessageContents;
 import com.browserup.bup.util.HttpMessageInfo;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.files.DownloadedFile;
+import com.codeborne.selenide.impl.DigestingOutputStream;
 import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.impl.Downloads;
 import com.codeborne.selenide.impl.HttpHelper;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,12 +18,16 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static com.codeborne.selenide.impl.FileHelper.ensureParentFolderExists;
+import static java.util.Collections.emptySet;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 @ParametersAreNonnullByDefault
@@ -35,6 +39,7 @@ public class FileDownloadFilter implements ResponseFilter {
 
   private final HttpHelper httpHelper = new HttpHelper();
   private boolean active;
+  private Set<String> checksums = emptySet();
   private final Downloads downloads = new Downloads();
   private final List<Response> responses = new CopyOnWriteArrayList<>();
 
@@ -52,7 +57,19 @@ public class FileDownloadFilter implements ResponseFilter {
    * Starting from this moment, it will record all responses that seem to be a "file download".
    */
   public void activate() {
+    activate(emptySet());
+  }
+
+  /**
+   * Activate this filter and calculate given checksums of every downloaded file.
+   *
+   * @param checksums checksum algorithms, e.g. "SHA-256"
+   * @see DownloadedFile#getChecksum(String)
+   * @since 6.1.0
+   */
+  public void activate(Set<String> checksums) {
     reset();
+    this.checksums = checksums;
     active = true;
   }
 
@@ -87,9 +104,11 @@ public class FileDownloadFilter implements ResponseFilter {
     String fileName = getFileName(r);
 
     File file = downloader.prepareTargetFile(config, fileName);
-    try {
-      FileUtils.writeByteArrayToFile(file, contents.getBinaryContents());
-      downloads.add(new DownloadedFile(file, r.headers));
+    ensureParentFolderExists(file);
+    try (DigestingOutputStream out = new DigestingOutputStream(new FileOutputStream(file), checksums)) {
+      out.write(contents.getBinaryContents());
+      out.flush();
+      downloads.add(new DownloadedFile(file, r.headers, out.size(), out.checksums()));
     }
     catch (IOException e) {
       log.error("Failed to save downloaded file to {} for url {}", file.getAbsolutePath(), messageInfo.getUrl(), e);
@@ -11,11 +11,14 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.lang.Integer.parseInt;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -61,6 +64,16 @@ public class SelenideProxyServer {
    * It automatically adds one response filter "download" that can intercept downloaded files.
    */
   public void start() {
+    start(config.proxyPort());
+  }
+
+  /**
+   * Start the server on given port (e.g. reserved in advance to configure browser before the proxy is started)
+   *
+   * @see #createSeleniumProxy(int)
+   * @since 6.1.0
+   */
+  public void start(int port) {
     proxy.setTrustAllServers(true);
     if (outsideProxy != null) {
       proxy.setChainedProxy(getProxyAddress(outsideProxy));
@@ -75,8 +88,8 @@ public class SelenideProxyServer {
     addResponseFilter("responseSizeWatchdog", new ResponseSizeWatchdog());
     addResponseFilter("download", new FileDownloadFilter(config));
 
-    proxy.start(config.proxyPort());
-    port = proxy.getPort();
+    proxy.start(port);
+    this.port = proxy.getPort();
   }
 
   @CheckReturnValue
@@ -134,6 +147,21 @@ public class SelenideProxyServer {
       : ClientUtil.createSeleniumProxy(proxy, inetAddressResolver.getInetAddressByName(config.proxyHost()));
   }
 
+  /**
+   * Converts this proxy to a "selenium" proxy before the proxy is started on the given port
+   *
+   * @see #start(int)
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public Proxy createSeleniumProxy(int port) {
+    InetAddress address = isEmpty(config.proxyHost())
+      ? ClientUtil.getConnectableAddress()
+      : inetAddressResolver.getInetAddressByName(config.proxyHost());
+    return ClientUtil.createSeleniumProxy(new InetSocketAddress(address, port));
+  }
+
   /**
    * Stop the server
    */
@@ -186,4 +214,17 @@ public class SelenideProxyServer {
   public <T extends ResponseFilter> T responseFilter(String name) {
     return (T) responseFilters.get(name);
   }
+
+  /**
+   * Get names of all request and response filters (both built-in and custom ones)
+   *
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  @Nonnull
+  public Set<String> filterNames() {
+    Set<String> names = new HashSet<>(requestFilters.keySet());
+    names.addAll(responseFilters.keySet());
+    return names;
+  }
 }
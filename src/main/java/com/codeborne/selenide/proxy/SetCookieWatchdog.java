@@ -0,0 +1,34 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.filters.ResponseFilter;
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.handler.codec.http.HttpResponse;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpHeaderNames.SET_COOKIE;
+
+/**
+ * Notifies about every server response that changes browser cookies,
+ * as well as about every loaded html page (it could be a page of another domain, with other cookies).
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class SetCookieWatchdog implements ResponseFilter {
+  private final Runnable onCookiesChanged;
+
+  public SetCookieWatchdog(Runnable onCookiesChanged) {
+    this.onCookiesChanged = onCookiesChanged;
+  }
+
+  @Override
+  public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    String contentType = response.headers().get(CONTENT_TYPE);
+    if (response.headers().contains(SET_COOKIE) || contentType != null && contentType.startsWith("text/html")) {
+      onCookiesChanged.run();
+    }
+  }
+}
@@ -41,9 +41,40 @@ public abstract class AbstractChromiumDriverFactory extends AbstractDriverFactor
     arguments.add("--no-sandbox");
     arguments.addAll(parseArguments(externalArguments));
     arguments.addAll(createHeadlessArguments(config));
+    arguments.addAll(createWindowArguments(config));
     return arguments;
   }
 
+  /**
+   * Browser window gets the needed size and position at launch, so that it doesn't need to be resized afterwards
+   *
+   * @since 6.1.0
+   */
+  @Nonnull
+  @CheckReturnValue
+  protected List<String> createWindowArguments(Config config) {
+    List<String> arguments = new ArrayList<>(2);
+    if (config.browserSize() != null) {
+      arguments.add("--window-size=" + config.browserSize().replace('x', ','));
+    }
+    if (config.browserPosition() != null) {
+      arguments.add("--window-position=" + config.browserPosition().replace('x', ','));
+    }
+    return arguments;
+  }
+
+  @Override
+  @CheckReturnValue
+  public boolean appliesBrowserSizeAtLaunch(Config config) {
+    return true;
+  }
+
+  @Override
+  @CheckReturnValue
+  public boolean appliesBrowserPositionAtLaunch(Config config) {
+    return true;
+  }
+
   @Nonnull
   @CheckReturnValue
   protected Map<String, Object> prefs(@Nullable File browserDownloadsFolder, String externalPreferences) {
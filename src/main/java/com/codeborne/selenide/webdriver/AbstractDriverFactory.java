@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 
 import static com.codeborne.selenide.impl.FileHelper.ensureFolderExists;
 import static java.lang.Integer.parseInt;
+import static java.util.Collections.singletonMap;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.openqa.selenium.remote.CapabilityType.ACCEPT_INSECURE_CERTS;
 import static org.openqa.selenium.remote.CapabilityType.ACCEPT_SSL_CERTS;
@@ -33,6 +34,8 @@ public abstract class AbstractDriverFactory implements DriverFactory {
   private static final Logger log = LoggerFactory.getLogger(AbstractDriverFactory.class);
   private static final Pattern REGEX_SIGNED_INTEGER = Pattern.compile("^-?\\d+$");
   private static final Pattern REGEX_VERSION = Pattern.compile("(\\d+)(\\..*)?");
+  static final String TIMEOUTS = "timeouts";
+  static final String PAGE_LOAD_TIMEOUT = "pageLoad";
   private final FileNamer fileNamer = new FileNamer();
 
   @CheckReturnValue
@@ -63,6 +66,7 @@ public abstract class AbstractDriverFactory implements DriverFactory {
       capabilities.setVersion(config.browserVersion());
     }
     capabilities.setCapability(PAGE_LOAD_STRATEGY, config.pageLoadStrategy());
+    capabilities.setCapability(TIMEOUTS, singletonMap(PAGE_LOAD_TIMEOUT, config.pageLoadTimeout()));
     capabilities.setCapability(ACCEPT_SSL_CERTS, true);
 
     if (browser.supportsInsecureCerts()) {
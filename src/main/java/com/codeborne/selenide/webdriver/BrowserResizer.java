@@ -1,6 +1,7 @@
 package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Config;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -12,10 +13,7 @@ class BrowserResizer {
   void adjustBrowserPosition(Config config, WebDriver driver) {
     if (config.browserPosition() != null) {
       log.info("Set browser position to {}", config.browserPosition());
-      String[] coordinates = config.browserPosition().split("x");
-      int x = Integer.parseInt(coordinates[0]);
-      int y = Integer.parseInt(coordinates[1]);
-      Point target = new Point(x, y);
+      Point target = position(config.browserPosition());
       Point current = driver.manage().window().getPosition();
       if (!current.equals(target)) {
         driver.manage().window().setPosition(target);
@@ -26,10 +24,47 @@ class BrowserResizer {
   void adjustBrowserSize(Config config, WebDriver driver) {
     if (config.browserSize() != null) {
       log.info("Set browser size to {}", config.browserSize());
-      String[] dimension = config.browserSize().split("x");
-      int width = Integer.parseInt(dimension[0]);
-      int height = Integer.parseInt(dimension[1]);
-      driver.manage().window().setSize(new org.openqa.selenium.Dimension(width, height));
+      driver.manage().window().setSize(size(config.browserSize()));
     }
   }
+
+  /**
+   * Checks the position which browser window was opened at (e.g. using command-line arguments),
+   * and moves the window if browser ignored it (e.g. some remote grids or window managers do).
+   */
+  void verifyBrowserPosition(Config config, WebDriver driver) {
+    if (config.browserPosition() != null) {
+      Point target = position(config.browserPosition());
+      Point current = driver.manage().window().getPosition();
+      if (!current.equals(target)) {
+        log.info("Browser opened at position {} instead of {}, moving it", current, target);
+        driver.manage().window().setPosition(target);
+      }
+    }
+  }
+
+  /**
+   * Checks the size which browser window was opened with (e.g. using command-line arguments),
+   * and resizes the window if browser ignored it (e.g. some remote grids or window managers do).
+   */
+  void verifyBrowserSize(Config config, WebDriver driver) {
+    if (config.browserSize() != null) {
+      Dimension target = size(config.browserSize());
+      Dimension current = driver.manage().window().getSize();
+      if (!current.equals(target)) {
+        log.info("Browser opened with size {} instead of {}, resizing it", current, target);
+        driver.manage().window().setSize(target);
+      }
+    }
+  }
+
+  private static Point position(String browserPosition) {
+    String[] coordinates = browserPosition.split("x");
+    return new Point(Integer.parseInt(coordinates[0]), Integer.parseInt(coordinates[1]));
+  }
+
+  private static Dimension size(String browserSize) {
+    String[] dimension = browserSize.split("x");
+    return new Dimension(Integer.parseInt(dimension[0]), Integer.parseInt(dimension[1]));
+  }
 }
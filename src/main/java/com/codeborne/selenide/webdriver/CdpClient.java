@@ -17,13 +17,42 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @ParametersAreNonnullByDefault
 public class CdpClient {
   private static final Logger log = LoggerFactory.getLogger(CdpClient.class);
 
+  /**
+   * Sets downloads folder using {@link CdpSession} of given browser (if it provides DevTools endpoint),
+   * or sending one-off CDP command via webdriver otherwise.
+   */
   public void setDownloadsFolder(DriverService driverService, RemoteWebDriver driver, File downloadsFolder) {
-    setDownloadsFolder(driverService.getUrl(), driver.getSessionId(), downloadsFolder);
+    Optional<CdpSession> cdpSession = cdpSession(driver);
+    if (cdpSession.isPresent()) {
+      Map<String, Object> params = new HashMap<>();
+      params.put("behavior", "allow");
+      params.put("downloadPath", downloadsFolder.getAbsolutePath());
+      cdpSession.get().send("Page.setDownloadBehavior", params);
+      log.info("Downloading files to {}", downloadsFolder);
+    }
+    else {
+      setDownloadsFolder(driverService.getUrl(), driver.getSessionId(), downloadsFolder);
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private Optional<CdpSession> cdpSession(RemoteWebDriver driver) {
+    try {
+      return CdpSession.of(driver);
+    }
+    catch (RuntimeException e) {
+      log.warn("Failed to connect to DevTools of {}: {}", driver, e.toString());
+      return Optional.empty();
+    }
   }
 
   public void setDownloadsFolder(URL remoteDriverUrl, SessionId driverSessionId, File downloadsFolder) {
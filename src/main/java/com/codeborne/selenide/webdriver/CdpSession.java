@@ -0,0 +1,258 @@
+package com.codeborne.selenide.webdriver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.CdpEndpointFinder;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.Closeable;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.codeborne.selenide.impl.WebDriverUnwrapper.unwrap;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Chrome DevTools Protocol session attached to the page of a Chromium-based browser.
+ * <p>
+ * Unlike {@link CdpClient}, it keeps one WebSocket connection per browser, so that commands don't need
+ * a new HTTP connection each. Commands can be pipelined using {@link #sendAsync(String, Map)},
+ * and CDP events can be subscribed using {@link #addListener(String, Consumer)}.
+ * </p>
+ * <p>
+ * The session keeps track of all pages (windows and tabs) of the browser, so that callers can tell
+ * whether its page is the current browser window without asking webdriver (see {@link #isAttachedToOnlyPage()}).
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class CdpSession implements Closeable {
+  private static final Logger log = LoggerFactory.getLogger(CdpSession.class);
+  private static final Map<WebDriver, CdpSession> sessions = synchronizedMap(new WeakHashMap<>());
+  static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final Connection connection;
+  @Nullable
+  private final String targetId;
+  @Nullable
+  private final SessionID sessionId;
+  private final Set<String> pages = ConcurrentHashMap.newKeySet();
+
+  CdpSession(Connection connection) {
+    this.connection = connection;
+    this.targetId = findPage(connection, pages);
+    this.sessionId = targetId == null ? null : attach(connection, targetId);
+    if (targetId != null) {
+      trackPages();
+    }
+  }
+
+  /**
+   * @return CDP session of given browser (created once per browser),
+   * or empty if the browser doesn't provide DevTools endpoint (e.g. it's not Chromium-based)
+   */
+  @CheckReturnValue
+  @Nonnull
+  public static Optional<CdpSession> of(WebDriver webDriver) {
+    WebDriver browser = unwrap(webDriver);
+    synchronized (sessions) {
+      CdpSession session = sessions.get(browser);
+      if (session == null) {
+        Optional<URI> endpoint = endpoint(browser);
+        if (!endpoint.isPresent()) {
+          return Optional.empty();
+        }
+        session = connect(endpoint.get());
+        sessions.put(browser, session);
+      }
+      return Optional.of(session);
+    }
+  }
+
+  /**
+   * Closes CDP session of given browser (if it has been opened), so that its connection doesn't outlive the browser.
+   * Called when the browser is being closed.
+   */
+  public static void closeSessionOf(WebDriver webDriver) {
+    CdpSession session;
+    synchronized (sessions) {
+      session = sessions.remove(unwrap(webDriver));
+    }
+    if (session != null) {
+      log.debug("Close DevTools session of {}", webDriver);
+      try {
+        session.connection.close();
+      }
+      catch (RuntimeException e) {
+        log.warn("Failed to close DevTools session of {}: {}", webDriver, e.toString());
+      }
+    }
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  static CdpSession connect(URI webSocketUrl) {
+    log.debug("Connect to DevTools: {}", webSocketUrl);
+    HttpClient client = HttpClient.Factory.createDefault().createClient(ClientConfig.defaultConfig().baseUri(webSocketUrl));
+    return new CdpSession(new Connection(client, webSocketUrl.toString()));
+  }
+
+  /**
+   * Sends CDP command and waits for its result
+   *
+   * @param method CDP method, e.g. "Page.setDownloadBehavior"
+   * @param params CDP method parameters
+   * @return result of the command (empty map if the command returns nothing)
+   */
+  @Nonnull
+  public Map<String, Object> send(String method, Map<String, Object> params) {
+    return connection.sendAndWait(sessionId, command(method, params), TIMEOUT);
+  }
+
+  /**
+   * Sends CDP command without waiting for its result, so that several commands can be sent at once.
+   */
+  @Nonnull
+  public CompletableFuture<Map<String, Object>> sendAsync(String method, Map<String, Object> params) {
+    return connection.send(sessionId, command(method, params));
+  }
+
+  /**
+   * Subscribes to CDP event (the corresponding domain should be enabled, e.g. by "Network.enable" command)
+   *
+   * @param event CDP event, e.g. "Network.requestWillBeSent"
+   * @param listener receives event parameters
+   */
+  public void addListener(String event, Consumer<Map<String, Object>> listener) {
+    connection.addListener(new Event<>(event, input -> input.<Map<String, Object>>read(Json.MAP_TYPE)), listener);
+  }
+
+  /**
+   * @return id of the page this session is attached to (Chromedriver uses it as window handle),
+   * or null if the browser has no pages
+   */
+  @CheckReturnValue
+  @Nullable
+  public String targetId() {
+    return targetId;
+  }
+
+  /**
+   * @return true if this session is attached to a page, and the browser has no other pages
+   * (so that the page is surely the current browser window)
+   */
+  @CheckReturnValue
+  public boolean isAttachedToOnlyPage() {
+    return targetId != null && pages.size() == 1 && pages.contains(targetId);
+  }
+
+  @Override
+  public void close() {
+    synchronized (sessions) {
+      sessions.values().remove(this);
+    }
+    connection.close();
+  }
+
+  /**
+   * Browser reports pages created and closed from now on (with "Target.setDiscoverTargets")
+   */
+  private void trackPages() {
+    addListener("Target.targetCreated", params -> pageCreated((Map<?, ?>) params.get("targetInfo")));
+    addListener("Target.targetDestroyed", params -> pages.remove(params.get("targetId")));
+    connection.sendAndWait(null, command("Target.setDiscoverTargets", singletonMap("discover", true)), TIMEOUT);
+  }
+
+  private void pageCreated(@Nullable Map<?, ?> targetInfo) {
+    if (targetInfo != null && "page".equals(targetInfo.get("type"))) {
+      pages.add((String) targetInfo.get("targetId"));
+    }
+  }
+
+  /**
+   * @param pages collects ids of all pages of the browser
+   * @return id of the first page
+   */
+  @Nullable
+  private static String findPage(Connection connection, Set<String> pages) {
+    Map<String, Object> targets = connection.sendAndWait(null, command("Target.getTargets", emptyMap()), TIMEOUT);
+    List<?> targetInfos = (List<?>) targets.get("targetInfos");
+    String page = null;
+    for (Object target : targetInfos) {
+      Map<?, ?> targetInfo = (Map<?, ?>) target;
+      if ("page".equals(targetInfo.get("type"))) {
+        pages.add((String) targetInfo.get("targetId"));
+        page = page == null ? (String) targetInfo.get("targetId") : page;
+      }
+    }
+    if (page == null) {
+      log.warn("No page found in DevTools targets {}, will send commands to browser", targetInfos);
+    }
+    return page;
+  }
+
+  @Nonnull
+  private static SessionID attach(Connection connection, String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    params.put("flatten", true);
+    Map<String, Object> session = connection.sendAndWait(null, command("Target.attachToTarget", params), TIMEOUT);
+    return new SessionID((String) session.get("sessionId"));
+  }
+
+  @CheckReturnValue
+  @Nonnull
+  private static Command<Map<String, Object>> command(String method, Map<String, Object> params) {
+    return new Command<>(method, params, input -> input.<Map<String, Object>>read(Json.MAP_TYPE));
+  }
+
+  /**
+   * Either Selenium Grid DevTools endpoint ("se:cdp"), or local "debuggerAddress" of any Chromium-based browser
+   */
+  @CheckReturnValue
+  @Nonnull
+  private static Optional<URI> endpoint(WebDriver browser) {
+    if (!(browser instanceof HasCapabilities)) {
+      return Optional.empty();
+    }
+    Capabilities capabilities = ((HasCapabilities) browser).getCapabilities();
+    Optional<URI> endpoint = SeleniumCdpConnection.getCdpUri(capabilities);
+    if (endpoint.isPresent()) {
+      return endpoint;
+    }
+    for (String name : capabilities.getCapabilityNames()) {
+      Object vendorOptions = capabilities.getCapability(name);
+      if (vendorOptions instanceof Map && ((Map<?, ?>) vendorOptions).containsKey("debuggerAddress")) {
+        return CdpEndpointFinder.getReportedUri(name, capabilities)
+          .flatMap(uri -> CdpEndpointFinder.getCdpEndPoint(HttpClient.Factory.createDefault(), uri));
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -2,6 +2,7 @@ package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.MutableCapabilities;
@@ -25,11 +26,17 @@ import java.util.Map;
 public class ChromeDriverFactory extends AbstractChromiumDriverFactory {
   private static final Logger log = LoggerFactory.getLogger(ChromeDriverFactory.class);
 
+  /**
+   * Same as {@link #setupWebdriverBinary(Config)} with default settings
+   */
   @Override
   public void setupWebdriverBinary() {
-    if (isSystemPropertyNotSet("webdriver.chrome.driver")) {
-      WebDriverManager.chromedriver().setup();
-    }
+    setupWebdriverBinary(new SelenideConfig());
+  }
+
+  @Override
+  public void setupWebdriverBinary(Config config) {
+    WebDriverBinaryIndex.setup(config, "webdriver.chrome.driver", WebDriverManager::chromedriver);
   }
 
   @Override
@@ -43,7 +43,7 @@ public class DefaultDriverFactory extends AbstractDriverFactory {
     else if (DriverFactory.class.isAssignableFrom(clazz)) {
       DriverFactory factory = createInstanceOf(DriverFactory.class, clazz);
       if (config.driverManagerEnabled()) {
-        factory.setupWebdriverBinary();
+        factory.setupWebdriverBinary(config);
       }
       return factory.create(config, browser, proxy, browserDownloadsFolder);
     }
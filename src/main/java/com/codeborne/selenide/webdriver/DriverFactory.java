@@ -12,8 +12,43 @@ import javax.annotation.Nullable;
 import java.io.File;
 
 public interface DriverFactory {
+  /**
+   * Selenide calls {@link #setupWebdriverBinary(Config)} instead.
+   * Built-in factories implement this method by calling {@link #setupWebdriverBinary(Config)} with default settings.
+   */
   void setupWebdriverBinary();
 
+  /**
+   * Same as {@link #setupWebdriverBinary()}, but can use settings like {@link Config#driverManagerIndex()}
+   *
+   * @since 6.1.0
+   */
+  default void setupWebdriverBinary(Config config) {
+    setupWebdriverBinary();
+  }
+
+  /**
+   * @return true if browser window is opened with size {@link Config#browserSize()} right at launch
+   * (e.g. using command-line arguments), so that it doesn't need to be resized afterwards.
+   * For remote browsers, Selenide still checks the window size once after launch and resizes the window if browser ignored it.
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  default boolean appliesBrowserSizeAtLaunch(Config config) {
+    return false;
+  }
+
+  /**
+   * @return true if browser window is opened at position {@link Config#browserPosition()} right at launch
+   * (e.g. using command-line arguments), so that it doesn't need to be moved afterwards.
+   * For remote browsers, Selenide still checks the window position once after launch and moves the window if browser ignored it.
+   * @since 6.1.0
+   */
+  @CheckReturnValue
+  default boolean appliesBrowserPositionAtLaunch(Config config) {
+    return false;
+  }
+
   @CheckReturnValue
   @Nonnull
   MutableCapabilities createCapabilities(Config config, Browser browser,
@@ -2,6 +2,7 @@ package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.Proxy;
@@ -27,12 +28,19 @@ public class EdgeDriverFactory extends AbstractChromiumDriverFactory {
   private static final int FIRST_VERSION_BASED_ON_CHROMIUM = 75;
   private static String browserVersion = null;
 
+  /**
+   * Same as {@link #setupWebdriverBinary(Config)} with default settings
+   */
   @Override
   public void setupWebdriverBinary() {
-    if (isSystemPropertyNotSet("webdriver.edge.driver")) {
-      WebDriverManager manager = WebDriverManager.edgedriver();
-      manager.setup();
-      browserVersion = manager.getDownloadedDriverVersion();
+    setupWebdriverBinary(new SelenideConfig());
+  }
+
+  @Override
+  public void setupWebdriverBinary(Config config) {
+    String driverVersion = WebDriverBinaryIndex.setup(config, "webdriver.edge.driver", WebDriverManager::edgedriver);
+    if (driverVersion != null) {
+      browserVersion = driverVersion;
     }
   }
 
@@ -80,6 +88,18 @@ public class EdgeDriverFactory extends AbstractChromiumDriverFactory {
     return createChromiumArguments(config, System.getProperty("edgeoptions.args"));
   }
 
+  @Override
+  @CheckReturnValue
+  public boolean appliesBrowserSizeAtLaunch(Config config) {
+    return isChromiumBased();
+  }
+
+  @Override
+  @CheckReturnValue
+  public boolean appliesBrowserPositionAtLaunch(Config config) {
+    return isChromiumBased();
+  }
+
   @CheckReturnValue
   private boolean isChromiumBased() {
     return browserVersion == null || majorVersion(browserVersion) >= FIRST_VERSION_BASED_ON_CHROMIUM;
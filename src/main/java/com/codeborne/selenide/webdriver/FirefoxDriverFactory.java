@@ -2,6 +2,7 @@ package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.commons.io.IOUtils;
 import org.openqa.selenium.Proxy;
@@ -31,11 +32,17 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class FirefoxDriverFactory extends AbstractDriverFactory {
   private static final Logger log = LoggerFactory.getLogger(FirefoxDriverFactory.class);
 
+  /**
+   * Same as {@link #setupWebdriverBinary(Config)} with default settings
+   */
   @Override
   public void setupWebdriverBinary() {
-    if (isSystemPropertyNotSet("webdriver.gecko.driver")) {
-      WebDriverManager.firefoxdriver().setup();
-    }
+    setupWebdriverBinary(new SelenideConfig());
+  }
+
+  @Override
+  public void setupWebdriverBinary(Config config) {
+    WebDriverBinaryIndex.setup(config, "webdriver.gecko.driver", WebDriverManager::firefoxdriver);
   }
 
   @Override
@@ -59,6 +66,7 @@ public class FirefoxDriverFactory extends AbstractDriverFactory {
     final FirefoxOptions initialOptions = new FirefoxOptions();
     initialOptions.setHeadless(config.headless());
     setupBrowserBinary(config, initialOptions);
+    setupWindowSize(config, initialOptions);
     setupPreferences(initialOptions);
 
     final FirefoxOptions options = initialOptions.merge(createCommonCapabilities(config, browser, proxy));
@@ -80,6 +88,24 @@ public class FirefoxDriverFactory extends AbstractDriverFactory {
     }
   }
 
+  /**
+   * Firefox supports window size arguments only in headless mode
+   *
+   * @since 6.1.0
+   */
+  protected void setupWindowSize(Config config, FirefoxOptions firefoxOptions) {
+    if (appliesBrowserSizeAtLaunch(config)) {
+      String[] dimension = config.browserSize().split("x");
+      firefoxOptions.addArguments("--width=" + dimension[0], "--height=" + dimension[1]);
+    }
+  }
+
+  @Override
+  @CheckReturnValue
+  public boolean appliesBrowserSizeAtLaunch(Config config) {
+    return config.headless() && config.browserSize() != null;
+  }
+
   protected void setupPreferences(FirefoxOptions firefoxOptions) {
     firefoxOptions.addPreference("network.automatic-ntlm-auth.trusted-uris", "http://,https://");
     firefoxOptions.addPreference("network.automatic-ntlm-auth.allow-non-fqdn", true);
@@ -2,6 +2,7 @@ package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.Proxy;
@@ -21,11 +22,17 @@ import java.io.File;
 public class InternetExplorerDriverFactory extends AbstractDriverFactory {
   private static final Logger log = LoggerFactory.getLogger(InternetExplorerDriverFactory.class);
 
+  /**
+   * Same as {@link #setupWebdriverBinary(Config)} with default settings
+   */
   @Override
   public void setupWebdriverBinary() {
-    if (isSystemPropertyNotSet("webdriver.ie.driver")) {
-      WebDriverManager.iedriver().setup();
-    }
+    setupWebdriverBinary(new SelenideConfig());
+  }
+
+  @Override
+  public void setupWebdriverBinary(Config config) {
+    WebDriverBinaryIndex.setup(config, "webdriver.ie.driver", WebDriverManager::iedriver);
   }
 
   @Override
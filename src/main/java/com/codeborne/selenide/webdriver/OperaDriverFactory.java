@@ -2,6 +2,7 @@ package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.InvalidArgumentException;
 import org.openqa.selenium.Proxy;
@@ -23,11 +24,17 @@ public class OperaDriverFactory extends AbstractDriverFactory {
   private static final Logger log = LoggerFactory.getLogger(OperaDriverFactory.class);
   private final CdpClient cdpClient = new CdpClient();
 
+  /**
+   * Same as {@link #setupWebdriverBinary(Config)} with default settings
+   */
   @Override
   public void setupWebdriverBinary() {
-    if (isSystemPropertyNotSet("webdriver.opera.driver")) {
-      WebDriverManager.operadriver().setup();
-    }
+    setupWebdriverBinary(new SelenideConfig());
+  }
+
+  @Override
+  public void setupWebdriverBinary(Config config) {
+    WebDriverBinaryIndex.setup(config, "webdriver.opera.driver", WebDriverManager::operadriver);
   }
 
   @Override
@@ -0,0 +1,140 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.Config;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Remembers webdriver binaries resolved by {@link WebDriverManager} in a file,
+ * so that the next test runs don't need to detect browser version and resolve webdriver version again.
+ * <p>
+ * Entries are keyed by browser binary path and its modification time, so that updating the browser
+ * invalidates the entry. Within one JVM, the resolved binary is remembered by WebDriverManager itself
+ * (it sets system property like "webdriver.chrome.driver").
+ * </p>
+ *
+ * @see Config#driverManagerIndex()
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+class WebDriverBinaryIndex {
+  private static final Logger log = LoggerFactory.getLogger(WebDriverBinaryIndex.class);
+  private static final Map<String, Properties> indexes = new HashMap<>();
+
+  /**
+   * Resolves webdriver binary (unless {@code systemProperty} is already set) and sets {@code systemProperty}.
+   *
+   * @return version of webdriver binary, or null if it was resolved earlier in this JVM
+   */
+  @Nullable
+  static synchronized String setup(Config config, String systemProperty, Supplier<WebDriverManager> managerSupplier) {
+    if (isNotBlank(System.getProperty(systemProperty, ""))) {
+      return null;
+    }
+
+    WebDriverManager manager = managerSupplier.get();
+    String key = isBlank(config.driverManagerIndex()) ? null : key(config, systemProperty, manager);
+    if (key != null) {
+      String[] resolved = lookup(config.driverManagerIndex(), key);
+      if (resolved != null) {
+        log.info("Use {} from {}: {}", systemProperty, config.driverManagerIndex(), resolved[1]);
+        System.setProperty(systemProperty, resolved[1]);
+        return resolved[0];
+      }
+    }
+
+    manager.setup();
+    if (key != null && manager.getDownloadedDriverPath() != null) {
+      store(config.driverManagerIndex(), key, manager.getDownloadedDriverVersion(), manager.getDownloadedDriverPath());
+    }
+    return manager.getDownloadedDriverVersion();
+  }
+
+  /**
+   * @return key of webdriver binary for given browser binary, or null if browser binary is not found
+   */
+  @CheckReturnValue
+  @Nullable
+  private static String key(Config config, String systemProperty, WebDriverManager manager) {
+    Path browserBinary = isNotBlank(config.browserBinary()) ? new File(config.browserBinary()).toPath() :
+      manager.getBrowserPath().orElse(null);
+    if (browserBinary == null || !Files.exists(browserBinary)) {
+      return null;
+    }
+    File browserFile = browserBinary.toAbsolutePath().toFile();
+    return systemProperty + ':' + browserFile.getPath() + ':' + browserFile.lastModified() + ':' + config.browserVersion();
+  }
+
+  /**
+   * @return [version, path] of webdriver binary, or null if it's not found in the index (or the file doesn't exist anymore)
+   */
+  @CheckReturnValue
+  @Nullable
+  private static String[] lookup(String indexFile, String key) {
+    String value = index(indexFile).getProperty(key);
+    if (value == null) {
+      return null;
+    }
+    String[] resolved = value.split("\\|", 2);
+    return resolved.length == 2 && new File(resolved[1]).isFile() ? resolved : null;
+  }
+
+  private static void store(String indexFile, String key, String version, String path) {
+    Properties index = index(indexFile);
+    index.setProperty(key, version + '|' + path);
+
+    Path file = new File(indexFile).toPath().toAbsolutePath();
+    try {
+      Files.createDirectories(file.getParent());
+      Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        index.store(out, "Webdriver binaries resolved by WebDriverManager");
+      }
+      Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+    catch (IOException e) {
+      log.warn("Failed to save webdriver binaries to {}: {}", indexFile, e.toString());
+    }
+  }
+
+  @Nonnull
+  private static Properties index(String indexFile) {
+    return indexes.computeIfAbsent(indexFile, WebDriverBinaryIndex::load);
+  }
+
+  @Nonnull
+  private static Properties load(String indexFile) {
+    Properties index = new Properties();
+    File file = new File(indexFile);
+    if (file.isFile()) {
+      try (InputStream in = Files.newInputStream(file.toPath())) {
+        index.load(in);
+      }
+      catch (IOException | IllegalArgumentException e) {
+        log.warn("Failed to read webdriver binaries from {}: {}", indexFile, e.toString());
+      }
+    }
+    return index;
+  }
+}
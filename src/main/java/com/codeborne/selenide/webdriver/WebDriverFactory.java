@@ -66,11 +66,26 @@ public class WebDriverFactory {
     }
 
     Browser browser = new Browser(config.browser(), config.headless());
-    WebDriver webdriver = createWebDriverInstance(config, browser, proxy, browserDownloadsFolder);
+    DriverFactory webdriverFactory = findFactory(browser);
+    WebDriver webdriver = createWebDriverInstance(config, webdriverFactory, browser, proxy, browserDownloadsFolder);
 
-    browserResizer.adjustBrowserSize(config, webdriver);
-    browserResizer.adjustBrowserPosition(config, webdriver);
-    setLoadTimeout(config, webdriver);
+    // local browsers honour launch arguments, but remote grids (or their window managers) may ignore them
+    boolean verifyLaunchArguments = config.remote() != null;
+    if (!webdriverFactory.appliesBrowserSizeAtLaunch(config)) {
+      browserResizer.adjustBrowserSize(config, webdriver);
+    }
+    else if (verifyLaunchArguments) {
+      browserResizer.verifyBrowserSize(config, webdriver);
+    }
+    if (!webdriverFactory.appliesBrowserPositionAtLaunch(config)) {
+      browserResizer.adjustBrowserPosition(config, webdriver);
+    }
+    else if (verifyLaunchArguments) {
+      browserResizer.verifyBrowserPosition(config, webdriver);
+    }
+    if (!hasPageLoadTimeout(config, webdriver)) {
+      setLoadTimeout(config, webdriver);
+    }
 
     logBrowserVersion(webdriver);
     log.info("Selenide v. {}", SelenideDriver.class.getPackage().getImplementationVersion());
@@ -78,6 +93,20 @@ public class WebDriverFactory {
     return webdriver;
   }
 
+  /**
+   * Page load timeout is passed to browser in "timeouts" capability.
+   * If the browser confirms it in the session capabilities, it doesn't need to be set again.
+   */
+  @CheckReturnValue
+  private boolean hasPageLoadTimeout(Config config, WebDriver webdriver) {
+    if (!(webdriver instanceof HasCapabilities)) {
+      return false;
+    }
+    Object timeouts = ((HasCapabilities) webdriver).getCapabilities().getCapability(AbstractDriverFactory.TIMEOUTS);
+    Object pageLoadTimeout = timeouts instanceof Map ? ((Map<?, ?>) timeouts).get(AbstractDriverFactory.PAGE_LOAD_TIMEOUT) : null;
+    return pageLoadTimeout instanceof Number && ((Number) pageLoadTimeout).longValue() == config.pageLoadTimeout();
+  }
+
   private void setLoadTimeout(Config config, WebDriver webdriver) {
     try {
       webdriver.manage().timeouts().pageLoadTimeout(Duration.ofMillis(config.pageLoadTimeout()));
@@ -92,18 +121,16 @@ public class WebDriverFactory {
 
   @CheckReturnValue
   @Nonnull
-  private WebDriver createWebDriverInstance(Config config, Browser browser,
+  private WebDriver createWebDriverInstance(Config config, DriverFactory webdriverFactory, Browser browser,
                                             @Nullable Proxy proxy,
                                             @Nullable File browserDownloadsFolder) {
-    DriverFactory webdriverFactory = findFactory(browser);
-
     if (config.remote() != null) {
       MutableCapabilities capabilities = webdriverFactory.createCapabilities(config, browser, proxy, browserDownloadsFolder);
       return remoteDriverFactory.create(config, capabilities);
     }
     else {
       if (config.driverManagerEnabled()) {
-        webdriverFactory.setupWebdriverBinary();
+        webdriverFactory.setupWebdriverBinary(config);
       }
       WebDriver webDriver = webdriverFactory.create(config, browser, proxy, browserDownloadsFolder);
       httpClientTimeouts.setup(webDriver);
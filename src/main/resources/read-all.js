@@ -0,0 +1,77 @@
+(function (roots, fields) {
+  var BOOLEAN_ATTRIBUTES = ['async', 'autofocus', 'autoplay', 'checked', 'controls', 'defer', 'disabled', 'hidden',
+    'loop', 'multiple', 'muted', 'open', 'readonly', 'required', 'selected'];
+  var PROPERTY_NAMES = {'class': 'className', 'readonly': 'readOnly'};
+
+  function find(root, locators) {
+    for (var i = 0; i < locators.length; i++) {
+      var locator = locators[i];
+      var element = locator.css ?
+        root.querySelector(locator.css) :
+        document.evaluate(locator.xpath, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+      if (element) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  // the same as WebElement.getAttribute(): property (if any) or attribute
+  function attribute(element, name) {
+    var lowerName = name.toLowerCase();
+    if (BOOLEAN_ATTRIBUTES.indexOf(lowerName) >= 0) {
+      var property = element[PROPERTY_NAMES[lowerName] || lowerName];
+      return property === true || (property === undefined && element.hasAttribute(name)) ? 'true' : null;
+    }
+    if ((lowerName === 'href' || lowerName === 'src') && element.hasAttribute(name)) {
+      return String(element[lowerName]);
+    }
+    if (lowerName !== 'style') {
+      var value = element[PROPERTY_NAMES[lowerName] || name];
+      if (value !== undefined && value !== null && typeof value !== 'object' && typeof value !== 'function') {
+        return String(value);
+      }
+    }
+    return element.getAttribute(name);
+  }
+
+  // the same as WebElement.getText(): visible text with normalized whitespace
+  function text(element) {
+    var lines = (element.innerText === undefined ? element.textContent : element.innerText).replace(/\u00a0/g, ' ').split(/\r?\n/);
+    var result = [];
+    for (var i = 0; i < lines.length; i++) {
+      var line = lines[i].replace(/[ \t\f\v]+/g, ' ').trim();
+      if (line) {
+        result.push(line);
+      }
+    }
+    return result.join('\n');
+  }
+
+  function read(element, attributeName) {
+    if (!element) {
+      return null;
+    }
+    if (attributeName) {
+      return attribute(element, attributeName);
+    }
+    var tag = element.tagName.toLowerCase();
+    if (tag === 'input' || tag === 'textarea') {
+      return element.value;
+    }
+    if (tag === 'select') {
+      return element.selectedIndex < 0 ? '' : text(element.options[element.selectedIndex]);
+    }
+    return text(element);
+  }
+
+  var result = [];
+  for (var r = 0; r < roots.length; r++) {
+    var values = [];
+    for (var f = 0; f < fields.length; f++) {
+      values.push(read(find(roots[r], fields[f].locators), fields[f].attribute));
+    }
+    result.push(values);
+  }
+  return result;
+})(arguments[0], arguments[1]);
@@ -47,6 +47,16 @@ final class DownloadOptionsTest {
     assertThat(options.getFilter()).usingRecursiveComparison().isEqualTo(withExtension("ppt"));
   }
 
+  @Test
+  void rangedDownload() {
+    DownloadOptions options = using(HTTPGET).withResume(3).withParallelChunks(4);
+
+    assertThat(options.getResumeAttempts()).isEqualTo(3);
+    assertThat(options.getParallelChunks()).isEqualTo(4);
+    assertThat(using(HTTPGET).getResumeAttempts()).isEqualTo(0);
+    assertThat(using(HTTPGET).getParallelChunks()).isEqualTo(1);
+  }
+
   @Test
   void printsOptionsToTestReport() {
     assertThat(using(PROXY))
@@ -60,5 +70,8 @@ final class DownloadOptionsTest {
 
     assertThat(using(FOLDER).withFilter(withExtension("exe")))
       .hasToString("method: FOLDER, filter: with extension \"exe\"");
+
+    assertThat(using(HTTPGET).withResume(3).withParallelChunks(4))
+      .hasToString("method: HTTPGET, resume attempts: 3, parallel chunks: 4");
   }
 }
@@ -0,0 +1,38 @@
+package com.codeborne.selenide;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class DriverTest {
+  private final Driver driver = mock(Driver.class, CALLS_REAL_METHODS);
+  private final RemoteWebDriver remoteWebDriver = mock(RemoteWebDriver.class);
+  private final SessionId sessionId = new SessionId("session-42");
+
+  @Test
+  void sessionIdOfRemoteWebDriver() {
+    when(remoteWebDriver.getSessionId()).thenReturn(sessionId);
+    doReturn(remoteWebDriver).when(driver).getWebDriver();
+
+    assertThat(driver.getSessionId()).isEqualTo(sessionId);
+  }
+
+  @Test
+  void sessionIdOfDecoratedWebDriver() {
+    when(remoteWebDriver.getSessionId()).thenReturn(sessionId);
+    WebDriver decorated = new EventFiringDecorator(new WebDriverListener() { }).decorate(remoteWebDriver);
+    doReturn(new EventFiringWebDriver(decorated)).when(driver).getWebDriver();
+
+    assertThat(driver.getSessionId()).isEqualTo(sessionId);
+  }
+}
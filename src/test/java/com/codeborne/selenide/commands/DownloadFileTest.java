@@ -1,5 +1,6 @@
 package com.codeborne.selenide.commands;
 
+import com.codeborne.selenide.DownloadOptions;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.SelenideConfig;
@@ -25,6 +26,8 @@ import static com.codeborne.selenide.files.FileFilters.none;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -53,12 +56,12 @@ final class DownloadFileTest {
   void canDownloadFile_withHttpGetRequest() throws IOException {
     config.fileDownload(HTTPGET);
 
-    when(httpget.download(any(), any(WebElement.class), anyLong(), any())).thenReturn(file);
+    when(httpget.download(any(), any(WebElement.class), anyLong(), any(DownloadOptions.class))).thenReturn(file);
 
     File f = command.execute(seLink, linkWithHref, new Object[]{8000L});
 
     assertThat(f).isSameAs(file);
-    verify(httpget).download(driver, link, 8000L, none());
+    verify(httpget).download(eq(driver), eq(link), eq(8000L), argThat((DownloadOptions options) -> options.getFilter() == none()));
     verifyNoMoreInteractions(proxy);
   }
 
@@ -0,0 +1,105 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ImageMismatch;
+import com.codeborne.selenide.impl.ImageComparator;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class ShouldLookLikeCommandTest {
+  private final SelenideElement proxy = mock(SelenideElement.class);
+  private final WebElementSource locator = mock(WebElementSource.class);
+  private final WebElement element = mock(WebElement.class);
+  private final Driver driver = new DriverStub();
+  private final ScreenShotLaboratory screenshots = mock(ScreenShotLaboratory.class);
+  private final ShouldLookLike command = new ShouldLookLike(screenshots, new ImageComparator());
+  private final BufferedImage screenshot = new BufferedImage(20, 10, TYPE_INT_RGB);
+
+  @BeforeEach
+  void setUp() {
+    when(locator.driver()).thenReturn(driver);
+    when(locator.getWebElement()).thenReturn(element);
+    when(locator.description()).thenReturn("#chart");
+    when(screenshots.captureImage(driver, element)).thenReturn(screenshot);
+  }
+
+  @Test
+  void passesIfScreenshotLooksLikeBaseline(@TempDir File folder) throws IOException {
+    File baseline = baseline(folder, new BufferedImage(20, 10, TYPE_INT_RGB));
+
+    assertThat(command.execute(proxy, locator, new Object[]{baseline})).isSameAs(proxy);
+  }
+
+  @Test
+  void failsIfScreenshotDiffersFromBaseline(@TempDir File folder) throws IOException {
+    BufferedImage image = new BufferedImage(20, 10, TYPE_INT_RGB);
+    image.setRGB(1, 1, 0xFFFFFF);
+    image.setRGB(2, 2, 0xFFFFFF);
+    File baseline = baseline(folder, image);
+
+    assertThatThrownBy(() -> command.execute(proxy, locator, new Object[]{baseline, 0.005, new Rectangle[0]}))
+      .isInstanceOf(ImageMismatch.class)
+      .hasMessageStartingWith("Element should look like " + baseline.getPath() + " {#chart}")
+      .hasMessageContaining("Different pixels: 2 of 200 (1.00%), allowed: 1");
+  }
+
+  @Test
+  void ignoresGivenRegions(@TempDir File folder) throws IOException {
+    BufferedImage image = new BufferedImage(20, 10, TYPE_INT_RGB);
+    image.setRGB(1, 1, 0xFFFFFF);
+    File baseline = baseline(folder, image);
+
+    assertThat(command.execute(proxy, locator, new Object[]{baseline, 0.0, new Rectangle[]{new Rectangle(0, 0, 5, 5)}}))
+      .isSameAs(proxy);
+  }
+
+  @Test
+  void readsBaselineOnlyOnceForAllAttempts(@TempDir File folder) throws IOException {
+    File baseline = baseline(folder, new BufferedImage(20, 10, TYPE_INT_RGB));
+    long lastModified = baseline.lastModified();
+    command.execute(proxy, locator, new Object[]{baseline});
+
+    Files.write(baseline.toPath(), new byte[(int) baseline.length()]);
+    assertThat(baseline.setLastModified(lastModified)).isTrue();
+    assertThat(command.execute(proxy, locator, new Object[]{baseline})).isSameAs(proxy);
+
+    assertThat(baseline.setLastModified(lastModified + 2000)).isTrue();
+    assertThatThrownBy(() -> command.execute(proxy, locator, new Object[]{baseline}))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageStartingWith("Unsupported format of baseline image");
+  }
+
+  @Test
+  void failsIfBaselineDoesNotExist(@TempDir File folder) {
+    File baseline = new File(folder, "missing.png");
+
+    assertThatThrownBy(() -> command.execute(proxy, locator, new Object[]{baseline}))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Baseline image not found: " + baseline.getAbsolutePath());
+  }
+
+  private File baseline(File folder, BufferedImage image) throws IOException {
+    File baseline = new File(folder, "baseline.png");
+    ImageIO.write(image, "png", baseline);
+    return baseline;
+  }
+}
@@ -0,0 +1,96 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+final class BackgroundCloserTest {
+  private final BackgroundCloser backgroundCloser = new BackgroundCloser();
+  private final Config config = mock(Config.class);
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final SelenideProxyServer proxy = mock(SelenideProxyServer.class);
+
+  @Test
+  void closeCommand_doesNotWaitUntilBrowserQuits() throws InterruptedException {
+    when(config.asyncClose()).thenReturn(true);
+    CountDownLatch quitting = new CountDownLatch(1);
+    doAnswer(invocation -> quitting.await(10, TimeUnit.SECONDS)).when(webDriver).quit();
+
+    new CloseDriverCommand(null, backgroundCloser).close(config, webDriver, proxy);
+
+    verifyNoInteractions(proxy);
+    assertThat(backgroundCloser.queueDepth()).isEqualTo(1);
+
+    quitting.countDown();
+    verify(proxy, timeout(5000)).shutdown();
+    assertThat(backgroundCloser.drain(5000)).isTrue();
+    assertThat(backgroundCloser.queueDepth()).isEqualTo(0);
+    assertThat(backgroundCloser.closedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void closeCommand_closesBrowserSynchronously_ifAsyncCloseIsDisabled() {
+    new CloseDriverCommand(null, backgroundCloser).close(config, webDriver, proxy);
+
+    verify(webDriver).quit();
+    verify(proxy).shutdown();
+    assertThat(backgroundCloser.closedCount()).isEqualTo(0);
+  }
+
+  @Test
+  void drain_waitsForAllPendingCloses() {
+    CountDownLatch closing = new CountDownLatch(1);
+    backgroundCloser.close("slow browser", () -> await(closing));
+
+    assertThat(backgroundCloser.drain(100)).isFalse();
+
+    closing.countDown();
+    assertThat(backgroundCloser.drain(5000)).isTrue();
+  }
+
+  @Test
+  void collectsLatencyMetrics() {
+    backgroundCloser.close("browser 1", () -> sleep(50));
+    backgroundCloser.close("browser 2", () -> {
+      throw new IllegalStateException("Failed to quit");
+    });
+
+    assertThat(backgroundCloser.drain(5000)).isTrue();
+    assertThat(backgroundCloser.closedCount()).isEqualTo(2);
+    assertThat(backgroundCloser.maxLatency()).isGreaterThanOrEqualTo(50);
+    assertThat(backgroundCloser.averageLatency()).isLessThanOrEqualTo(backgroundCloser.maxLatency());
+    assertThat(backgroundCloser).hasToString(String.format(
+      "BackgroundCloser{queue depth: 0, closed: 2, average latency: %s ms, max latency: %s ms}",
+      backgroundCloser.averageLatency(), backgroundCloser.maxLatency()));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.codeborne.selenide.drivercommands;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+final class BrowserHealthCacheTest {
+  private final AtomicLong now = new AtomicLong(1000);
+  private final BrowserHealthCache cache = new BrowserHealthCache(5000, now::get);
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final Object[] noArgs = new Object[0];
+
+  @Test
+  void browserStateIsUnknownInitially() {
+    assertThat(cache.isAlive()).isNull();
+  }
+
+  @Test
+  void anySuccessfulCommandProvesBrowserIsAlive() throws NoSuchMethodException {
+    cache.afterAnyCall(mock(WebElement.class), method(WebElement.class, "click"), noArgs, null);
+
+    assertThat(cache.isAlive()).isTrue();
+  }
+
+  @Test
+  void localCallsDoNotProveBrowserIsAlive() throws NoSuchMethodException {
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "manage"), noArgs, null);
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "navigate"), noArgs, null);
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "switchTo"), noArgs, null);
+    cache.afterAnyCall(webDriver, method(WrapsDriver.class, "getWrappedDriver"), noArgs, webDriver);
+
+    assertThat(cache.isAlive()).isNull();
+  }
+
+  @Test
+  void browserStateExpiresAfterTtl() throws NoSuchMethodException {
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "getTitle"), noArgs, "Selenide");
+
+    now.addAndGet(4999);
+    assertThat(cache.isAlive()).isTrue();
+    now.addAndGet(1);
+    assertThat(cache.isAlive()).isNull();
+  }
+
+  @Test
+  void unreachableBrowserIsDead() throws NoSuchMethodException {
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "getTitle"), noArgs, "Selenide");
+    cache.onError(webDriver, method(WebDriver.class, "getTitle"), noArgs,
+      new InvocationTargetException(new UnreachableBrowserException("Connection refused")));
+
+    assertThat(cache.isAlive()).isFalse();
+  }
+
+  @Test
+  void browserWithoutSessionIsDead() throws NoSuchMethodException {
+    cache.onError(webDriver, method(WebDriver.class, "getCurrentUrl"), noArgs,
+      new InvocationTargetException(new NoSuchSessionException("invalid session id")));
+
+    assertThat(cache.isAlive()).isFalse();
+  }
+
+  @Test
+  void browserNeedsToBeCheckedIfWindowIsClosed() throws NoSuchMethodException {
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "getTitle"), noArgs, "Selenide");
+    cache.onError(webDriver, method(WebDriver.class, "getTitle"), noArgs,
+      new InvocationTargetException(new NoSuchWindowException("no such window")));
+
+    assertThat(cache.isAlive()).isNull();
+  }
+
+  @Test
+  void browserIsDeadAfterQuit() throws NoSuchMethodException {
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "quit"), noArgs, null);
+
+    assertThat(cache.isAlive()).isFalse();
+  }
+
+  @Test
+  void healthCheckerUsesCachedState() throws NoSuchMethodException {
+    cache.register(webDriver);
+    cache.afterAnyCall(webDriver, method(WebDriver.class, "getTitle"), noArgs, "Selenide");
+
+    assertThat(new BrowserHealthChecker().isBrowserStillOpen(webDriver)).isTrue();
+    verifyNoInteractions(webDriver);
+  }
+
+  private static Method method(Class<?> klass, String name) throws NoSuchMethodException {
+    return klass.getMethod(name);
+  }
+}
@@ -0,0 +1,107 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+final class BrowserPrewarmerTest {
+  private final SelenideConfig config = new SelenideConfig();
+  private final CloseDriverCommand closeDriverCommand = mock(CloseDriverCommand.class);
+  private final BrowserPrewarmer prewarmer = new BrowserPrewarmer(closeDriverCommand);
+  private final List<Object> chrome = asList("chrome", true);
+  private final List<Object> firefox = asList("firefox", true);
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final DriverPool.Session session = new DriverPool.Session(emptyList(), webDriver, null, null, null, null);
+
+  @Test
+  void adoptsPrewarmedBrowser() {
+    prewarmer.prewarm(config, chrome, () -> session);
+
+    assertThat(prewarmer.adopt(config, chrome)).isSameAs(session);
+    assertThat(prewarmer.adopt(config, chrome)).isNull();
+    verifyNoInteractions(closeDriverCommand);
+  }
+
+  @Test
+  void prewarmsOnlyOneBrowserWithSameSettings() {
+    AtomicInteger startedBrowsers = new AtomicInteger();
+    prewarmer.prewarm(config, chrome, () -> {
+      startedBrowsers.incrementAndGet();
+      return session;
+    });
+    prewarmer.prewarm(config, chrome, () -> {
+      startedBrowsers.incrementAndGet();
+      return session;
+    });
+
+    assertThat(prewarmer.adopt(config, chrome)).isSameAs(session);
+    assertThat(startedBrowsers.get()).isEqualTo(1);
+  }
+
+  @Test
+  void closesPrewarmedBrowserWithOtherSettings() {
+    prewarmer.prewarm(config, chrome, () -> session);
+
+    assertThat(prewarmer.adopt(config, firefox)).isNull();
+    verify(closeDriverCommand, timeout(1000)).close(config, webDriver, null);
+  }
+
+  @Test
+  void fallsBackToSynchronousCreationIfPrewarmingFailed() {
+    prewarmer.prewarm(config, chrome, () -> {
+      throw new IllegalStateException("Chrome failed to start");
+    });
+
+    assertThat(prewarmer.adopt(config, chrome)).isNull();
+  }
+
+  @Test
+  void nothingToAdoptWithoutPrewarming() {
+    assertThat(prewarmer.adopt(config, chrome)).isNull();
+  }
+
+  @Test
+  void closesPrewarmedBrowserWhenStopped() {
+    prewarmer.prewarm(config, chrome, () -> session);
+
+    prewarmer.stop();
+
+    verify(closeDriverCommand, timeout(1000)).close(config, webDriver, null);
+    assertThat(prewarmer.adopt(config, chrome)).isNull();
+  }
+
+  @Test
+  void closesPrewarmedBrowserIfNobodyAdoptsItInTime() {
+    BrowserPrewarmer prewarmer = new BrowserPrewarmer(closeDriverCommand, 100);
+    prewarmer.prewarm(config, chrome, () -> session);
+
+    verify(closeDriverCommand, timeout(1000)).close(config, webDriver, null);
+    assertThat(prewarmer.adopt(config, chrome)).isNull();
+  }
+
+  @Test
+  void doesNotPrewarmBrowsersAfterStop() {
+    AtomicInteger startedBrowsers = new AtomicInteger();
+    prewarmer.stop();
+
+    prewarmer.prewarm(config, chrome, () -> {
+      startedBrowsers.incrementAndGet();
+      return session;
+    });
+
+    assertThat(prewarmer.adopt(config, chrome)).isNull();
+    assertThat(startedBrowsers.get()).isEqualTo(0);
+    verifyNoInteractions(closeDriverCommand);
+  }
+}
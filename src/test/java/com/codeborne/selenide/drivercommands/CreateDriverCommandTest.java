@@ -0,0 +1,86 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.DummyWebDriver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.impl.DummyFileNamer;
+import com.codeborne.selenide.impl.RoundTripCounter;
+import com.codeborne.selenide.webdriver.WebDriverFactory;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import static com.codeborne.selenide.impl.WebDriverUnwrapper.unwrap;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class CreateDriverCommandTest {
+  private final SelenideConfig config = new SelenideConfig().downloadsFolder("build/downloads");
+  private final WebDriver webDriver = new DummyWebDriver();
+  private final WebDriverFactory factory = mock(WebDriverFactory.class);
+  private final RoundTripCounter roundTripCounter = new RoundTripCounter();
+  private final CreateDriverCommand command = new CreateDriverCommand(new DummyFileNamer("123_456_78"),
+    DriverPool.instance, BrowserPrewarmer.instance, roundTripCounter);
+
+  @Test
+  void doesNotDecorateBrowserWithoutListenersByDefault() {
+    when(factory.createWebDriver(any(), any(), any())).thenReturn(webDriver);
+
+    CreateDriverCommand.Result result = command.createDriver(config, factory, null, emptyList(), emptyList());
+
+    assertThat(result.webDriver).isSameAs(webDriver);
+  }
+
+  @Test
+  void decoratesBrowserWithRoundTripCounterIfEnabled() {
+    when(factory.createWebDriver(any(), any(), any())).thenReturn(webDriver);
+    config.countRoundTrips(true);
+
+    CreateDriverCommand.Result result = command.createDriver(config, factory, null, emptyList(), emptyList());
+
+    assertThat(result.webDriver).isNotSameAs(webDriver);
+    assertThat(((WrapsDriver) result.webDriver).getWrappedDriver()).isSameAs(webDriver);
+  }
+
+  @Test
+  void decoratesBrowserWithRoundTripCounterIfSomebodyCountsRoundTrips() {
+    when(factory.createWebDriver(any(), any(), any())).thenReturn(webDriver);
+    roundTripCounter.start().stop();
+
+    CreateDriverCommand.Result result = command.createDriver(config, factory, null, emptyList(), emptyList());
+
+    assertThat(result.webDriver).isInstanceOf(WrapsDriver.class);
+  }
+
+  @Test
+  void cannotCountRoundTripsOfBrowserOpenedBeforeCounting() {
+    when(factory.createWebDriver(any(), any(), any())).thenReturn(webDriver);
+    command.createDriver(config, factory, null, emptyList(), emptyList());
+
+    RoundTripCounter.Recording recording = roundTripCounter.start();
+    recording.stop();
+
+    assertThatThrownBy(recording::roundTrips)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageStartingWith("Cannot count round trips of a browser opened before counting started");
+  }
+
+  @Test
+  void addsAllListenersWithSingleDecorator() {
+    when(factory.createWebDriver(any(), any(), any())).thenReturn(webDriver);
+    config.countRoundTrips(true).cacheBrowserCookies(true).browserHealthCheckTtl(1000);
+
+    CreateDriverCommand.Result result = command.createDriver(config, factory, null,
+      singletonList(new AbstractWebDriverEventListener() { }), singletonList(new WebDriverListener() { }));
+
+    assertThat(result.webDriver).isInstanceOf(EventFiringWebDriver.class);
+    assertThat(unwrap(result.webDriver)).isSameAs(webDriver);
+  }
+}
@@ -0,0 +1,148 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.webdriver.CdpSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class DriverPoolTest {
+  private final SelenideConfig config = new SelenideConfig().driverPoolSize(1);
+  private final BrowserHealthChecker healthChecker = mock(BrowserHealthChecker.class);
+  private final CloseDriverCommand closeDriverCommand = mock(CloseDriverCommand.class);
+  private final DriverPool pool = new DriverPool(healthChecker, closeDriverCommand);
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings()
+    .extraInterfaces(JavascriptExecutor.class)
+    .defaultAnswer(RETURNS_DEEP_STUBS));
+  private final WebDriver decoratedWebDriver = mock(WebDriver.class);
+
+  @BeforeEach
+  void setUp() {
+    when(webDriver.getWindowHandles()).thenReturn(singleton("main"));
+  }
+
+  @Test
+  void reusesReturnedBrowser() {
+    when(healthChecker.isBrowserStillOpen(webDriver)).thenReturn(true);
+    DriverPool.Session session = session(webDriver);
+    pool.checkedOut(decoratedWebDriver, session);
+
+    assertThat(pool.checkin(config, decoratedWebDriver)).isTrue();
+
+    assertThat(pool.checkout(config, null)).isSameAs(session);
+    assertThat(pool.checkout(config, null)).isNull();
+  }
+
+  @Test
+  void resetsBrowserBeforeReturningToPool() {
+    when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(asList("main", "popup")));
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+
+    assertThat(pool.checkin(config, decoratedWebDriver)).isTrue();
+
+    verify(webDriver.switchTo().window("popup")).close();
+    verify(webDriver.switchTo()).window("main");
+    verify(webDriver.manage()).deleteAllCookies();
+    verify((JavascriptExecutor) webDriver).executeScript(anyString());
+    verify(webDriver.navigate()).to("about:blank");
+  }
+
+  @Test
+  void clearsCookiesOfAllDomainsAndStorageOfAllPagesInChromium() {
+    CdpSession cdp = mock(CdpSession.class);
+    DriverPool pool = new DriverPool(healthChecker, closeDriverCommand, browser -> Optional.of(cdp));
+    when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(asList("main", "popup")));
+    when(webDriver.switchTo().window("popup").getCurrentUrl()).thenReturn("https://auth.example.com:8443/login?next=/");
+    when(webDriver.getCurrentUrl()).thenReturn("http://shop.example.com/cart");
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+
+    assertThat(pool.checkin(config, decoratedWebDriver)).isTrue();
+
+    verify(cdp).send("Network.clearBrowserCookies", emptyMap());
+    verify(cdp).send("Storage.clearDataForOrigin", storage("https://auth.example.com:8443"));
+    verify(cdp).send("Storage.clearDataForOrigin", storage("http://shop.example.com"));
+    verify(webDriver.manage(), never()).deleteAllCookies();
+    verify(webDriver.navigate()).to("about:blank");
+  }
+
+  @Test
+  void doesNotReuseBrowserWithOtherSettings() {
+    when(healthChecker.isBrowserStillOpen(webDriver)).thenReturn(true);
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+    pool.checkin(config, decoratedWebDriver);
+
+    assertThat(pool.checkout(new SelenideConfig().driverPoolSize(1).browser("firefox"), null)).isNull();
+  }
+
+  @Test
+  void closesDeadBrowserInsteadOfReusingIt() {
+    when(healthChecker.isBrowserStillOpen(webDriver)).thenReturn(false);
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+    pool.checkin(config, decoratedWebDriver);
+
+    assertThat(pool.checkout(config, null)).isNull();
+    verify(closeDriverCommand).close(config, webDriver, null);
+  }
+
+  @Test
+  void keepsLimitedNumberOfBrowsers() {
+    WebDriver webDriver2 = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+    WebDriver decoratedWebDriver2 = mock(WebDriver.class);
+    when(webDriver2.getWindowHandles()).thenReturn(singleton("main"));
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+    pool.checkedOut(decoratedWebDriver2, session(webDriver2));
+
+    assertThat(pool.checkin(config, decoratedWebDriver)).isTrue();
+    assertThat(pool.checkin(config, decoratedWebDriver2)).isFalse();
+  }
+
+  @Test
+  void doesNotAcceptBrowserThatFailedToReset() {
+    when(webDriver.getWindowHandles()).thenThrow(new WebDriverException("unexpected alert open"));
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+
+    assertThat(pool.checkin(config, decoratedWebDriver)).isFalse();
+  }
+
+  @Test
+  void doesNotAcceptUnknownBrowser() {
+    assertThat(pool.checkin(config, decoratedWebDriver)).isFalse();
+  }
+
+  @Test
+  void doesNotAcceptBrowsersIfPoolIsDisabled() {
+    pool.checkedOut(decoratedWebDriver, session(webDriver));
+
+    assertThat(pool.checkin(new SelenideConfig().driverPoolSize(0), decoratedWebDriver)).isFalse();
+  }
+
+  private static Map<String, Object> storage(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("storageTypes", "all");
+    return params;
+  }
+
+  private DriverPool.Session session(WebDriver webDriver) {
+    return new DriverPool.Session(DriverPool.key(config, null), webDriver, null, null, null, null);
+  }
+}
@@ -6,6 +6,7 @@ import com.codeborne.selenide.impl.DummyFileNamer;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 
@@ -16,9 +17,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,7 +30,7 @@ final class LazyDriverTest {
   private final WebDriver webdriver = new DummyWebDriver();
   private final WebDriverFactory factory = mock(WebDriverFactory.class);
   private final BrowserHealthChecker browserHealthChecker = mock(BrowserHealthChecker.class);
-  private final CreateDriverCommand createDriverCommand = new CreateDriverCommand(new DummyFileNamer("123_456_78"));
+  private final CreateDriverCommand createDriverCommand = spy(new CreateDriverCommand(new DummyFileNamer("123_456_78")));
   private final CloseDriverCommand closeDriverCommand = new CloseDriverCommand();
   private LazyDriver driver;
 
@@ -117,6 +120,21 @@ final class LazyDriverTest {
     assertThat(driver.hasWebDriverStarted()).isFalse();
   }
 
+  @Test
+  void prewarmsNextBrowserWhenBrowserIsClosed() {
+    when(config.prewarmBrowser()).thenReturn(true);
+    when(config.browserCapabilities()).thenReturn(new MutableCapabilities());
+    doNothing().when(createDriverCommand).prewarm(any(), any(), any());
+    driver = new LazyDriver(config, null, emptyList(), emptyList(),
+      factory, browserHealthChecker, createDriverCommand, closeDriverCommand);
+    verify(createDriverCommand, never()).prewarm(any(), any(), any());
+    givenOpenedBrowser();
+
+    driver.close();
+
+    verify(createDriverCommand).prewarm(config, factory, null);
+  }
+
   private Proxy mockProxy(String httpProxy) {
     Proxy mockedProxy = mock(Proxy.class);
     when(mockedProxy.getHttpProxy()).thenReturn(httpProxy);
@@ -0,0 +1,64 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+final class ProxyStartupTest {
+  private final SelenideProxyServer selenideProxyServer = mock(SelenideProxyServer.class);
+
+  @Test
+  void keepsFreePortReservedUntilProxyStarts() throws IOException {
+    ServerSocket reservedPort = ProxyStartup.reservePort();
+    int port = reservedPort.getLocalPort();
+    assertThat(port).isPositive();
+    assertThatThrownBy(() -> new ServerSocket(port).close()).isInstanceOf(BindException.class);
+
+    ProxyStartup startup = new ProxyStartup(selenideProxyServer, port, reservedPort);
+
+    assertThat(startup.await()).isGreaterThanOrEqualTo(0);
+    assertThat(reservedPort.isClosed()).isTrue();
+    verify(selenideProxyServer).createSeleniumProxy(port);
+    verify(selenideProxyServer).start(port);
+    try (ServerSocket socket = new ServerSocket(port)) {
+      assertThat(socket.getLocalPort()).isEqualTo(port);
+    }
+  }
+
+  @Test
+  void startsProxyInBackground() {
+    ProxyStartup startup = new ProxyStartup(selenideProxyServer, 9191);
+
+    assertThat(startup.await()).isGreaterThanOrEqualTo(0);
+    verify(selenideProxyServer).createSeleniumProxy(9191);
+    verify(selenideProxyServer).start(9191);
+  }
+
+  @Test
+  void reportsProxyStartupFailure() {
+    doThrow(new IllegalArgumentException("Address already in use")).when(selenideProxyServer).start(9191);
+    ProxyStartup startup = new ProxyStartup(selenideProxyServer, 9191);
+
+    assertThatThrownBy(startup::await)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to start proxy server")
+      .hasRootCauseMessage("Address already in use");
+  }
+
+  @Test
+  void abortedProxyIsShutDownAfterStart() {
+    new ProxyStartup(selenideProxyServer, 9191).abort();
+
+    verify(selenideProxyServer, timeout(1000)).shutdown();
+  }
+}
@@ -0,0 +1,100 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+final class ShutdownRegistryTest {
+  private final Config config = mock(Config.class);
+  private final CloseDriverCommand closeDriverCommand = mock(CloseDriverCommand.class);
+  private final BrowserPrewarmer prewarmer = mock(BrowserPrewarmer.class);
+  private final ShutdownRegistry registry = new ShutdownRegistry(closeDriverCommand, new BackgroundCloser(), prewarmer);
+
+  @Test
+  void closesAllRemainingBrowsersAtExit() {
+    WebDriver browser1 = mock(WebDriver.class);
+    WebDriver browser2 = mock(WebDriver.class);
+    SelenideProxyServer proxy = mock(SelenideProxyServer.class);
+    registry.register(config, browser1, proxy, null);
+    registry.register(config, browser2, null, null);
+
+    registry.closeAll();
+
+    verify(closeDriverCommand).close(config, browser1, proxy);
+    verify(closeDriverCommand).close(config, browser2, null);
+    verifyNoMoreInteractions(closeDriverCommand);
+    assertThat(registry.size()).isEqualTo(0);
+  }
+
+  @Test
+  void stopsPrewarmingBrowsersAtExit() {
+    registry.closeAll();
+
+    verify(prewarmer).stop();
+  }
+
+  @Test
+  void doesNotHoldClosedBrowsers() {
+    WebDriver browser1 = mock(WebDriver.class);
+    WebDriver browser2 = mock(WebDriver.class);
+    registry.register(config, browser1, null, null);
+    registry.register(config, browser2, null, null);
+
+    registry.deregister(browser1);
+    assertThat(registry.size()).isEqualTo(1);
+
+    registry.closeAll();
+    verify(closeDriverCommand).close(config, browser2, null);
+    verifyNoMoreInteractions(closeDriverCommand);
+  }
+
+  @Test
+  void browserCanBeDeregisteredByDecoratedWebdriver() {
+    WebDriver browser = mock(WebDriver.class);
+    WebDriver decorated = mock(WebDriver.class);
+    registry.register(config, browser, null, null);
+    registry.decorated(decorated, browser);
+
+    registry.deregister(decorated);
+
+    assertThat(registry.size()).isEqualTo(0);
+  }
+
+  @Test
+  void deletesEmptyDownloadsFolderWhenBrowserIsClosed() throws IOException {
+    File emptyFolder = Files.createTempDirectory("downloads").toFile();
+    File folderWithFiles = Files.createTempDirectory("downloads").toFile();
+    File downloadedFile = new File(folderWithFiles, "report.pdf");
+    Files.write(downloadedFile.toPath(), new byte[]{1, 2, 3});
+    WebDriver browser1 = mock(WebDriver.class);
+    WebDriver browser2 = mock(WebDriver.class);
+    registry.register(config, browser1, null, emptyFolder);
+    registry.register(config, browser2, null, folderWithFiles);
+
+    registry.deregister(browser1);
+    registry.deregister(browser2);
+
+    assertThat(emptyFolder).doesNotExist();
+    assertThat(downloadedFile).exists();
+  }
+
+  @Test
+  void deletesEmptyDownloadsFoldersAtExit() throws IOException {
+    File emptyFolder = Files.createTempDirectory("downloads").toFile();
+    registry.register(config, mock(WebDriver.class), null, emptyFolder);
+
+    registry.closeAll();
+
+    assertThat(emptyFolder).doesNotExist();
+  }
+}
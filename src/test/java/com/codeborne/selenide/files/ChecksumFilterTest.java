@@ -0,0 +1,45 @@
+package com.codeborne.selenide.files;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ChecksumFilterTest {
+  private static final String HELLO_SHA256 = "185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969";
+  private final FileFilter filter = FileFilters.withSha256(HELLO_SHA256);
+
+  @Test
+  void matchesPrecalculatedChecksum() {
+    File notExistingFile = new File("not-existing-file.txt");
+    assertThat(filter.match(new DownloadedFile(notExistingFile, emptyMap(), 5, singletonMap("SHA-256", HELLO_SHA256)))).isTrue();
+    assertThat(filter.match(new DownloadedFile(notExistingFile, emptyMap(), 5, singletonMap("SHA-256", "abcdef")))).isFalse();
+  }
+
+  @Test
+  void calculatesChecksumFromFileIfNotPrecalculated() throws IOException {
+    File file = File.createTempFile("selenide-tests", "checksum.txt");
+    writeStringToFile(file, "Hello", UTF_8);
+    assertThat(filter.match(new DownloadedFile(file, emptyMap()))).isTrue();
+    FileFilter md5 = FileFilters.withChecksum("MD5", "8B1A9953C4611296A827ABF8C47804D7");
+    assertThat(md5.match(new DownloadedFile(file, emptyMap()))).isTrue();
+  }
+
+  @Test
+  void requestsChecksumCalculationDuringDownload() {
+    assertThat(filter.checksums()).containsExactly("SHA-256");
+    assertThat(FileFilters.none().checksums()).isEmpty();
+  }
+
+  @Test
+  void description() {
+    assertThat(filter.description()).isEqualTo("with SHA-256 \"" + HELLO_SHA256 + "\"");
+    assertThat(filter).hasToString("with SHA-256 \"" + HELLO_SHA256 + "\"");
+  }
+}
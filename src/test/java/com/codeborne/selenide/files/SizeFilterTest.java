@@ -0,0 +1,38 @@
+package com.codeborne.selenide.files;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class SizeFilterTest {
+  @Test
+  void matchesFileByExactSize() {
+    FileFilter filter = FileFilters.withSize(42);
+    assertThat(filter.match(file(42))).isTrue();
+    assertThat(filter.match(file(41))).isFalse();
+    assertThat(filter.match(file(43))).isFalse();
+  }
+
+  @Test
+  void matchesFileBySizeRange() {
+    FileFilter filter = FileFilters.withSizeBetween(100, 200);
+    assertThat(filter.match(file(100))).isTrue();
+    assertThat(filter.match(file(150))).isTrue();
+    assertThat(filter.match(file(200))).isTrue();
+    assertThat(filter.match(file(99))).isFalse();
+    assertThat(filter.match(file(201))).isFalse();
+  }
+
+  @Test
+  void description() {
+    assertThat(FileFilters.withSize(42)).hasToString("with size 42 bytes");
+    assertThat(FileFilters.withSizeBetween(100, 200).description()).isEqualTo("with size between 100 and 200 bytes");
+  }
+
+  private DownloadedFile file(long size) {
+    return new DownloadedFile(new File("not-existing-file.pdf"), emptyMap(), size, emptyMap());
+  }
+}
@@ -0,0 +1,83 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.hc.client5.http.cookie.CookieStore;
+import org.apache.hc.client5.http.impl.cookie.BasicClientCookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashSet;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class BrowserCookiesCacheTest {
+  private final WebDriver webDriver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+  private final BrowserCookiesCache cache = new BrowserCookiesCache();
+
+  @BeforeEach
+  void setUp() {
+    when(webDriver.manage().getCookies()).thenReturn(new HashSet<>(singletonList(new Cookie("jsessionid", "123456789"))));
+  }
+
+  @Test
+  void asksBrowserForCookiesOnlyOnce() {
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+
+    verify(webDriver.manage(), times(1)).getCookies();
+  }
+
+  @Test
+  void asksBrowserForCookiesAgainAfterAnyActionThatCouldChangeCookies() {
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+    cache.afterGet(webDriver, "https://some.url");
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+    cache.afterDeleteAllCookies(webDriver.manage());
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+    cache.afterExecuteScript(webDriver, "document.cookie = 'theme=dark'", new Object[0], null);
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+    cache.invalidate();
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+
+    verify(webDriver.manage(), times(5)).getCookies();
+  }
+
+  @Test
+  void actionsAndScriptsNotAccessingCookiesDoNotInvalidateCache() {
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+    cache.afterClick(mock(WebElement.class));
+    cache.afterSendKeys(mock(WebElement.class), "selenide");
+    cache.afterSubmit(mock(WebElement.class));
+    cache.afterExecuteScript(webDriver, "return document.title", new Object[0], "Selenide");
+    assertThat(cache.cookieStore(webDriver).getCookies()).hasSize(1);
+
+    verify(webDriver.manage(), times(1)).getCookies();
+  }
+
+  @Test
+  void cookiesSetByServerDuringDownloadAreNotCached() {
+    CookieStore download1 = cache.cookieStore(webDriver);
+    download1.addCookie(new BasicClientCookie("download-token", "42"));
+    assertThat(download1.getCookies()).extracting("name").containsExactlyInAnyOrder("jsessionid", "download-token");
+
+    CookieStore download2 = cache.cookieStore(webDriver);
+    assertThat(download2.getCookies()).extracting("name").containsExactly("jsessionid");
+  }
+
+  @Test
+  void registersCacheForWebdriver() {
+    assertThat(BrowserCookiesCache.of(webDriver)).isNull();
+
+    cache.register(webDriver);
+
+    assertThat(BrowserCookiesCache.of(webDriver)).isSameAs(cache);
+  }
+}
@@ -0,0 +1,44 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.IOUtils.resourceToByteArray;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class CapturedImageTest {
+  @Test
+  void detectsImageFormat() throws IOException {
+    byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F', 'I', 'F'};
+    assertThat(new CapturedImage(resourceToByteArray("/screenshot.png")).extension()).isEqualTo("png");
+    assertThat(new CapturedImage(jpeg).extension()).isEqualTo("jpg");
+    assertThat(new CapturedImage("RIFF\0\0\0\0WEBPVP8 ".getBytes(UTF_8)).extension()).isEqualTo("webp");
+    assertThat(new CapturedImage("RIFF\0\0\0\0WAVE    ".getBytes(UTF_8)).extension()).isEqualTo("png");
+  }
+
+  @Test
+  void writesBytesAsIs(@TempDir File folder) throws IOException {
+    byte[] png = resourceToByteArray("/screenshot.png");
+    File file = new File(folder, "screenshot.png");
+
+    new CapturedImage(png).writeTo(file);
+
+    assertThat(file).hasBinaryContent(png);
+  }
+
+  @Test
+  void decodesImageOnlyOnce() throws IOException {
+    CapturedImage screenshot = new CapturedImage(resourceToByteArray("/screenshot.png"));
+
+    BufferedImage image = screenshot.image();
+
+    assertThat(image).isNotNull();
+    assertThat(image.getWidth()).isPositive();
+    assertThat(screenshot.image()).isSameAs(image);
+  }
+}
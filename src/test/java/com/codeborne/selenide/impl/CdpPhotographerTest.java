@@ -0,0 +1,67 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.firefox.FirefoxDriver;
+
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.openqa.selenium.OutputType.BYTES;
+
+final class CdpPhotographerTest {
+  private final FirefoxDriver webDriver = mock(FirefoxDriver.class);
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("firefox", false), webDriver, null);
+  private final Photographer webdriverPhotographer = mock(Photographer.class);
+  private final CdpPhotographer photographer = new CdpPhotographer(webdriverPhotographer);
+  private final byte[] png = "png".getBytes(UTF_8);
+
+  @Test
+  void takesPngScreenshotsWithWebdriver() {
+    when(webdriverPhotographer.takeScreenshot(driver, "png", 90)).thenReturn(Optional.of(png));
+
+    assertThat(photographer.takeScreenshot(driver, "png", 90)).hasValue(png);
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void takesPngElementScreenshotsWithWebdriver() {
+    WebElement element = mock(WebElement.class);
+    when(webdriverPhotographer.takeScreenshot(driver, element, "png", 90)).thenReturn(Optional.of(png));
+
+    assertThat(photographer.takeScreenshot(driver, element, "png", 90)).hasValue(png);
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void takesPngScreenshotsWithWebdriver_ifBrowserHasNoDevTools() {
+    when(webdriverPhotographer.takeScreenshot(driver, "png", 90)).thenReturn(Optional.of(png));
+
+    assertThat(photographer.takeScreenshot(driver, "jpeg", 90)).hasValue(png);
+  }
+
+  @Test
+  void takesPngElementScreenshotsWithWebdriver_ifBrowserHasNoDevTools() {
+    WebElement element = mock(WebElement.class);
+    when(webdriverPhotographer.takeScreenshot(driver, element, "png", 80)).thenReturn(Optional.of(png));
+
+    assertThat(photographer.takeScreenshot(driver, element, "webp", 80)).hasValue(png);
+  }
+
+  @Test
+  void delegatesOtherScreenshotsToWebdriver() {
+    when(webdriverPhotographer.takeScreenshot(driver, BYTES)).thenReturn(Optional.of(png));
+
+    assertThat(photographer.takeScreenshot(driver, BYTES)).hasValue(png);
+    verify(webdriverPhotographer).takeScreenshot(driver, BYTES);
+  }
+}
@@ -0,0 +1,228 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.ReadAttribute;
+import com.codeborne.selenide.SelectorMode;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ByIdOrName;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Mocks.mockWebElement;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class ContainerReaderTest {
+  private static final By ROWS = By.cssSelector("tr");
+
+  private final SelenideConfig config = new SelenideConfig();
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final SelenidePageFactory pageFactory = new SelenidePageFactory();
+  private final WebElement row0 = mockWebElement("tr", "Apple");
+  private final WebElement row1 = mockWebElement("tr", "Banana");
+
+  @BeforeEach
+  void setUp() {
+    when(webDriver.findElements(ROWS)).thenReturn(asList(row0, row1));
+    when(webDriver.findElement(ROWS)).thenReturn(row0);
+  }
+
+  @Test
+  void compilesSelectorsRelativeToContainer() {
+    assertThat(ContainerReader.locators(By.cssSelector("td.name"))).containsExactly(singletonMap("css", "td.name"));
+    assertThat(ContainerReader.locators(By.tagName("td"))).containsExactly(singletonMap("css", "td"));
+    assertThat(ContainerReader.locators(By.id("price"))).containsExactly(singletonMap("css", "[id=\"price\"]"));
+    assertThat(ContainerReader.locators(By.name("q"))).containsExactly(singletonMap("css", "[name=\"q\"]"));
+    assertThat(ContainerReader.locators(By.className("total"))).containsExactly(singletonMap("css", "[class~=\"total\"]"));
+    assertThat(ContainerReader.locators(By.xpath(".//td[2]"))).containsExactly(singletonMap("xpath", ".//td[2]"));
+    assertThat(ContainerReader.locators(new ByIdOrName("amount"))).containsExactly(
+      singletonMap("css", "[id=\"amount\"]"), singletonMap("css", "[name=\"amount\"]"));
+    assertThat(ContainerReader.locators(By.linkText("Details"))).isNull();
+  }
+
+  @Test
+  void escapesCssStrings() {
+    assertThat(ContainerReader.cssString("a\"b\\c\nd")).isEqualTo("\"a\\\"b\\\\c\\a d\"");
+  }
+
+  @Test
+  void readsAllRowsWithSingleScript() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any())).thenReturn(asList(
+      asList("Apple", "10", "/apple"),
+      asList("Banana", null, "/banana")
+    ));
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    List<ProductDto> products = ElementsContainer.readAll(page.products, ProductDto.class);
+
+    assertThat(products).extracting(p -> p.name + " " + p.price + " " + p.link)
+      .containsExactly("Apple 10 /apple", "Banana null /banana");
+    verify(webDriver, times(1)).findElements(ROWS);
+    ArgumentCaptor<Object> fields = ArgumentCaptor.forClass(Object.class);
+    verify((JavascriptExecutor) webDriver)
+      .executeScript(contains("function (roots, fields)"), eq(asList(row0, row1)), fields.capture());
+    assertThat(fields.getValue().toString())
+      .contains("{locators=[{css=td.name}]}", "{locators=[{css=[id=\"price\"]}]}")
+      .contains("attribute=href", "{xpath=.//a}");
+  }
+
+  @Test
+  void readsSingleContainer() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any()))
+      .thenReturn(singletonList(asList("Apple", "10", "/apple")));
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    ProductDto apple = page.products.get(0).readAll(ProductDto.class);
+
+    assertThat(apple.name).isEqualTo("Apple");
+    assertThat(apple.price).isEqualTo("10");
+    assertThat(apple.link).isEqualTo("/apple");
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), eq(singletonList(row0)), any());
+  }
+
+  @Test
+  void readsFieldsWithSelectorsNotSupportedByScriptOneByOne() {
+    WebElement details = mockWebElement("a", "Details");
+    when(row0.findElement(By.linkText("Details"))).thenReturn(details);
+    when(row0.findElements(By.linkText("Details"))).thenReturn(singletonList(details));
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any()))
+      .thenReturn(singletonList(singletonList("Apple")));
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    DetailsDto dto = page.products.get(0).readAll(DetailsDto.class);
+
+    assertThat(dto.name).isEqualTo("Apple");
+    assertThat(dto.details).isEqualTo("Details");
+    ArgumentCaptor<Object> fields = ArgumentCaptor.forClass(Object.class);
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), any(), fields.capture());
+    assertThat((List<?>) fields.getValue()).hasSize(1);
+  }
+
+  @Test
+  void readsAllFieldsOneByOneInSizzleMode() {
+    config.selectorMode(SelectorMode.Sizzle);
+    when(webDriver.findElements(By.xpath("//tr"))).thenReturn(singletonList(row0));
+    when(webDriver.findElement(By.xpath("//tr"))).thenReturn(row0);
+    WebElement name = mockWebElement("td", "Apple");
+    WebElement select = mockWebElement("select", "Green Red");
+    WebElement red = mockWebElement("option", "Red");
+    when(select.findElements(By.tagName("option"))).thenReturn(singletonList(red));
+    when(red.isSelected()).thenReturn(true);
+    when(row0.findElement(By.xpath(".//td"))).thenReturn(name);
+    when(row0.findElements(By.xpath(".//td"))).thenReturn(singletonList(name));
+    when(row0.findElement(By.id("color"))).thenReturn(select);
+    when(row0.findElements(By.id("color"))).thenReturn(singletonList(select));
+    ColorsPage page = pageFactory.page(driver, ColorsPage.class);
+
+    List<ColorDto> colors = ElementsContainer.readAll(page.products, ColorDto.class);
+
+    assertThat(colors).extracting(c -> c.name + " " + c.color).containsExactly("Apple Red");
+    verify((JavascriptExecutor) webDriver, never()).executeScript(anyString(), any(), any());
+  }
+
+  @Test
+  void returnsEmptyListWithoutScriptIfThereAreNoRows() {
+    when(webDriver.findElements(ROWS)).thenReturn(asList());
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    assertThat(ElementsContainer.readAll(page.products, ProductDto.class)).isEmpty();
+  }
+
+  @Test
+  void dtoFieldsShouldMatchContainerElements() {
+    assertThatThrownBy(() -> ContainerReader.of(Product.class, WrongDto.class))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("has no element field size");
+    assertThatThrownBy(() -> ContainerReader.of(Product.class, NotStringDto.class))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("only String fields are supported");
+  }
+
+  @Test
+  void compilesReaderOncePerContainerAndDto() {
+    assertThat(ContainerReader.of(Product.class, ProductDto.class)).isSameAs(ContainerReader.of(Product.class, ProductDto.class));
+  }
+
+  private static class ProductsPage {
+    @FindBy(css = "tr")
+    List<Product> products;
+  }
+
+  private static class Product extends ElementsContainer {
+    @FindBy(css = "td.name")
+    SelenideElement name;
+
+    @FindBy(id = "price")
+    SelenideElement price;
+
+    @FindBy(xpath = ".//a")
+    SelenideElement link;
+
+    @FindBy(linkText = "Details")
+    SelenideElement details;
+  }
+
+  private static class ColorsPage {
+    @FindBy(xpath = "//tr")
+    List<ColoredProduct> products;
+  }
+
+  private static class ColoredProduct extends ElementsContainer {
+    @FindBy(xpath = ".//td")
+    SelenideElement name;
+
+    @FindBy(id = "color")
+    SelenideElement color;
+  }
+
+  private static class ProductDto {
+    String name;
+    String price;
+    @ReadAttribute("href")
+    String link;
+  }
+
+  private static class DetailsDto {
+    String name;
+    String details;
+  }
+
+  private static class ColorDto {
+    String name;
+    String color;
+  }
+
+  private static class WrongDto {
+    String size;
+  }
+
+  private static class NotStringDto {
+    int price;
+  }
+}
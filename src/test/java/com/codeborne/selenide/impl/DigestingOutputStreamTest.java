@@ -0,0 +1,54 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class DigestingOutputStreamTest {
+  @Test
+  void countsBytesAndCalculatesChecksumsOfWrittenContent() throws IOException {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    try (DigestingOutputStream out = new DigestingOutputStream(target, new HashSet<>(asList("SHA-256", "MD5")))) {
+      out.write("He".getBytes(UTF_8));
+      out.write('l');
+      out.write("xxloxx".getBytes(UTF_8), 2, 2);
+
+      assertThat(out.size()).isEqualTo(5);
+      assertThat(out.checksums())
+        .containsEntry("SHA-256", "185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969")
+        .containsEntry("MD5", "8b1a9953c4611296a827abf8c47804d7")
+        .hasSize(2);
+    }
+    assertThat(target.toString("UTF-8")).isEqualTo("Hello");
+  }
+
+  @Test
+  void calculatesNothingByDefault() throws IOException {
+    try (DigestingOutputStream out = new DigestingOutputStream(new ByteArrayOutputStream(), emptySet())) {
+      out.write(new byte[]{1, 2, 3});
+      assertThat(out.size()).isEqualTo(3);
+      assertThat(out.checksums()).isEmpty();
+    }
+  }
+
+  @Test
+  void unknownAlgorithm() {
+    assertThatThrownBy(() -> new DigestingOutputStream(new ByteArrayOutputStream(), singleton("SHA-42")))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unsupported checksum algorithm: SHA-42");
+  }
+
+  @Test
+  void toHex() {
+    assertThat(DigestingOutputStream.toHex(new byte[]{0, 15, 16, -1})).isEqualTo("000f10ff");
+  }
+}
@@ -21,6 +21,7 @@ import static com.codeborne.selenide.FileDownloadMode.PROXY;
 import static com.codeborne.selenide.files.DownloadActions.click;
 import static com.codeborne.selenide.files.FileFilters.none;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -60,7 +61,7 @@ final class DownloadFileWithProxyServerTest {
     File file = command.download(linkWithHref, link, 3000, none(), click());
 
     assertThat(file.getName()).isEqualTo("report.pdf");
-    verify(filter).activate();
+    verify(filter).activate(emptySet());
     verify(link).click();
     verify(filter).deactivate();
   }
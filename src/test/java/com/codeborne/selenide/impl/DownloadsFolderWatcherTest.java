@@ -0,0 +1,94 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.BrowserDownloadsFolder;
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.files.DownloadedFile;
+import com.codeborne.selenide.files.FileFilters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static com.codeborne.selenide.impl.DownloadsFolderWatcher.isPartial;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DownloadsFolderWatcherTest {
+  @Test
+  void recognizesPartialFiles() {
+    assertThat(isPartial(new File("Unconfirmed 123456.crdownload"))).isTrue();
+    assertThat(isPartial(new File("report.pdf.part"))).isTrue();
+    assertThat(isPartial(new File("report.pdf.PART"))).isTrue();
+    assertThat(isPartial(new File("report.pdf.download"))).isTrue();
+    assertThat(isPartial(new File("report.pdf"))).isFalse();
+    assertThat(isPartial(new File("partial"))).isFalse();
+    assertThat(isPartial(new File("download"))).isFalse();
+    assertThat(isPartial(new File("part"))).isFalse();
+    assertThat(isPartial(new File("CRDOWNLOAD"))).isFalse();
+    assertThat(isPartial(new File(".part"))).isFalse();
+  }
+
+  @Test
+  void detectsNewFile(@TempDir File dir) throws IOException {
+    DownloadsFolder folder = BrowserDownloadsFolder.from(dir);
+    try (DownloadsFolderWatcher watcher = DownloadsFolderWatcher.watch(folder, System.currentTimeMillis())) {
+      assertThat(watcher).isNotNull();
+      writeStringToFile(new File(dir, "report.txt"), "Hello", UTF_8);
+
+      Downloads downloads = watcher.waitForDownloads(FileFilters.none(), 4000, 50);
+
+      assertThat(names(downloads)).containsExactly("report.txt");
+    }
+  }
+
+  @Test
+  void ignoresFilesExistingBeforeDownload(@TempDir File dir) throws IOException {
+    writeStringToFile(new File(dir, "old.txt"), "Hello", UTF_8);
+    DownloadsFolder folder = BrowserDownloadsFolder.from(dir);
+    try (DownloadsFolderWatcher watcher = DownloadsFolderWatcher.watch(folder, System.currentTimeMillis())) {
+      assertThat(watcher).isNotNull();
+
+      Downloads downloads = watcher.waitForDownloads(FileFilters.none(), 300, 50);
+
+      assertThat(downloads.files()).isEmpty();
+    }
+  }
+
+  @Test
+  void waitsUntilPartialFileIsRenamed(@TempDir File dir) throws IOException {
+    DownloadsFolder folder = BrowserDownloadsFolder.from(dir);
+    try (DownloadsFolderWatcher watcher = DownloadsFolderWatcher.watch(folder, System.currentTimeMillis())) {
+      assertThat(watcher).isNotNull();
+      File partial = new File(dir, "report.pdf.crdownload");
+      writeStringToFile(partial, "%PDF-1.4", UTF_8);
+
+      assertThat(watcher.waitForDownloads(FileFilters.none(), 300, 50).files()).isEmpty();
+
+      Files.move(partial.toPath(), new File(dir, "report.pdf").toPath());
+      Downloads downloads = watcher.waitForDownloads(FileFilters.none(), 4000, 50);
+
+      assertThat(names(downloads)).containsExactly("report.pdf");
+    }
+  }
+
+  @Test
+  void appliesFileFilter(@TempDir File dir) throws IOException {
+    DownloadsFolder folder = BrowserDownloadsFolder.from(dir);
+    try (DownloadsFolderWatcher watcher = DownloadsFolderWatcher.watch(folder, System.currentTimeMillis())) {
+      assertThat(watcher).isNotNull();
+      writeStringToFile(new File(dir, "favicon.ico"), "icon", UTF_8);
+
+      assertThat(watcher.waitForDownloads(FileFilters.withExtension("pdf"), 300, 50).files(FileFilters.withExtension("pdf")))
+        .isEmpty();
+    }
+  }
+
+  private static List<String> names(Downloads downloads) {
+    return downloads.files().stream().map(DownloadedFile::getFile).map(File::getName).collect(toList());
+  }
+}
@@ -0,0 +1,116 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.Mocks.mockWebElement;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class ElementsContainerCollectionTest {
+  private static final By ROWS = By.cssSelector("tr");
+  private static final By NAME = By.cssSelector("td.name");
+  private static final By PRICE = By.cssSelector("td.price");
+
+  private final SelenideConfig config = new SelenideConfig().pollingInterval(1);
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final SelenidePageFactory pageFactory = new SelenidePageFactory();
+  private final WebElement row0 = row("Apple", "10");
+  private final WebElement row1 = row("Banana", "20");
+
+  @BeforeEach
+  void setUp() {
+    when(webDriver.findElements(ROWS)).thenReturn(asList(row0, row1));
+    when(webDriver.findElement(ROWS)).thenReturn(row0);
+  }
+
+  @Test
+  void snapshotModeFindsAllRowsOnce() {
+    config.snapshotContainerLists(true);
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    assertThat(texts(page.products)).containsExactly("Apple 10", "Banana 20");
+    verify(webDriver, times(1)).findElements(ROWS);
+  }
+
+  @Test
+  void snapshotModeFindsRowAgainAfterFailure() {
+    config.snapshotContainerLists(true);
+    WebElement newRow1 = row("Cherry", "30");
+    when(row1.findElement(NAME)).thenThrow(new StaleElementReferenceException("element is not attached to the page document"));
+    when(webDriver.findElements(ROWS)).thenReturn(asList(row0, row1)).thenReturn(asList(row0, newRow1));
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    assertThat(texts(page.products)).containsExactly("Apple 10", "Cherry 30");
+    verify(webDriver, times(2)).findElements(ROWS);
+  }
+
+  @Test
+  void snapshotModeBindsContainerToRowOnFirstAccessByIndex() {
+    config.snapshotContainerLists(true);
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    Product banana = page.products.get(1);
+    assertThat(banana.name.getText()).isEqualTo("Banana");
+    assertThat(banana.price.getText()).isEqualTo("20");
+    verify(webDriver, times(1)).findElements(ROWS);
+  }
+
+  @Test
+  void findsRowByIndexOnEveryAccessByDefault() {
+    ProductsPage page = pageFactory.page(driver, ProductsPage.class);
+
+    assertThat(texts(page.products)).containsExactly("Apple 10", "Banana 20");
+    // size() before every row, and every field of the 2nd row
+    verify(webDriver, times(5)).findElements(ROWS);
+  }
+
+  private static List<String> texts(List<Product> products) {
+    List<String> result = new ArrayList<>();
+    for (Product product : products) {
+      result.add(product.name.getText() + " " + product.price.getText());
+    }
+    return result;
+  }
+
+  private static WebElement row(String name, String price) {
+    WebElement row = mockWebElement("tr", name + " " + price);
+    WebElement nameCell = mockWebElement("td", name);
+    WebElement priceCell = mockWebElement("td", price);
+    when(row.findElement(NAME)).thenReturn(nameCell);
+    when(row.findElement(PRICE)).thenReturn(priceCell);
+    return row;
+  }
+
+  private static class ProductsPage {
+    @FindBy(css = "tr")
+    List<Product> products;
+  }
+
+  private static class Product extends ElementsContainer {
+    @FindBy(css = "td.name")
+    SelenideElement name;
+
+    @FindBy(css = "td.price")
+    SelenideElement price;
+  }
+}
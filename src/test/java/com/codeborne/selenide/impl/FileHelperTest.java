@@ -7,7 +7,9 @@ import java.io.File;
 import java.io.IOException;
 
 import static com.codeborne.selenide.impl.FileHelper.deleteFolderIfEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.FileUtils.touch;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
 import static org.assertj.core.api.Assertions.assertThat;
 
 final class FileHelperTest {
@@ -29,4 +31,24 @@ final class FileHelperTest {
     assertThat(folder).exists();
     assertThat(new File(folder, "file1")).exists();
   }
+
+  @Test
+  void writesBytesToFile(@TempDir File folder) throws IOException {
+    File file = new File(folder, "sub/folder/file.bin");
+    FileHelper.writeToFile("some long content".getBytes(UTF_8), file);
+    FileHelper.writeToFile("short".getBytes(UTF_8), file);
+
+    assertThat(file).hasContent("short");
+  }
+
+  @Test
+  void copiesFile(@TempDir File folder) throws IOException {
+    File source = new File(folder, "source.txt");
+    writeStringToFile(source, "file content", UTF_8);
+    File target = new File(folder, "sub/target.txt");
+
+    FileHelper.copyFile(source, target);
+
+    assertThat(target).hasSameTextualContentAs(source);
+  }
 }
@@ -0,0 +1,155 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ImageComparatorTest {
+  private final ImageComparator comparator = new ImageComparator();
+
+  @Test
+  void identicalImagesMatch() {
+    BufferedImage image = image(300, 200, TYPE_3BYTE_BGR);
+
+    ImageDiff diff = comparator.compare(image, copy(image, TYPE_INT_ARGB), 0, emptyList());
+
+    assertThat(diff.matches()).isTrue();
+    assertThat(diff.differentPixels()).isZero();
+    assertThat(diff.diffImage()).isNull();
+  }
+
+  @Test
+  void allowsGivenFractionOfDifferentPixels() {
+    BufferedImage expected = image(100, 100, TYPE_3BYTE_BGR);
+    BufferedImage actual = copy(expected, TYPE_3BYTE_BGR);
+    actual.setRGB(10, 10, 0x123456);
+    actual.setRGB(90, 90, 0x654321);
+
+    assertThat(comparator.compare(actual, expected, 0.0002, emptyList()).matches()).isTrue();
+    assertThat(comparator.compare(actual, expected, 0.0001, emptyList()).matches()).isFalse();
+  }
+
+  @Test
+  void countsDifferentPixelsAndPaintsDiff() {
+    BufferedImage expected = image(1000, 700, TYPE_3BYTE_BGR);
+    BufferedImage actual = copy(expected, TYPE_3BYTE_BGR);
+    Random random = new Random(42);
+    int changed = 0;
+    for (int i = 0; i < 5000; i++) {
+      int x = random.nextInt(1000);
+      int y = random.nextInt(700);
+      if (actual.getRGB(x, y) == expected.getRGB(x, y)) {
+        actual.setRGB(x, y, ~expected.getRGB(x, y));
+        changed++;
+      }
+    }
+
+    ImageDiff diff = comparator.compare(actual, expected, 0.001, emptyList());
+
+    assertThat(diff.matches()).isFalse();
+    assertThat(diff.allowedPixels()).isEqualTo(700);
+    assertThat(diff.differentPixels()).isEqualTo(changed);
+    BufferedImage diffImage = diff.diffImage();
+    assertThat(diffImage).isNotNull();
+    assertThat(countRedPixels(diffImage)).isEqualTo(changed);
+    assertThat(diff).hasToString(String.format("Different pixels: %s of 700000 (%.2f%%), allowed: 700", changed, changed / 7000.0));
+  }
+
+  @Test
+  void ignoresGivenRegions() {
+    BufferedImage expected = image(200, 150, TYPE_3BYTE_BGR);
+    BufferedImage actual = copy(expected, TYPE_3BYTE_BGR);
+    Graphics2D graphics = actual.createGraphics();
+    graphics.setColor(Color.MAGENTA);
+    graphics.fillRect(20, 100, 50, 30);
+    graphics.dispose();
+
+    assertThat(comparator.compare(actual, expected, 0, emptyList()).differentPixels()).isEqualTo(1500);
+    assertThat(comparator.compare(actual, expected, 0, singletonList(new Rectangle(10, 90, 70, 50))).matches()).isTrue();
+  }
+
+  @Test
+  void imagesOfDifferentSizeDoNotMatch() {
+    ImageDiff diff = comparator.compare(image(100, 50, TYPE_3BYTE_BGR), image(100, 60, TYPE_3BYTE_BGR), 0.5, emptyList());
+
+    assertThat(diff.matches()).isFalse();
+    assertThat(diff.differentPixels()).isEqualTo(-1);
+    assertThat(diff.diffImage()).isNull();
+    assertThat(diff).hasToString("Image size mismatch: actual 100x50, expected 100x60");
+  }
+
+  @Test
+  void imagesWithDifferentPerceptualHash_failWithoutComparingPixels() {
+    BufferedImage expected = halves(400, 300, Color.BLACK, Color.WHITE);
+    BufferedImage actual = halves(400, 300, Color.WHITE, Color.BLACK);
+
+    ImageDiff diff = comparator.compare(actual, expected, 0, emptyList());
+
+    assertThat(diff.matches()).isFalse();
+    assertThat(diff.toString()).startsWith("Images look different (perceptual hash distance: 64 of 64)");
+    assertThat(diff.differentPixels()).isEqualTo(400 * 300);
+  }
+
+  @Test
+  void perceptualHashIsTheSameForSlightlyDifferentImages() {
+    BufferedImage expected = halves(400, 300, Color.BLACK, Color.WHITE);
+    BufferedImage actual = copy(expected, TYPE_3BYTE_BGR);
+    actual.setRGB(5, 5, 0xFFFFFF);
+
+    assertThat(ImageComparator.perceptualHash(actual, emptyList())).isEqualTo(ImageComparator.perceptualHash(expected, emptyList()));
+  }
+
+  private static BufferedImage image(int width, int height, int type) {
+    BufferedImage image = new BufferedImage(width, height, type);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, width, height);
+    graphics.setColor(Color.BLUE);
+    graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+    graphics.setColor(Color.GREEN);
+    graphics.drawString("Selenide", 5, height / 2);
+    graphics.dispose();
+    return image;
+  }
+
+  private static BufferedImage halves(int width, int height, Color left, Color right) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_3BYTE_BGR);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(left);
+    graphics.fillRect(0, 0, width / 2, height);
+    graphics.setColor(right);
+    graphics.fillRect(width / 2, 0, width - width / 2, height);
+    graphics.dispose();
+    return image;
+  }
+
+  private static BufferedImage copy(BufferedImage image, int type) {
+    BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), type);
+    Graphics2D graphics = copy.createGraphics();
+    graphics.drawImage(image, 0, 0, null);
+    graphics.dispose();
+    return copy;
+  }
+
+  private static int countRedPixels(BufferedImage image) {
+    int count = 0;
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        if ((image.getRGB(x, y) & 0xFFFFFF) == 0xFF0000) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
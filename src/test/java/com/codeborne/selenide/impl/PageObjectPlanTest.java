@@ -0,0 +1,123 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.PageObjectException;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ByIdOrName;
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class PageObjectPlanTest {
+  @Test
+  void isComputedOncePerClass() {
+    assertThat(PageObjectPlan.of(LoginPage.class)).isSameAs(PageObjectPlan.of(LoginPage.class));
+    assertThat(PageObjectPlan.of(LoginPage.class)).isNotSameAs(PageObjectPlan.of(BasePage.class));
+  }
+
+  @Test
+  void containsOnlyFieldsDeclaredByTheClass() {
+    assertThat(PageObjectPlan.of(LoginPage.class).fields().stream().map(plan -> plan.field.getName()).collect(toList()))
+      .containsExactlyInAnyOrder("username", "title", "TIMEOUT", "counter");
+    assertThat(PageObjectPlan.of(BasePage.class).fields().stream().map(plan -> plan.field.getName()).collect(toList()))
+      .containsExactly("header");
+  }
+
+  @Test
+  void cachesSelectorBuiltFromAnnotations() throws NoSuchFieldException {
+    PageObjectPlan.FieldPlan username = PageObjectPlan.of(LoginPage.class.getDeclaredField("username"));
+    assertThat(username.selector()).isEqualTo(By.name("user"));
+    assertThat(username.selector()).isSameAs(username.selector());
+
+    PageObjectPlan.FieldPlan title = PageObjectPlan.of(LoginPage.class.getDeclaredField("title"));
+    assertThat(title.selector()).isEqualTo(new ByIdOrName("title"));
+  }
+
+  @Test
+  void readsAndWritesPrivateFields() throws NoSuchFieldException {
+    LoginPage page = new LoginPage();
+    PageObjectPlan.FieldPlan title = PageObjectPlan.of(LoginPage.class.getDeclaredField("title"));
+    assertThat(title.get(page)).isNull();
+
+    title.set(page, "Login");
+    assertThat(title.get(page)).isEqualTo("Login");
+    assertThat(page.title).isEqualTo("Login");
+  }
+
+  @Test
+  void readsStaticFinalFieldsButCannotAssignThem() throws NoSuchFieldException {
+    PageObjectPlan.FieldPlan timeout = PageObjectPlan.of(LoginPage.class.getDeclaredField("TIMEOUT"));
+    assertThat(timeout.get(new LoginPage())).isEqualTo(4000L);
+
+    assertThatThrownBy(() -> timeout.set(new LoginPage(), 1L))
+      .isInstanceOf(PageObjectException.class)
+      .hasMessageStartingWith("Failed to assign field ")
+      .hasMessageContaining("TIMEOUT")
+      .hasCauseInstanceOf(IllegalAccessException.class);
+  }
+
+  @Test
+  void createsInstancesWithPrivateConstructor() throws ReflectiveOperationException {
+    LoginPage page = PageObjectPlan.of(LoginPage.class).newInstance();
+    assertThat(page).isNotNull();
+    assertThat(page.counter).isEqualTo(1);
+  }
+
+  @Test
+  void reportsMissingNoArgConstructor() {
+    assertThatThrownBy(() -> PageObjectPlan.of(PageWithoutDefaultConstructor.class).newInstance())
+      .isInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  void wrapsExceptionsThrownByConstructor() {
+    assertThatThrownBy(() -> PageObjectPlan.of(FailingPage.class).newInstance())
+      .isInstanceOf(InvocationTargetException.class)
+      .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void cachesGenericInterfaces() {
+    assertThat(PageObjectPlan.of(GenericPage.class).genericInterfaces())
+      .isSameAs(PageObjectPlan.of(GenericPage.class).genericInterfaces())
+      .hasSize(1);
+  }
+
+  private static class BasePage {
+    SelenideElement header;
+  }
+
+  @SuppressWarnings("unused")
+  private static class LoginPage extends BasePage {
+    private static final long TIMEOUT = 4000L;
+
+    @FindBy(name = "user")
+    private SelenideElement username;
+    private String title;
+    private final int counter = 1;
+
+    private LoginPage() {
+    }
+  }
+
+  private static class PageWithoutDefaultConstructor {
+    PageWithoutDefaultConstructor(String name) {
+    }
+  }
+
+  private static class FailingPage {
+    FailingPage() {
+      throw new IllegalStateException("not now");
+    }
+  }
+
+  private abstract static class GenericPage implements Supplier<List<String>> {
+  }
+}
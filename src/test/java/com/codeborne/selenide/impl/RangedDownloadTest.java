@@ -0,0 +1,245 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
+import org.apache.hc.core5.http.io.EofSensorWatcher;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.codeborne.selenide.impl.RangedDownload.MIN_CHUNK_SIZE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOfRange;
+import static org.apache.hc.core5.http.ContentType.APPLICATION_OCTET_STREAM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class RangedDownloadTest {
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+  private final List<String> requestedRanges = new CopyOnWriteArrayList<>();
+  private final AtomicLong bytesServed = new AtomicLong();
+
+  @Test
+  void resumesInterruptedDownloadFromLastReceivedByte() throws IOException {
+    byte[] content = "Hello, WinRar!".getBytes(UTF_8);
+    RangedDownload download = new RangedDownload("http://files/hello.txt", response(content, 5), content.length, 3,
+      (range, ifRange) -> {
+        assertThat(ifRange).isEqualTo("\"v1\"");
+        return partialResponse(range, content, "\"v1\"");
+      });
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    download.save(response(content, 5), out);
+
+    assertThat(new String(out.toByteArray(), UTF_8)).isEqualTo("Hello, WinRar!");
+    assertThat(requestedRanges).containsExactly("bytes=5-13");
+  }
+
+  @Test
+  void failsIfFileHasChangedMeanwhile() {
+    byte[] content = "Hello, WinRar!".getBytes(UTF_8);
+    RangedDownload download = new RangedDownload("http://files/hello.txt", response(content, 5), content.length, 3,
+      (range, ifRange) -> partialResponse(range, content, "\"v2\""));
+
+    assertThatThrownBy(() -> download.save(response(content, 5), new ByteArrayOutputStream()))
+      .isInstanceOf(IOException.class)
+      .hasMessageStartingWith("Cannot download bytes=5-13 of http://files/hello.txt")
+      .hasMessageContaining("file has changed or server doesn't support ranges");
+  }
+
+  @Test
+  void givesUpAfterGivenNumberOfAttempts() {
+    byte[] content = "Hello, WinRar!".getBytes(UTF_8);
+    RangedDownload download = new RangedDownload("http://files/hello.txt", response(content, 5), content.length, 2,
+      (range, ifRange) -> {
+        requestedRanges.add(range);
+        int from = Integer.parseInt(range.replaceAll("bytes=(\\d+)-.*", "$1"));
+        return interruptedResponse(copyOfRange(content, from, content.length), 2, "\"v1\"", from, content.length);
+      });
+
+    assertThatThrownBy(() -> download.save(response(content, 5), new ByteArrayOutputStream()))
+      .isInstanceOf(IOException.class)
+      .hasMessage("Connection reset");
+    assertThat(requestedRanges).containsExactly("bytes=5-13", "bytes=7-13");
+  }
+
+  @Test
+  void cannotResumeWithoutValidator() {
+    byte[] content = "Hello, WinRar!".getBytes(UTF_8);
+    ClassicHttpResponse response = interruptedResponse(content, 5, null, 0, content.length);
+    RangedDownload download = new RangedDownload("http://files/hello.txt", response, content.length, 3,
+      (range, ifRange) -> partialResponse(range, content, null));
+
+    assertThatThrownBy(() -> download.save(response, new ByteArrayOutputStream()))
+      .isInstanceOf(IOException.class)
+      .hasMessage("Connection reset");
+    assertThat(requestedRanges).isEmpty();
+  }
+
+  @Test
+  void downloadsLargeFileInParallelChunks(@TempDir File dir) throws IOException {
+    byte[] content = new byte[(int) (3 * MIN_CHUNK_SIZE + 17)];
+    new Random(42).nextBytes(content);
+    ClassicHttpResponse response = response(content, content.length);
+    RangedDownload download = new RangedDownload("http://files/big.bin", response, content.length, 0,
+      (range, ifRange) -> partialResponse(range, content, "\"v1\""));
+    File file = new File(dir, "big.bin");
+
+    assertThat(download.chunks(8)).isEqualTo(3);
+    download.saveInChunks(response, file, 3);
+
+    assertThat(Files.readAllBytes(file.toPath())).isEqualTo(content);
+    assertThat(requestedRanges).containsExactlyInAnyOrder("bytes=0-1048581", "bytes=1048582-2097163", "bytes=2097164-3145744");
+  }
+
+  @Test
+  void downloadsEveryByteOnlyOnceWhenDownloadingInChunks(@TempDir File dir) throws IOException {
+    byte[] content = new byte[(int) (3 * MIN_CHUNK_SIZE + 17)];
+    new Random(42).nextBytes(content);
+    ClassicHttpResponse response = new BasicClassicHttpResponse(200);
+    response.setHeader("Accept-Ranges", "bytes");
+    response.setHeader("ETag", "\"v1\"");
+    InputStream body = new EofSensorInputStream(new ServedBytesCountingStream(content), new EofSensorWatcher() {
+      @Override
+      public boolean eofDetected(InputStream wrapped) {
+        return true;
+      }
+
+      @Override
+      public boolean streamClosed(InputStream wrapped) {
+        return true;
+      }
+
+      @Override
+      public boolean streamAbort(InputStream wrapped) {
+        return false;
+      }
+    });
+    response.setEntity(new InputStreamEntity(body, content.length, APPLICATION_OCTET_STREAM));
+    RangedDownload download = new RangedDownload("http://files/big.bin", response, content.length, 0,
+      (range, ifRange) -> partialResponse(range, content, "\"v1\""));
+    File file = new File(dir, "big.bin");
+
+    download.saveInChunks(response, file, 3);
+
+    assertThat(Files.readAllBytes(file.toPath())).isEqualTo(content);
+    assertThat(bytesServed).hasValue(content.length);
+  }
+
+  @Test
+  void downloadsSmallFilesAtOnce() {
+    byte[] content = new byte[(int) MIN_CHUNK_SIZE];
+    RangedDownload download = new RangedDownload("http://files/small.bin", response(content, content.length), content.length, 0,
+      (range, ifRange) -> partialResponse(range, content, "\"v1\""));
+
+    assertThat(download.chunks(8)).isEqualTo(1);
+  }
+
+  private ClassicHttpResponse response(byte[] content, int failAfter) {
+    return interruptedResponse(content, failAfter, "\"v1\"", 0, content.length);
+  }
+
+  private ClassicHttpResponse partialResponse(String range, byte[] content, String etag) {
+    requestedRanges.add(range);
+    Matcher matcher = RANGE.matcher(range);
+    assertThat(matcher.matches()).isTrue();
+    int from = Integer.parseInt(matcher.group(1));
+    int to = matcher.group(2).isEmpty() ? content.length - 1 : Integer.parseInt(matcher.group(2));
+
+    ClassicHttpResponse response = new BasicClassicHttpResponse(206);
+    response.setHeader("Content-Range", String.format("bytes %s-%s/%s", from, to, content.length));
+    if (etag != null) {
+      response.setHeader("ETag", etag);
+    }
+    response.setEntity(new ByteArrayEntity(copyOfRange(content, from, to + 1), APPLICATION_OCTET_STREAM));
+    bytesServed.addAndGet(to + 1 - from);
+    return response;
+  }
+
+  private static ClassicHttpResponse interruptedResponse(byte[] content, int failAfter, String etag, int from, int total) {
+    ClassicHttpResponse response = new BasicClassicHttpResponse(from == 0 ? 200 : 206);
+    response.setHeader("Accept-Ranges", "bytes");
+    if (etag != null) {
+      response.setHeader("ETag", etag);
+    }
+    if (from > 0) {
+      response.setHeader("Content-Range", String.format("bytes %s-%s/%s", from, total - 1, total));
+    }
+    response.setEntity(new InputStreamEntity(new FailingInputStream(content, failAfter), content.length, APPLICATION_OCTET_STREAM));
+    return response;
+  }
+
+  /**
+   * Like httpclient's content stream, reads the rest of the body on close (to reuse the connection)
+   */
+  private class ServedBytesCountingStream extends InputStream {
+    private final ByteArrayInputStream content;
+
+    private ServedBytesCountingStream(byte[] content) {
+      this.content = new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public int read() {
+      int read = content.read();
+      bytesServed.addAndGet(read == -1 ? 0 : 1);
+      return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      int read = content.read(b, off, len);
+      bytesServed.addAndGet(Math.max(read, 0));
+      return read;
+    }
+
+    @Override
+    public void close() {
+      byte[] buffer = new byte[2048];
+      while (read(buffer, 0, buffer.length) >= 0) {
+        // drain
+      }
+    }
+  }
+
+  private static class FailingInputStream extends InputStream {
+    private final InputStream content;
+    private int remaining;
+
+    private FailingInputStream(byte[] content, int failAfter) {
+      this.content = new ByteArrayInputStream(content);
+      this.remaining = failAfter;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (remaining <= 0 && content.available() > 0) {
+        throw new IOException("Connection reset");
+      }
+      int read = content.read(b, off, Math.min(len, Math.max(remaining, 1)));
+      remaining -= Math.max(read, 0);
+      return read;
+    }
+  }
+}
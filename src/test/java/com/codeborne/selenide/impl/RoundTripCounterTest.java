@@ -0,0 +1,109 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.RoundTrips;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import static com.codeborne.selenide.RoundTrips.NO_STEP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class RoundTripCounterTest {
+  private final RoundTripCounter counter = new RoundTripCounter();
+  private final WebDriver original = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+  private final WebDriver webDriver = new EventFiringDecorator(counter).decorate(original);
+
+  @Test
+  void countsWebdriverCommandsPerStep() {
+    WebElement element = mock(WebElement.class);
+    when(original.findElement(By.id("login"))).thenReturn(element);
+
+    RoundTrips roundTrips = counter.count(() -> {
+      webDriver.getTitle();
+      SelenideLogger.run("#login", "click", () -> webDriver.findElement(By.id("login")).click());
+      SelenideLogger.run("#login", "click", () -> webDriver.findElement(By.id("login")).click());
+    });
+
+    assertThat(roundTrips.total()).isEqualTo(5);
+    assertThat(roundTrips.steps()).containsExactly(
+      entry(NO_STEP, 1),
+      entry("$(\"#login\") click", 4)
+    );
+    assertThat(roundTrips).hasToString(String.format("Round trips: 5%n  1 - (no step)%n  4 - $(\"#login\") click"));
+  }
+
+  @Test
+  void doesNotCountLocalMethods() {
+    RoundTrips roundTrips = counter.count(() -> {
+      webDriver.manage().deleteAllCookies();
+      webDriver.navigate().refresh();
+      webDriver.switchTo().defaultContent();
+    });
+
+    assertThat(roundTrips.total()).isEqualTo(3);
+  }
+
+  @Test
+  void countsOnlyWhileRecording() {
+    webDriver.getTitle();
+    RoundTripCounter.Recording recording = counter.start();
+    webDriver.getTitle();
+    recording.stop();
+    webDriver.getTitle();
+
+    assertThat(recording.roundTrips().total()).isEqualTo(1);
+  }
+
+  @Test
+  void recordingsCanBeNested() {
+    RoundTripCounter.Recording outer = counter.start();
+    webDriver.getTitle();
+    RoundTrips inner = counter.count(webDriver::getCurrentUrl);
+    webDriver.getPageSource();
+    outer.stop();
+
+    assertThat(inner.total()).isEqualTo(1);
+    assertThat(outer.roundTrips().total()).isEqualTo(3);
+  }
+
+  @Test
+  void failsIfCurrentThreadUsesUncountedBrowser() {
+    WebDriver uncounted = mock(WebDriver.class);
+    counter.opened(uncounted, false);
+
+    RoundTripCounter.Recording recording = counter.start();
+    recording.stop();
+
+    assertThatThrownBy(recording::roundTrips).isInstanceOf(IllegalStateException.class);
+    counter.closed(uncounted);
+    assertThat(counter.count(webDriver::getTitle).total()).isEqualTo(1);
+  }
+
+  @Test
+  void ignoresUncountedBrowsersOfOtherThreads() throws InterruptedException {
+    Thread thread = new Thread(() -> counter.opened(mock(WebDriver.class), false));
+    thread.start();
+    thread.join();
+
+    assertThat(counter.count(webDriver::getTitle).total()).isEqualTo(1);
+  }
+
+  @Test
+  void countsOnlyCommandsOfCurrentThread() throws InterruptedException {
+    RoundTripCounter.Recording recording = counter.start();
+    Thread thread = new Thread(webDriver::getTitle);
+    thread.start();
+    thread.join();
+    recording.stop();
+
+    assertThat(recording.roundTrips().total()).isEqualTo(0);
+  }
+}
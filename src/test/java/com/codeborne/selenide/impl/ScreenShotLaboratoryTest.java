@@ -4,22 +4,31 @@ import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Optional;
 
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
 import static java.io.File.separatorChar;
 import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.IOUtils.resourceToByteArray;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -29,6 +38,7 @@ import static org.mockito.Mockito.when;
 import static org.openqa.selenium.OutputType.BYTES;
 
 final class ScreenShotLaboratoryTest {
+  private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F', 'I', 'F'};
   private final String dir = System.getProperty("user.dir");
   private final String workingDirectory = new File(dir).toURI().toString().replaceAll("/$", "");
   private final ChromeDriver webDriver = mock(ChromeDriver.class);
@@ -42,6 +52,22 @@ final class ScreenShotLaboratoryTest {
   @BeforeEach
   void setUp() {
     when(photographer.takeScreenshot(any(), eq(BYTES))).thenReturn(Optional.of("some png source".getBytes(UTF_8)));
+    when(photographer.takeScreenshot(any(), anyString(), anyInt())).thenCallRealMethod();
+  }
+
+  @Test
+  void capturesElementImageEvenIfReportsFolderIsNotSet() throws IOException {
+    config.reportsFolder(null);
+    WebElement element = mock(WebElement.class);
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(20, 10, TYPE_INT_RGB), "png", png);
+    doReturn(Optional.of(png.toByteArray())).when(photographer).takeScreenshot(driver, element, "png", 100);
+
+    BufferedImage image = screenshots.captureImage(driver, element);
+
+    assertThat(image).isNotNull();
+    assertThat(image.getWidth()).isEqualTo(20);
+    assertThat(screenshots.takeScreenshotAsImage(driver, element)).isNull();
   }
 
   @Test
@@ -312,6 +338,47 @@ final class ScreenShotLaboratoryTest {
         lineSeparator() + "Page source: http://ci.mycompany.com/job/666/artifact/build/reports/page123.html");
   }
 
+  @Test
+  void savesScreenshotWithExtensionOfActualImageFormat() {
+    config.screenshotFormat("jpeg").screenshotQuality(75);
+    when(photographer.takeScreenshot(any(), eq("jpeg"), eq(75))).thenReturn(Optional.of(JPEG));
+
+    String screenshot = screenshots.takeScreenshot(driver, true, false).getImage();
+
+    assertThat(screenshot).isEqualTo(workingDirectory + "/build/reports/tests/12356789.0.jpg");
+  }
+
+  @Test
+  void writesElementScreenshotAsIs() throws IOException {
+    config.screenshotFormat("webp");
+    WebElement element = mock(WebElement.class);
+    byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(UTF_8);
+    when(photographer.takeScreenshot(driver, element, "webp", 90)).thenReturn(Optional.of(webp));
+
+    File screenshot = screenshots.takeScreenshot(driver, element);
+
+    assertThat(screenshot).hasName("12356789.0.webp").hasBinaryContent(webp);
+  }
+
+  @Test
+  void writesScreenshotOfElementInsideFrameAsIs() throws IOException {
+    WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+    when(webDriver.switchTo()).thenReturn(targetLocator);
+    when(targetLocator.frame(any(WebElement.class))).thenReturn(webDriver);
+    WebElement iframe = mock(WebElement.class);
+    WebElement element = mock(WebElement.class);
+    SelenideElement selenideElement = mock(SelenideElement.class);
+    when(selenideElement.toWebElement()).thenReturn(element);
+    byte[] png = resourceToByteArray("/screenshot.png");
+    when(photographer.takeScreenshot(driver, element, "png", 90)).thenReturn(Optional.of(png));
+
+    File screenshot = screenshots.takeScreenshot(driver, iframe, selenideElement);
+
+    assertThat(screenshot).hasName("12356789.0.png").hasBinaryContent(png);
+    verify(targetLocator).frame(iframe);
+    verify(targetLocator).parentFrame();
+  }
+
   private String normalize(String path) {
     return separatorChar == '\\' ? path.replace('/', separatorChar) : path;
   }
@@ -0,0 +1,47 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import static com.codeborne.selenide.impl.WebDriverUnwrapper.unwrap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class WebDriverUnwrapperTest {
+  private final WebDriver browser = mock(WebDriver.class);
+
+  @Test
+  void returnsOriginalBrowser() {
+    assertThat(unwrap(browser)).isSameAs(browser);
+  }
+
+  @Test
+  void unwrapsAllLayers() {
+    WebDriver decorated = new EventFiringDecorator(new WebDriverListener() { }).decorate(browser);
+
+    assertThat(unwrap(decorated)).isSameAs(browser);
+    assertThat(unwrap(new EventFiringWebDriver(decorated))).isSameAs(browser);
+  }
+
+  @Test
+  void givesUpIfWrapperCannotBeUnwrapped() {
+    WebDriver decorated = new EventFiringDecorator(new WebDriverListener() { }).decorate(browser);
+    WebDriver decoratedTwice = new EventFiringDecorator(new WebDriverListener() { }).decorate(decorated);
+
+    assertThat(unwrap(decoratedTwice)).isSameAs(decoratedTwice);
+  }
+
+  @Test
+  void stopsAtWrapperReturningItself() {
+    WebDriver wrapper = mock(WebDriver.class, withSettings().extraInterfaces(WrapsDriver.class));
+    when(((WrapsDriver) wrapper).getWrappedDriver()).thenReturn(wrapper);
+
+    assertThat(unwrap(wrapper)).isSameAs(wrapper);
+  }
+}
@@ -0,0 +1,122 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.codeborne.selenide.impl.WebPageSourceExtractor.BUFFER_SIZE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+final class WebPageSourceExtractorTest {
+  private final WebPageSourceExtractor extractor = new WebPageSourceExtractor();
+  private final WebDriver webDriver = mock(WebDriver.class);
+
+  @Test
+  void savesPageSourceAsHtmlFile(@TempDir File folder) throws IOException {
+    String html = "<html><body>Привет, 世界 😀</body></html>";
+    when(webDriver.getPageSource()).thenReturn(html);
+
+    File file = extractor.extract(config(folder), webDriver, "page");
+
+    assertThat(file).hasName("page.html");
+    assertThat(readFileToString(file, UTF_8)).isEqualTo(html);
+  }
+
+  @Test
+  void savesPageSourceLongerThanBuffer(@TempDir File folder) throws IOException {
+    String html = "<html>" + repeat("Ёлка ", BUFFER_SIZE) + "</html>";
+    when(webDriver.getPageSource()).thenReturn(html);
+
+    File file = extractor.extract(config(folder), webDriver, "page");
+
+    assertThat(readFileToString(file, UTF_8)).isEqualTo(html);
+  }
+
+  @Test
+  void canSaveGzippedPageSource(@TempDir File folder) throws IOException {
+    String html = "<html>" + repeat("<div>hello</div>", 10000) + "</html>";
+    when(webDriver.getPageSource()).thenReturn(html);
+
+    File file = extractor.extract(config(folder).pageSourceCompression("gzip"), webDriver, "page");
+
+    assertThat(file).hasName("page.html.gz");
+    assertThat(file.length()).isLessThan(html.length() / 10);
+    try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+      assertThat(IOUtils.toString(in, UTF_8)).isEqualTo(html);
+    }
+  }
+
+  @Test
+  void truncatesPageSourceAtCharacterBoundary(@TempDir File folder) throws IOException {
+    when(webDriver.getPageSource()).thenReturn("<html>Ёлка</html>");
+
+    File file = extractor.extract(config(folder).pageSourceMaxSize(9), webDriver, "page");
+
+    assertThat(readFileToString(file, UTF_8)).isEqualTo(String.format("<html>Ё%n" +
+      "<!-- Page source truncated by Selenide: 7 of 17 characters -->%n"));
+  }
+
+  @Test
+  void rejectsUnsupportedCompression(@TempDir File folder) {
+    assertThatThrownBy(() -> config(folder).pageSourceCompression("zip"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unsupported page source compression: zip (expected: none or gzip)");
+  }
+
+  @Test
+  void savesUncompressedPageSourceIfCompressionIsNotSupported(@TempDir File folder) throws IOException {
+    when(webDriver.getPageSource()).thenReturn("<html></html>");
+    SelenideConfig config = spy(config(folder));
+    doReturn("zip").when(config).pageSourceCompression();
+
+    File file = extractor.extract(config, webDriver, "page");
+
+    assertThat(file).hasName("page.html");
+    assertThat(readFileToString(file, UTF_8)).isEqualTo("<html></html>");
+  }
+
+  @Test
+  void writesPageSourceViaOverridableMethodByDefault(@TempDir File folder) {
+    when(webDriver.getPageSource()).thenReturn("<html></html>");
+    List<String> written = new ArrayList<>();
+    WebPageSourceExtractor extractor = new WebPageSourceExtractor() {
+      @Override
+      protected void writeToFile(String content, File targetFile) {
+        written.add(content);
+      }
+    };
+
+    extractor.extract(config(folder), webDriver, "page");
+
+    assertThat(written).containsExactly("<html></html>");
+  }
+
+  private SelenideConfig config(File folder) {
+    return new SelenideConfig().reportsFolder(folder.getAbsolutePath());
+  }
+
+  private static String repeat(String text, int times) {
+    StringBuilder sb = new StringBuilder(text.length() * times);
+    for (int i = 0; i < times; i++) {
+      sb.append(text);
+    }
+    return sb.toString();
+  }
+}
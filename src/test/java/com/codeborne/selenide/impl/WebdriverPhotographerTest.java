@@ -0,0 +1,57 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.firefox.FirefoxDriver;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.openqa.selenium.OutputType.BYTES;
+
+final class WebdriverPhotographerTest {
+  private final FirefoxDriver webDriver = mock(FirefoxDriver.class);
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("firefox", false), webDriver, null);
+  private final WebdriverPhotographer photographer = new WebdriverPhotographer();
+  private final byte[] png = "png".getBytes(UTF_8);
+
+  @Test
+  void takesPngScreenshotsWithoutDevTools() {
+    when(webDriver.getScreenshotAs(BYTES)).thenReturn(png);
+
+    assertThat(photographer.takeScreenshot(driver, "png", 90)).hasValue(png);
+    verify(webDriver).getScreenshotAs(BYTES);
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  @Test
+  void takesPngElementScreenshotsWithoutDevTools() {
+    WebElement element = mock(WebElement.class);
+    when(element.getScreenshotAs(BYTES)).thenReturn(png);
+
+    assertThat(photographer.takeScreenshot(driver, element, "png", 90)).hasValue(png);
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  @Test
+  void takesPngScreenshotsIfBrowserHasNoDevTools() {
+    when(webDriver.getScreenshotAs(BYTES)).thenReturn(png);
+
+    assertThat(photographer.takeScreenshot(driver, "jpeg", 90)).hasValue(png);
+  }
+
+  @Test
+  void takesPngElementScreenshotsIfBrowserHasNoDevTools() {
+    WebElement element = mock(WebElement.class);
+    when(element.getScreenshotAs(BYTES)).thenReturn(png);
+
+    assertThat(photographer.takeScreenshot(driver, element, "webp", 80)).hasValue(png);
+  }
+}
@@ -0,0 +1,98 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.impl.RoundTripCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class RoundTripsExtensionTest {
+  private final RoundTripCounter counter = new RoundTripCounter();
+  private final RoundTripsExtension extension = new RoundTripsExtension(counter);
+  private final WebDriver webDriver = new EventFiringDecorator(counter).decorate(mock(WebDriver.class));
+  private final ExtensionContext context = mock(ExtensionContext.class);
+  private final ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+  private final ArgumentCaptor<Object> recording = ArgumentCaptor.forClass(Object.class);
+
+  @Test
+  void failsTestExceedingRoundTripsBudget() throws NoSuchMethodException {
+    givenTest("twoRoundTrips");
+    extension.beforeEach(context);
+    webDriver.getTitle();
+    webDriver.getCurrentUrl();
+    webDriver.getPageSource();
+
+    assertThatThrownBy(() -> extension.afterEach(context))
+      .isInstanceOf(AssertionError.class)
+      .hasMessage(String.format("Test twoRoundTrips() exceeded round trips budget: 3 > 2%nRound trips: 3%n  3 - (no step)"));
+    verify(context).publishReportEntry("roundTrips", String.format("Round trips: 3%n  3 - (no step)"));
+  }
+
+  @Test
+  void passesTestWithinBudget() throws NoSuchMethodException {
+    givenTest("twoRoundTrips");
+    extension.beforeEach(context);
+    webDriver.getTitle();
+    webDriver.getCurrentUrl();
+
+    assertThatCode(() -> extension.afterEach(context)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void doesNotReportBudgetOfFailedTest() throws NoSuchMethodException {
+    givenTest("twoRoundTrips");
+    when(context.getExecutionException()).thenReturn(Optional.of(new AssertionError("test failed")));
+    extension.beforeEach(context);
+    webDriver.getTitle();
+    webDriver.getCurrentUrl();
+    webDriver.getPageSource();
+
+    assertThatCode(() -> extension.afterEach(context)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void takesBudgetFromTestClass() throws NoSuchMethodException {
+    givenTest("noBudget");
+    extension.beforeEach(context);
+    for (int i = 0; i < 5; i++) {
+      webDriver.getTitle();
+    }
+
+    assertThatThrownBy(() -> extension.afterEach(context))
+      .hasMessageStartingWith("Test noBudget() exceeded round trips budget: 5 > 4");
+  }
+
+  private void givenTest(String methodName) throws NoSuchMethodException {
+    Method method = SampleTest.class.getDeclaredMethod(methodName);
+    when(context.getStore(RoundTripsExtension.namespace)).thenReturn(store);
+    when(store.remove(eq("recording"), eq(RoundTripCounter.Recording.class)))
+      .thenAnswer(invocation -> RoundTripCounter.Recording.class.cast(recording.getValue()));
+    when(context.getTestMethod()).thenReturn(Optional.of(method));
+    when(context.getTestClass()).thenReturn(Optional.of(SampleTest.class));
+    when(context.getDisplayName()).thenReturn(methodName + "()");
+    when(context.getExecutionException()).thenReturn(Optional.empty());
+    doNothing().when(store).put(eq("recording"), recording.capture());
+  }
+
+  @MaxRoundTrips(4)
+  private static class SampleTest {
+    @MaxRoundTrips(2)
+    void twoRoundTrips() {
+    }
+
+    void noBudget() {
+    }
+  }
+}
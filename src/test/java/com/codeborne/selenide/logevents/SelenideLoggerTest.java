@@ -133,4 +133,19 @@ final class SelenideLoggerTest {
     assertThat(value.getSubject()).isEqualTo(subject);
     assertThat(value.getStatus()).isEqualTo(status);
   }
+
+  @Test
+  void remembersCurrentStep() {
+    assertThat(SelenideLogger.currentStep()).isNull();
+
+    SelenideLog outer = SelenideLogger.beginStep("form", "submit");
+    SelenideLog inner = SelenideLogger.beginStep("button", "click");
+    assertThat(SelenideLogger.currentStep()).isSameAs(inner);
+
+    SelenideLogger.commitStep(inner, PASS);
+    assertThat(SelenideLogger.currentStep()).isSameAs(outer);
+
+    SelenideLogger.commitStep(outer, new AssertionError("oops"));
+    assertThat(SelenideLogger.currentStep()).isNull();
+  }
 }
@@ -0,0 +1,145 @@
+package com.codeborne.selenide.logevents;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openqa.selenium.json.Json.LIST_OF_MAPS_TYPE;
+
+final class TraceEventListenerTest {
+  private final StringWriter output = new StringWriter();
+  private final TraceEventListener trace = new TraceEventListener(output);
+  private final WebDriver original = mock(WebDriver.class);
+  private final WebDriver webDriver = new EventFiringDecorator(trace).decorate(original);
+
+  @BeforeEach
+  void setUp() {
+    SelenideLogger.addListener("trace", trace);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SelenideLogger.removeAllListeners();
+  }
+
+  @Test
+  void recordsStepsWithNestedWebdriverCommandsAndPhases() {
+    when(original.findElement(By.id("missing"))).thenThrow(new NoSuchElementException("no such element\nmore details"));
+
+    SelenideLogger.run("#login", "click", () -> {
+      webDriver.getTitle();
+      SelenideLogger.phase("sleep", "sleep 200 ms", nanoTime());
+    });
+    assertThatThrownBy(() -> SelenideLogger.run("#missing", "should be visible", () -> webDriver.findElement(By.id("missing"))))
+      .isInstanceOf(NoSuchElementException.class);
+    trace.close();
+
+    List<Map<String, Object>> events = events();
+    assertThat(events).extracting(event -> event.get("ph"))
+      .containsExactly("M", "M", "X", "X", "X", "X", "X");
+    assertThat(events.get(0).get("name")).isEqualTo("process_name");
+    assertThat(events.get(1).get("name")).isEqualTo("thread_name");
+    assertThat(args(events.get(1)).get("name")).isEqualTo(Thread.currentThread().getName());
+
+    List<Object> names = events.stream().skip(2).map(event -> event.get("name")).collect(toList());
+    assertThat(names).containsExactly(
+      "WebDriver.getTitle",
+      "sleep 200 ms",
+      "$(\"#login\") click",
+      "WebDriver.findElement By.id: missing",
+      "$(\"#missing\") should be visible"
+    );
+    assertThat(events.stream().skip(2).map(event -> event.get("cat")).collect(toList()))
+      .containsExactly("webdriver", "sleep", "step", "webdriver", "step");
+    assertThat(args(events.get(4))).containsEntry("status", "PASS").doesNotContainKey("error");
+    assertThat(args(events.get(5))).containsEntry("error", "org.openqa.selenium.NoSuchElementException: no such element");
+    assertThat(args(events.get(6))).containsEntry("status", "FAIL");
+
+    for (Map<String, Object> event : events.subList(2, events.size())) {
+      assertThat(((Number) event.get("tid")).longValue()).isEqualTo(Thread.currentThread().getId());
+      assertThat(((Number) event.get("dur")).longValue()).isGreaterThanOrEqualTo(0);
+    }
+    Map<String, Object> step = events.get(4);
+    Map<String, Object> command = events.get(2);
+    assertThat(((Number) command.get("ts")).longValue()).isGreaterThanOrEqualTo(((Number) step.get("ts")).longValue());
+  }
+
+  @Test
+  void doesNotRecordLocalMethods() {
+    webDriver.manage();
+    webDriver.navigate();
+    trace.close();
+
+    assertThat(events()).extracting(event -> event.get("ph")).containsExactly("M");
+  }
+
+  @Test
+  void writesEventsOfEveryThreadToItsOwnTrack() throws InterruptedException {
+    Thread thread = new Thread(webDriver::getCurrentUrl, "worker-1");
+    thread.start();
+    thread.join();
+    webDriver.getCurrentUrl();
+    trace.close();
+
+    List<Map<String, Object>> events = events();
+    assertThat(events).filteredOn(event -> "thread_name".equals(event.get("name")))
+      .extracting(event -> args(event).get("name"))
+      .containsExactly("worker-1", Thread.currentThread().getName());
+    assertThat(events).filteredOn(event -> "X".equals(event.get("ph")))
+      .extracting(event -> ((Number) event.get("tid")).longValue())
+      .containsExactly(thread.getId(), Thread.currentThread().getId());
+  }
+
+  @Test
+  void escapesJsonStrings() {
+    StringBuilder sb = new StringBuilder();
+    TraceEventListener.quote(sb, "$(\"a\\b\") should\thave\ntext");
+    assertThat(sb).hasToString("\"$(\\\"a\\\\b\\\") should\\u0009have\\u000atext\"");
+  }
+
+  @Test
+  void streamsEventsToFile(@TempDir File folder) throws IOException {
+    File file = new File(folder, "reports/trace.json");
+    TraceEventListener fileTrace = new TraceEventListener(file);
+    SelenideLog step = new SelenideLog("h1", "should have text");
+    fileTrace.beforeEvent(step);
+    SelenideLogger.commitStep(step, PASS);
+    fileTrace.afterEvent(step);
+
+    assertThat(Files.readAllLines(file.toPath(), UTF_8)).last().asString().contains("\"$(\\\"h1\\\") should have text\"");
+
+    fileTrace.close();
+    assertThat(new Json().toType(new String(Files.readAllBytes(file.toPath()), UTF_8), LIST_OF_MAPS_TYPE).toString())
+      .contains("should have text");
+  }
+
+  private List<Map<String, Object>> events() {
+    return new Json().toType(output.toString(), LIST_OF_MAPS_TYPE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> args(Map<String, Object> event) {
+    return (Map<String, Object>) event.get("args");
+  }
+}
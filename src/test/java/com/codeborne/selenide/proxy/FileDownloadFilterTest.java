@@ -3,6 +3,7 @@ package com.codeborne.selenide.proxy;
 import com.browserup.bup.util.HttpMessageContents;
 import com.browserup.bup.util.HttpMessageInfo;
 import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.files.DownloadedFile;
 import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.impl.DummyRandomizer;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
@@ -16,6 +17,7 @@ import java.io.File;
 import java.io.IOException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singleton;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.apache.commons.io.FileUtils.readFileToByteArray;
 import static org.apache.commons.io.FileUtils.readFileToString;
@@ -123,4 +125,18 @@ final class FileDownloadFilterTest {
     assertThat(file.getPath()).endsWith(expectedFile.getPath());
     assertThat(readFileToString(file, UTF_8)).isEqualTo("HELLO");
   }
+
+  @Test
+  void calculatesSizeAndRequestedChecksumsWhileSavingFile() {
+    filter.activate(singleton("SHA-256"));
+    mockStatusCode(200, "200=success");
+    mockHeaders().add("content-disposition", "attachement; filename=hello.txt");
+    when(contents.getBinaryContents()).thenReturn("Hello".getBytes(UTF_8));
+
+    filter.filterResponse(response, contents, messageInfo);
+
+    DownloadedFile file = filter.downloads().files().get(0);
+    assertThat(file.getSize()).isEqualTo(5);
+    assertThat(file.getChecksum("SHA-256")).isEqualTo("185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969");
+  }
 }
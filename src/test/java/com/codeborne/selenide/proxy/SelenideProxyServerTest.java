@@ -33,6 +33,20 @@ final class SelenideProxyServerTest {
     assertThat(filter.downloads().files()).hasSize(0);
   }
 
+  @Test
+  void canStartOnGivenPort() {
+    proxyServer.start(9091);
+
+    verify(bmp).start(9091);
+  }
+
+  @Test
+  void createSeleniumProxyBeforeStart() {
+    when(config.proxyHost()).thenReturn("my.megahost");
+
+    assertThat(proxyServer.createSeleniumProxy(9091).getHttpProxy()).isEqualTo("my.megahost:9091");
+  }
+
   @Test
   void canChainProxyServersWithNoProxySettings() {
     Proxy proxy = new Proxy();
@@ -0,0 +1,59 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class SetCookieWatchdogTest {
+  private final AtomicInteger notifications = new AtomicInteger();
+  private final SetCookieWatchdog watchdog = new SetCookieWatchdog(notifications::incrementAndGet);
+  private final HttpResponse response = mock(HttpResponse.class);
+  private final HttpHeaders headers = new DefaultHttpHeaders();
+
+  @BeforeEach
+  void setUp() {
+    when(response.headers()).thenReturn(headers);
+  }
+
+  @Test
+  void notifiesAboutResponseSettingCookies() {
+    headers.add("Content-Type", "application/json");
+    headers.add("Set-Cookie", "session=42");
+
+    filter();
+
+    assertThat(notifications).hasValue(1);
+  }
+
+  @Test
+  void notifiesAboutLoadedHtmlPage() {
+    headers.add("Content-Type", "text/html; charset=utf-8");
+
+    filter();
+
+    assertThat(notifications).hasValue(1);
+  }
+
+  @Test
+  void ignoresOtherResponses() {
+    headers.add("Content-Type", "image/png");
+
+    filter();
+
+    assertThat(notifications).hasValue(0);
+  }
+
+  private void filter() {
+    watchdog.filterResponse(response, mock(HttpMessageContents.class), mock(HttpMessageInfo.class));
+  }
+}
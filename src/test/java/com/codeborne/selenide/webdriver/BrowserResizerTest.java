@@ -7,9 +7,12 @@ import org.openqa.selenium.Point;
 import org.openqa.selenium.WebDriver;
 
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 final class BrowserResizerTest {
   private final BrowserResizer factory = spy(new BrowserResizer());
@@ -33,4 +36,44 @@ final class BrowserResizerTest {
 
     verify(webdriver.manage().window()).setPosition(new Point(20, 40));
   }
+
+  @Test
+  void doesNotResizeBrowserOpenedWithConfiguredSize() {
+    config.browserSize("1600x800");
+    when(webdriver.manage().window().getSize()).thenReturn(new Dimension(1600, 800));
+
+    factory.verifyBrowserSize(config, webdriver);
+
+    verify(webdriver.manage().window(), never()).setSize(any());
+  }
+
+  @Test
+  void resizesBrowserIfItIgnoredSizeGivenAtLaunch() {
+    config.browserSize("1600x800");
+    when(webdriver.manage().window().getSize()).thenReturn(new Dimension(1024, 768));
+
+    factory.verifyBrowserSize(config, webdriver);
+
+    verify(webdriver.manage().window()).setSize(new Dimension(1600, 800));
+  }
+
+  @Test
+  void movesBrowserIfItIgnoredPositionGivenAtLaunch() {
+    config.browserPosition("20x40");
+    when(webdriver.manage().window().getPosition()).thenReturn(new Point(0, 0));
+
+    factory.verifyBrowserPosition(config, webdriver);
+
+    verify(webdriver.manage().window()).setPosition(new Point(20, 40));
+  }
+
+  @Test
+  void doesNotMoveBrowserOpenedAtConfiguredPosition() {
+    config.browserPosition("20x40");
+    when(webdriver.manage().window().getPosition()).thenReturn(new Point(20, 40));
+
+    factory.verifyBrowserPosition(config, webdriver);
+
+    verify(webdriver.manage().window(), never()).setPosition(any());
+  }
 }
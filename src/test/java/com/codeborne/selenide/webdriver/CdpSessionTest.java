@@ -0,0 +1,227 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.drivercommands.CloseDriverCommand;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class CdpSessionTest {
+  private static final Json JSON = new Json();
+
+  private final EventLoopGroup group = new NioEventLoopGroup(1);
+  private final AtomicInteger connections = new AtomicInteger();
+  private final List<Map<String, Object>> received = new CopyOnWriteArrayList<>();
+  private final BlockingQueue<Channel> closedConnections = new LinkedBlockingQueue<>();
+  private Channel server;
+  private String devToolsUrl;
+  private CdpSession session;
+
+  @BeforeEach
+  void startDevTools() throws InterruptedException {
+    server = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+      .childHandler(new ChannelInitializer<SocketChannel>() {
+        @Override
+        protected void initChannel(SocketChannel channel) {
+          connections.incrementAndGet();
+          channel.closeFuture().addListener(future -> closedConnections.add(channel));
+          channel.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(65536),
+            new WebSocketServerProtocolHandler("/devtools/browser"), new DevToolsStandIn());
+        }
+      })
+      .bind("127.0.0.1", 0).sync().channel();
+    int port = ((InetSocketAddress) server.localAddress()).getPort();
+    devToolsUrl = "ws://127.0.0.1:" + port + "/devtools/browser";
+    session = CdpSession.connect(URI.create(devToolsUrl));
+  }
+
+  @AfterEach
+  void stopDevTools() throws InterruptedException {
+    session.close();
+    server.close().sync();
+    group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+  }
+
+  @Test
+  void attachesToPageTarget() {
+    assertThat(received).hasSize(3);
+    assertThat(received.get(0)).containsEntry("method", "Target.getTargets");
+    assertThat(received.get(1)).containsEntry("method", "Target.attachToTarget");
+    assertThat(received.get(1).get("params")).isEqualTo(params("targetId", "page-1", "flatten", true));
+    assertThat(received.get(2)).containsEntry("method", "Target.setDiscoverTargets");
+    assertThat(session.targetId()).isEqualTo("page-1");
+  }
+
+  @Test
+  void tracksPagesOfBrowser() throws InterruptedException {
+    assertThat(session.isAttachedToOnlyPage()).isTrue();
+
+    session.send("Target.createTarget", singletonMap("url", "about:blank"));
+    waitUntil(() -> !session.isAttachedToOnlyPage());
+
+    session.send("Target.closeTarget", singletonMap("targetId", "page-2"));
+    waitUntil(session::isAttachedToOnlyPage);
+  }
+
+  @Test
+  void sendsCommandsToPageSession() {
+    Map<String, Object> result = session.send("Page.setDownloadBehavior", params("behavior", "allow", "downloadPath", "/tmp"));
+
+    assertThat(result).containsEntry("method", "Page.setDownloadBehavior");
+    assertThat(result).containsEntry("sessionId", "session-1");
+    assertThat(result.get("params")).isEqualTo(params("behavior", "allow", "downloadPath", "/tmp"));
+  }
+
+  @Test
+  void pipelinesCommandsOverOneConnection() {
+    List<CompletableFuture<Map<String, Object>>> results = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      results.add(session.sendAsync("Runtime.evaluate", singletonMap("expression", String.valueOf(i))));
+    }
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(results.get(i).join().get("params")).isEqualTo(singletonMap("expression", String.valueOf(i)));
+    }
+    assertThat(connections).hasValue(1);
+    assertThat(received).hasSize(13);
+  }
+
+  @Test
+  void subscribesToEvents() throws InterruptedException {
+    BlockingQueue<Map<String, Object>> events = new LinkedBlockingQueue<>();
+    session.addListener("Network.requestWillBeSent", events::add);
+
+    session.send("Network.enable", emptyMap());
+
+    assertThat(events.poll(5, TimeUnit.SECONDS)).isEqualTo(singletonMap("requestId", "42"));
+  }
+
+  @Test
+  void closingBrowserClosesItsSession() throws InterruptedException {
+    WebDriver browser = mock(WebDriver.class, withSettings().extraInterfaces(HasCapabilities.class));
+    when(((HasCapabilities) browser).getCapabilities()).thenReturn(new ImmutableCapabilities("se:cdp", devToolsUrl));
+    CdpSession browserSession = CdpSession.of(browser).orElseThrow(IllegalStateException::new);
+    assertThat(CdpSession.of(browser)).containsSame(browserSession);
+    assertThat(connections).hasValue(2);
+
+    new CloseDriverCommand().close(new SelenideConfig(), browser, null);
+
+    verify(browser).quit();
+    assertThat(closedConnections.poll(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(CdpSession.of(browser).orElseThrow(IllegalStateException::new)).isNotSameAs(browserSession);
+    assertThat(connections).hasValue(3);
+    CdpSession.closeSessionOf(browser);
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).as("Timed out waiting for DevTools event").isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private static Map<String, Object> params(String key1, Object value1, String key2, Object value2) {
+    Map<String, Object> params = new HashMap<>();
+    params.put(key1, value1);
+    params.put(key2, value2);
+    return params;
+  }
+
+  /**
+   * Answers CDP commands like a browser does: result of a command echoes the command itself
+   */
+  private class DevToolsStandIn extends SimpleChannelInboundHandler<TextWebSocketFrame> {
+    @Override
+    protected void channelRead0(ChannelHandlerContext context, TextWebSocketFrame frame) {
+      Map<String, Object> command = JSON.toType(frame.text(), Json.MAP_TYPE);
+      received.add(command);
+      context.writeAndFlush(new TextWebSocketFrame(JSON.toJson(response(command))));
+      if ("Network.enable".equals(command.get("method"))) {
+        Map<String, Object> event = params("method", "Network.requestWillBeSent", "params", singletonMap("requestId", "42"));
+        event.put("sessionId", "session-1");
+        context.writeAndFlush(new TextWebSocketFrame(JSON.toJson(event)));
+      }
+      else if ("Target.setDiscoverTargets".equals(command.get("method"))) {
+        targetCreated(context, "browser-1", "browser");
+        targetCreated(context, "page-1", "page");
+      }
+      else if ("Target.createTarget".equals(command.get("method"))) {
+        targetCreated(context, "page-2", "page");
+      }
+      else if ("Target.closeTarget".equals(command.get("method"))) {
+        Object targetId = ((Map<?, ?>) command.get("params")).get("targetId");
+        Map<String, Object> event = params("method", "Target.targetDestroyed", "params", singletonMap("targetId", targetId));
+        context.writeAndFlush(new TextWebSocketFrame(JSON.toJson(event)));
+      }
+    }
+
+    private void targetCreated(ChannelHandlerContext context, String targetId, String type) {
+      Map<String, Object> targetInfo = singletonMap("targetInfo", params("targetId", targetId, "type", type));
+      Map<String, Object> event = params("method", "Target.targetCreated", "params", targetInfo);
+      context.writeAndFlush(new TextWebSocketFrame(JSON.toJson(event)));
+    }
+
+    private Map<String, Object> response(Map<String, Object> command) {
+      Object result;
+      if ("Target.getTargets".equals(command.get("method"))) {
+        Map<String, Object> browser = params("targetId", "browser-1", "type", "browser");
+        Map<String, Object> page = params("targetId", "page-1", "type", "page");
+        List<Map<String, Object>> targets = new ArrayList<>(singletonList(browser));
+        targets.add(page);
+        result = singletonMap("targetInfos", targets);
+      }
+      else if ("Target.attachToTarget".equals(command.get("method"))) {
+        result = singletonMap("sessionId", "session-1");
+      }
+      else {
+        result = command;
+      }
+      Map<String, Object> response = params("id", command.get("id"), "result", result);
+      if (command.containsKey("sessionId")) {
+        response.put("sessionId", command.get("sessionId"));
+      }
+      return response;
+    }
+  }
+}
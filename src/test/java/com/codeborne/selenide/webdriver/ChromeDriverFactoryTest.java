@@ -1,6 +1,7 @@
 package com.codeborne.selenide.webdriver;
 
 import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Config;
 import com.codeborne.selenide.SelenideConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +23,11 @@ import static com.codeborne.selenide.webdriver.SeleniumCapabilitiesHelper.getBro
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 final class ChromeDriverFactoryTest {
   private static final String CHROME_OPTIONS_PREFS = "chromeoptions.prefs";
@@ -42,6 +47,16 @@ final class ChromeDriverFactoryTest {
     System.clearProperty(CHROME_OPTIONS_PREFS);
   }
 
+  @Test
+  void setupWithoutConfigUsesDefaultSettings() {
+    ChromeDriverFactory factory = spy(new ChromeDriverFactory());
+    doNothing().when(factory).setupWebdriverBinary(any(Config.class));
+
+    factory.setupWebdriverBinary();
+
+    verify(factory).setupWebdriverBinary(any(SelenideConfig.class));
+  }
+
   @Test
   void defaultChromeOptions() {
     Capabilities chromeOptions = factory.createCapabilities(config, browser, proxy, browserDownloadsFolder);
@@ -194,4 +209,15 @@ final class ChromeDriverFactoryTest {
   private Map<String, Object> getChromeOptions(Capabilities caps) {
     return (Map<String, Object>) caps.asMap().get(ChromeOptions.CAPABILITY);
   }
+
+  @Test
+  void browserSizeAndPositionArePassedAsArguments() {
+    config.browserSize("1600x900").browserPosition("10x20");
+
+    Capabilities caps = factory.createCapabilities(config, browser, proxy, browserDownloadsFolder);
+
+    assertThat(getBrowserLaunchArgs(ChromeOptions.CAPABILITY, caps)).contains("--window-size=1600,900", "--window-position=10,20");
+    assertThat(factory.appliesBrowserSizeAtLaunch(config)).isTrue();
+    assertThat(factory.appliesBrowserPositionAtLaunch(config)).isTrue();
+  }
 }
@@ -20,6 +20,7 @@ import java.io.File;
 import static com.codeborne.selenide.Browsers.EDGE;
 import static com.codeborne.selenide.Browsers.IE;
 import static com.codeborne.selenide.Browsers.INTERNET_EXPLORER;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.openqa.selenium.remote.CapabilityType.ACCEPT_INSECURE_CERTS;
@@ -40,6 +41,13 @@ final class CommonCapabilitiesTest {
     assertThat(commonCapabilities.getCapability(PAGE_LOAD_STRATEGY)).isEqualTo(config.pageLoadStrategy());
   }
 
+  @Test
+  void pageLoadTimeoutIsPassedInCapabilities() {
+    SelenideConfig config = new SelenideConfig().pageLoadTimeout(12345);
+    Capabilities commonCapabilities = driverFactory.createCommonCapabilities(config, browser(config), proxy);
+    assertThat(commonCapabilities.getCapability("timeouts")).isEqualTo(singletonMap("pageLoad", 12345L));
+  }
+
   @Test
   void transferCapabilitiesFromConfigurationInternetExplorer() {
     SelenideConfig config = new SelenideConfig();
@@ -43,7 +43,8 @@ class EdgeDriverFactoryTest {
     EdgeOptions edgeOptions = factory.createCapabilities(config, browser, null, new File("/tmp/downloads-folder-456789"));
 
     Map<String, Object> options = edgeOptions(edgeOptions);
-    assertThat(args(options)).containsExactly("--proxy-bypass-list=<-loopback>", "--disable-dev-shm-usage", "--no-sandbox");
+    assertThat(args(options)).containsExactly("--proxy-bypass-list=<-loopback>", "--disable-dev-shm-usage", "--no-sandbox",
+      "--window-size=1366,768");
 
     Map<String, Object> prefs = prefs(options);
     assertThat(prefs).hasSize(5);
@@ -108,6 +108,25 @@ final class FirefoxDriverFactoryTest {
     assertThat(options.get("binary")).isEqualTo("c:/browser.exe");
   }
 
+  @Test
+  void browserSizeIsPassedAsArguments_inHeadlessMode() {
+    config.headless(true).browserSize("1600x900");
+    FirefoxOptions options = driverFactory.createCapabilities(config, browser, proxy, browserDownloadsFolder);
+
+    assertThat(getBrowserLaunchArgs(FirefoxOptions.FIREFOX_OPTIONS, options)).contains("--width=1600", "--height=900");
+    assertThat(driverFactory.appliesBrowserSizeAtLaunch(config)).isTrue();
+    assertThat(driverFactory.appliesBrowserPositionAtLaunch(config)).isFalse();
+  }
+
+  @Test
+  void browserSizeIsSetAfterLaunch_inHeadfulMode() {
+    config.headless(false).browserSize("1600x900");
+    FirefoxOptions options = driverFactory.createCapabilities(config, browser, proxy, browserDownloadsFolder);
+
+    assertThat(getBrowserLaunchArgs(FirefoxOptions.FIREFOX_OPTIONS, options)).isNullOrEmpty();
+    assertThat(driverFactory.appliesBrowserSizeAtLaunch(config)).isFalse();
+  }
+
   @Test
   void headlessCanBeSet() {
     config.headless(true);
@@ -0,0 +1,113 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.SelenideConfig;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class WebDriverBinaryIndexTest {
+  private static final String PROPERTY = "webdriver.selenide-test.driver";
+
+  @TempDir
+  Path folder;
+  private File browser;
+  private File driver;
+  private final SelenideConfig config = new SelenideConfig();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    System.clearProperty(PROPERTY);
+    browser = Files.createFile(folder.resolve("browser")).toFile();
+    driver = Files.createFile(folder.resolve("driver")).toFile();
+    config.driverManagerIndex(folder.resolve("index-" + System.nanoTime() + ".properties").toString());
+  }
+
+  @AfterEach
+  void tearDown() {
+    System.clearProperty(PROPERTY);
+  }
+
+  @Test
+  void resolvesWebdriverOnlyOnce_andRemembersItInIndex() {
+    WebDriverManager firstRun = manager();
+    assertThat(WebDriverBinaryIndex.setup(config, PROPERTY, () -> firstRun)).isEqualTo("96.0");
+    verify(firstRun).setup();
+    assertThat(new File(config.driverManagerIndex())).isFile();
+
+    System.clearProperty(PROPERTY);
+    WebDriverManager secondRun = manager();
+    assertThat(WebDriverBinaryIndex.setup(config, PROPERTY, () -> secondRun)).isEqualTo("96.0");
+
+    verify(secondRun, never()).setup();
+    assertThat(System.getProperty(PROPERTY)).isEqualTo(driver.getAbsolutePath());
+  }
+
+  @Test
+  void resolvesWebdriverAgain_ifBrowserHasBeenUpdated() {
+    WebDriverBinaryIndex.setup(config, PROPERTY, this::manager);
+    System.clearProperty(PROPERTY);
+
+    assertThat(browser.setLastModified(browser.lastModified() - 60_000)).isTrue();
+    WebDriverManager afterUpdate = manager();
+    WebDriverBinaryIndex.setup(config, PROPERTY, () -> afterUpdate);
+
+    verify(afterUpdate).setup();
+  }
+
+  @Test
+  void resolvesWebdriverAgain_ifWebdriverBinaryHasBeenDeleted() {
+    WebDriverBinaryIndex.setup(config, PROPERTY, this::manager);
+    System.clearProperty(PROPERTY);
+
+    assertThat(driver.delete()).isTrue();
+    WebDriverManager afterCleanup = manager();
+    WebDriverBinaryIndex.setup(config, PROPERTY, () -> afterCleanup);
+
+    verify(afterCleanup).setup();
+  }
+
+  @Test
+  void doesNothing_ifWebdriverIsAlreadyResolved() {
+    System.setProperty(PROPERTY, "/usr/bin/some-driver");
+    WebDriverManager manager = manager();
+
+    assertThat(WebDriverBinaryIndex.setup(config, PROPERTY, () -> manager)).isNull();
+
+    verify(manager, never()).setup();
+  }
+
+  @Test
+  void indexIsOptional() {
+    config.driverManagerIndex(null);
+    WebDriverManager manager = manager();
+
+    assertThat(WebDriverBinaryIndex.setup(config, PROPERTY, () -> manager)).isEqualTo("96.0");
+
+    verify(manager).setup();
+    verify(manager, never()).getBrowserPath();
+  }
+
+  private WebDriverManager manager() {
+    WebDriverManager manager = mock(WebDriverManager.class);
+    when(manager.getBrowserPath()).thenReturn(Optional.of(browser.toPath()));
+    when(manager.getDownloadedDriverPath()).thenReturn(driver.getAbsolutePath());
+    when(manager.getDownloadedDriverVersion()).thenReturn("96.0");
+    doAnswer(invocation -> System.setProperty(PROPERTY, driver.getAbsolutePath())).when(manager).setup();
+    return manager;
+  }
+}
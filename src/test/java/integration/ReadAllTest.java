@@ -0,0 +1,103 @@
+package integration;
+
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.ReadAttribute;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.SelectorMode.CSS;
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fields read by a single script should be the same as fields read one by one
+ */
+final class ReadAllTest extends ITest {
+  @BeforeEach
+  void openPage() {
+    openFile("page_with_products.html");
+  }
+
+  @AfterEach
+  void resetSelectorMode() {
+    ((SelenideConfig) driver().config()).selectorMode(CSS);
+  }
+
+  @Test
+  void readsTheSameValuesAsWebElement() {
+    ProductsPage page = driver().page(ProductsPage.class);
+
+    List<String> expected = new ArrayList<>();
+    for (Product product : page.products) {
+      expected.add(String.join("|", product.name.getText(), product.amount.getValue(),
+        String.valueOf(product.gift.getAttribute("checked")), product.color.getSelectedText(),
+        product.link.getAttribute("href"), product.notes.getText()));
+    }
+
+    assertThat(describe(ElementsContainer.readAll(page.products, ProductDto.class))).isEqualTo(expected);
+  }
+
+  @Test
+  void readsTheSameValuesByScriptAndOneByOne() {
+    ProductsPage page = driver().page(ProductsPage.class);
+    List<String> byScript = describe(ElementsContainer.readAll(page.products, ProductDto.class));
+
+    ((SelenideConfig) driver().config()).selectorMode(Sizzle);
+    List<String> oneByOne = describe(ElementsContainer.readAll(driver().page(ProductsPage.class).products, ProductDto.class));
+
+    assertThat(byScript).hasSize(2).isEqualTo(oneByOne);
+    assertThat(byScript.get(0)).startsWith("Apple pie|5|true|Red|http").endsWith("/apple.html|First line\nSecond line");
+  }
+
+  private static List<String> describe(List<ProductDto> products) {
+    List<String> result = new ArrayList<>(products.size());
+    for (ProductDto product : products) {
+      result.add(String.join("|", product.name, product.amount, String.valueOf(product.gift),
+        product.color, product.link, product.notes));
+    }
+    return result;
+  }
+
+  private static class ProductsPage {
+    @FindBy(css = "#products tr.product")
+    List<Product> products;
+  }
+
+  private static class Product extends ElementsContainer {
+    @FindBy(css = "td.name")
+    SelenideElement name;
+
+    @FindBy(css = "input.amount")
+    SelenideElement amount;
+
+    @FindBy(className = "gift")
+    SelenideElement gift;
+
+    @FindBy(css = "select.color")
+    SelenideElement color;
+
+    @FindBy(xpath = ".//a[@class='link']")
+    SelenideElement link;
+
+    @FindBy(xpath = ".//td[6]")
+    SelenideElement notes;
+  }
+
+  private static class ProductDto {
+    String name;
+    String amount;
+    @ReadAttribute("checked")
+    String gift;
+    String color;
+    @ReadAttribute("href")
+    String link;
+    String notes;
+  }
+}
@@ -0,0 +1,57 @@
+package integration;
+
+import com.codeborne.selenide.impl.WebdriverPhotographer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+final class ScreenshotFormatTest extends ITest {
+  private final WebdriverPhotographer photographer = new WebdriverPhotographer();
+
+  @BeforeEach
+  void openTestPageWithImages() {
+    assumeThat(driver().browser().isChrome()).isTrue();
+    openFile("page_with_images.html");
+  }
+
+  @Test
+  void takesPngElementScreenshotWithWebdriver() throws IOException {
+    WebElement image = $("#valid-image img").toWebElement();
+
+    byte[] png = screenshot(image, "png");
+
+    assertThat(png[0] & 0xFF).isEqualTo(0x89);
+    assertThat(new String(png, 1, 3, "US-ASCII")).isEqualTo("PNG");
+    assertSameSize(png, image);
+  }
+
+  @Test
+  void takesClippedJpegElementScreenshotViaDevTools() throws IOException {
+    WebElement image = $("#valid-image img").toWebElement();
+
+    byte[] jpeg = screenshot(image, "jpeg");
+
+    assertThat(jpeg[0] & 0xFF).isEqualTo(0xFF);
+    assertThat(jpeg[1] & 0xFF).isEqualTo(0xD8);
+    assertSameSize(jpeg, image);
+  }
+
+  private byte[] screenshot(WebElement element, String format) {
+    return photographer.takeScreenshot(driver().driver(), element, format, 90)
+      .orElseThrow(() -> new AssertionError("Screenshot not taken"));
+  }
+
+  private void assertSameSize(byte[] screenshot, WebElement element) throws IOException {
+    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(screenshot));
+    assertThat(decoded.getWidth()).isEqualTo(element.getSize().getWidth());
+    assertThat(decoded.getHeight()).isEqualTo(element.getSize().getHeight());
+  }
+}
@@ -335,4 +335,163 @@ public class Configuration {
    */
   public static String browserBinary = defaults.browserBinary();
 
+  /**
+   * Cache browser cookies used for downloading files via HTTP ({@link FileDownloadMode#HTTPGET}).
+   * Without cache, Selenide asks the browser for cookies before every download.
+   * <br>
+   * Works only with {@link #proxyEnabled}: the cache is invalidated by "Set-Cookie" responses and html pages
+   * intercepted by Selenide proxy, by navigation, adding or deleting cookies, and by scripts accessing "document.cookie".
+   * NB! Cookies changed by page's own javascript are not noticed.
+   * NB! It requires wrapping webdriver with a {@link org.openqa.selenium.support.events.EventFiringDecorator}.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.cacheBrowserCookies=true"
+   * <br>
+   * Default: false
+   * @since 6.1.0
+   */
+  public static boolean cacheBrowserCookies = defaults.cacheBrowserCookies();
+
+  /**
+   * Max number of idle browsers kept for reuse after {@code closeWebDriver()}.
+   * A pooled browser is reset before reuse: extra windows are closed, cookies and local/session storage
+   * are cleared, browser is navigated to "about:blank" and downloads folder is cleaned up.
+   * Browsers are reused only for the same browser settings (browser, headless, capabilities, proxy etc.).
+   * Chromium-based browsers (Chrome, Edge) get cookies of all domains cleared via DevTools,
+   * together with storage of all pages open at the moment of closing.
+   * NB! Other browsers clear cookies and storage of the current page only,
+   * so that cookies and storage of other domains stay in the pooled browser.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.driverPoolSize=4"
+   * <br>
+   * Default: 0 (browsers are not reused)
+   * @since 6.1.0
+   */
+  public static int driverPoolSize = defaults.driverPoolSize();
+
+  /**
+   * Start the next browser in background ahead of its first use.
+   * When a browser is closed, Selenide immediately starts creating a new browser with the same settings,
+   * so that the next test (or test class) gets a ready browser instead of waiting for a cold start.
+   * The first browser is pre-warmed by {@link WebDriverRunner#prewarmBrowser()}
+   * (called by JUnit 5 browser strategy extensions before tests).
+   * If the pre-warmed browser is not ready or has different settings, a new browser is created as usual.
+   * A pre-warmed browser which is not used within a minute (e.g. after the last test) is closed.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.prewarmBrowser=true"
+   * <br>
+   * Default: false
+   * @since 6.1.0
+   */
+  public static boolean prewarmBrowser = defaults.prewarmBrowser();
+
+  /**
+   * For how long (in milliseconds) Selenide trusts that browser is alive after a successful webdriver command.
+   * Within this period, {@code open(url)} doesn't send an extra "getTitle" request to check that browser is still open.
+   * Browser is known to be dead as soon as any command fails with "unreachable browser" or "no such session" error.
+   * NB! It requires wrapping webdriver with a {@link org.openqa.selenium.support.events.EventFiringDecorator}.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.browserHealthCheckTtl=5000"
+   * <br>
+   * Default: 0 (check browser before every {@code open(url)})
+   * @since 6.1.0
+   */
+  public static long browserHealthCheckTtl = defaults.browserHealthCheckTtl();
+
+  /**
+   * Close browser and proxy in background.
+   * If true, {@code closeWebDriver()} detaches the browser from the current thread immediately
+   * and doesn't wait until the browser quits (which can take few seconds, especially on a remote grid).
+   * Browsers being closed in background are awaited at JVM exit.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.asyncClose=true"
+   * <br>
+   * Default: false
+   * @since 6.1.0
+   */
+  public static boolean asyncClose = defaults.asyncClose();
+
+  /**
+   * File for remembering webdriver binaries resolved by WebDriverManager between test runs.
+   * If set, the resolved webdriver path is stored in this file (keyed by browser binary path and its modification time),
+   * and the next runs use it without detecting browser version and querying WebDriverManager cache.
+   * The entry becomes stale as soon as the browser is updated.
+   * <br>
+   * Can be configured either programmatically or by system property
+   * "-Dselenide.driverManagerIndex=build/webdriver-binaries.properties"
+   * <br>
+   * Default: null (always resolve webdriver binary with WebDriverManager)
+   * @since 6.1.0
+   */
+  public static String driverManagerIndex = defaults.driverManagerIndex();
+
+  /**
+   * Image format of screenshots taken by Selenide: "png", "jpeg" or "webp".
+   * Formats other than "png" are supported only by Chromium-based browsers (via Chrome DevTools Protocol);
+   * other browsers always produce PNG screenshots. JPEG and WebP screenshots are much smaller and faster to take.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.screenshotFormat=jpeg"
+   * <br>
+   * Default: png
+   * @since 6.1.0
+   */
+  public static String screenshotFormat = defaults.screenshotFormat();
+
+  /**
+   * Quality (0..100) of JPEG and WebP screenshots.
+   * Ignored for PNG screenshots.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.screenshotQuality=80"
+   * <br>
+   * Default: 90
+   * @since 6.1.0
+   */
+  public static int screenshotQuality = defaults.screenshotQuality();
+
+  /**
+   * Compression of saved page source files: "none" (files are saved as "*.html") or "gzip" (files are saved as "*.html.gz").
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.pageSourceCompression=gzip"
+   * <br>
+   * Default: none
+   * @since 6.1.0
+   */
+  public static String pageSourceCompression = defaults.pageSourceCompression();
+
+  /**
+   * Max size (in bytes, before compression) of saved page source files.
+   * Longer page sources are truncated. Zero means no limit.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.pageSourceMaxSize=5000000"
+   * <br>
+   * Default: 0
+   * @since 6.1.0
+   */
+  public static long pageSourceMaxSize = defaults.pageSourceMaxSize();
+
+  /**
+   * Count webdriver commands sent by every thread, so that they can be checked
+   * by {@link Selenide#roundTrips(Runnable)} and {@link com.codeborne.selenide.junit5.MaxRoundTrips}.
+   * If false, browser is decorated by the round trips counter only if it's opened after
+   * the first {@code roundTrips} call or {@code @MaxRoundTrips} test
+   * (and counting fails with {@link IllegalStateException} if the thread still uses a browser opened before).
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.countRoundTrips=true"
+   * <br>
+   * Default: false
+   * @since 6.1.0
+   */
+  public static boolean countRoundTrips = defaults.countRoundTrips();
+
+  /**
+   * If true, iterating a page object's list of {@link ElementsContainer}s finds all the rows at once,
+   * and every container is bound to its row element instead of finding it by index on every access.
+   * The row is found again (by index) only if an action or check with it fails, e.g. because the element is stale.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.snapshotContainerLists=true"
+   * <br>
+   * Default: false
+   * @since 6.1.0
+   */
+  public static boolean snapshotContainerLists = defaults.snapshotContainerLists();
+
 }
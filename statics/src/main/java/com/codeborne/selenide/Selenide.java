@@ -1,6 +1,7 @@
 package com.codeborne.selenide;
 
 import com.codeborne.selenide.ex.DialogTextMismatch;
+import com.codeborne.selenide.impl.RoundTripCounter;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -914,4 +915,20 @@ public class Selenide {
   public static SessionId sessionId() {
     return getSelenideDriver().getSessionId();
   }
+
+  /**
+   * Counts webdriver commands (round trips to the browser) sent by the current thread while running given code.
+   * <p>
+   * Example: {@code assertThat(roundTrips(() -> loginPage.login("bob", "pass")).total()).isLessThan(10);}
+   * </p>
+   *
+   * @return total number of webdriver commands and their breakdown by Selenide steps
+   * @see com.codeborne.selenide.junit5.MaxRoundTrips
+   * @since 6.1.0
+   */
+  @Nonnull
+  @CheckReturnValue
+  public static RoundTrips roundTrips(Runnable code) {
+    return RoundTripCounter.instance.count(code);
+  }
 }
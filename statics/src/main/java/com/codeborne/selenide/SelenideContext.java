@@ -0,0 +1,101 @@
+package com.codeborne.selenide;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A logical Selenide session which is not tied to a thread.
+ * <p>
+ * By default, static methods like {@link Selenide#open(String)} and {@link Selenide#$(String)} use a webdriver
+ * bound to the current thread. Inside {@link #run(Runnable)} they use the webdriver of this context instead,
+ * so that one thread can drive many sessions in turn (and one session can move between threads):
+ * </p>
+ * <pre>
+ *   SelenideContext session = new SelenideContext();
+ *   session.run(() -&gt; open("/login"));
+ *   ...
+ *   session.run(() -&gt; $("#username").setValue("john"));
+ *   ...
+ *   session.close();
+ * </pre>
+ * <p>
+ * Unlike webdrivers bound to threads, webdriver of a context is not closed automatically when thread dies
+ * - you need to call {@link #close()}.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+public class SelenideContext implements AutoCloseable {
+  private static final AtomicLong counter = new AtomicLong();
+  private static final ThreadLocal<SelenideContext> bound = new ThreadLocal<>();
+
+  /**
+   * Negative, so that it never clashes with {@link Thread#getId()}
+   */
+  private final long id = -counter.incrementAndGet();
+
+  /**
+   * @return unique id of this context (used instead of thread id to find its webdriver)
+   */
+  @CheckReturnValue
+  public long id() {
+    return id;
+  }
+
+  /**
+   * @return context bound to the current thread by {@link #run(Runnable)}, or null if Selenide works in per-thread mode
+   */
+  @CheckReturnValue
+  @Nullable
+  public static SelenideContext current() {
+    return bound.get();
+  }
+
+  /**
+   * Runs given code with this context bound to the current thread
+   */
+  public void run(Runnable lambda) {
+    call(() -> {
+      lambda.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs given code with this context bound to the current thread
+   *
+   * @return result of the given code
+   */
+  public <T> T call(Supplier<T> lambda) {
+    SelenideContext previous = bound.get();
+    bound.set(this);
+    try {
+      return lambda.get();
+    }
+    finally {
+      if (previous == null) {
+        bound.remove();
+      }
+      else {
+        bound.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Closes webdriver (and proxy) of this context
+   */
+  @Override
+  public void close() {
+    run(WebDriverRunner::closeWebDriver);
+  }
+
+  @Override
+  public String toString() {
+    return "SelenideContext#" + (-id);
+  }
+}
@@ -179,6 +179,19 @@ public class WebDriverRunner {
     webdriverContainer.closeWebDriver();
   }
 
+  /**
+   * Start creating a browser for the current thread in background, so that the next {@code open()} gets a ready browser.
+   * Does nothing unless {@link Configuration#prewarmBrowser} is enabled, or if the current thread already has a browser.
+   * <br>
+   * It's called by {@link com.codeborne.selenide.junit5.BrowserStrategyExtension} and
+   * {@link com.codeborne.selenide.junit5.BrowserPerTestStrategyExtension} before tests.
+   *
+   * @since 6.1.0
+   */
+  public static void prewarmBrowser() {
+    webdriverContainer.prewarmBrowser();
+  }
+
   /**
    * @return true if instance of Selenium WebDriver is started in current thread
    */
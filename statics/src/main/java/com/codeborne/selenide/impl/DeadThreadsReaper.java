@@ -0,0 +1,166 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.drivercommands.CloseDriverCommand;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Closes webdrivers of threads that have died without closing their webdriver.
+ * <p>
+ * Threads are held by weak references, so that a finished thread gets reaped as soon as it's garbage collected
+ * (and doesn't leak, even if tests run in thousands of short-living threads).
+ * While there are watched threads, they are also checked with {@link Thread#isAlive()} once per {@link #SWEEP_INTERVAL}
+ * to not depend on garbage collector. When there are no watched threads, the reaper thread just sleeps.
+ * </p>
+ * <p>
+ * Webdrivers are closed in parallel, so that one hanging browser doesn't delay closing of others.
+ * </p>
+ *
+ * @since 6.1.0
+ */
+@ParametersAreNonnullByDefault
+class DeadThreadsReaper implements Runnable {
+  private static final Logger log = LoggerFactory.getLogger(DeadThreadsReaper.class);
+  static final long SWEEP_INTERVAL = 1000;
+  private static final int MAX_PARALLEL_CLOSERS = 4;
+
+  private final Config config;
+  private final CloseDriverCommand closeDriverCommand;
+  private final Map<Long, WebDriver> threadWebDriver;
+  private final Map<Long, SelenideProxyServer> threadProxyServer;
+  private final Map<Long, DownloadsFolder> threadDownloadsFolder;
+
+  final Map<Long, ThreadReference> watchedThreads = new ConcurrentHashMap<>();
+  final AtomicBoolean started = new AtomicBoolean(false);
+  private final ReferenceQueue<Thread> collectedThreads = new ReferenceQueue<>();
+  private final ExecutorService closer = newFixedThreadPool(
+    Math.min(MAX_PARALLEL_CLOSERS, Runtime.getRuntime().availableProcessors()),
+    new DaemonThreadFactory("Webdrivers killer")
+  );
+
+  DeadThreadsReaper(Config config, CloseDriverCommand closeDriverCommand,
+                    Map<Long, WebDriver> threadWebDriver,
+                    Map<Long, SelenideProxyServer> threadProxyServer,
+                    Map<Long, DownloadsFolder> threadDownloadsFolder) {
+    this.config = config;
+    this.closeDriverCommand = closeDriverCommand;
+    this.threadWebDriver = threadWebDriver;
+    this.threadProxyServer = threadProxyServer;
+    this.threadDownloadsFolder = threadDownloadsFolder;
+  }
+
+  /**
+   * Close webdriver of given thread when the thread dies
+   */
+  void watch(Thread thread) {
+    watchedThreads.computeIfAbsent(thread.getId(), threadId -> new ThreadReference(thread, collectedThreads));
+    if (started.compareAndSet(false, true)) {
+      Thread reaper = new Thread(this, "Webdrivers reaper thread");
+      reaper.setDaemon(true);
+      reaper.start();
+    }
+    synchronized (this) {
+      notifyAll();
+    }
+  }
+
+  /**
+   * Stop watching given thread (e.g. because it has closed its webdriver itself)
+   */
+  void unwatch(long threadId) {
+    ThreadReference reference = watchedThreads.remove(threadId);
+    if (reference != null) {
+      reference.clear();
+    }
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        awaitWatchedThreads();
+        Reference<? extends Thread> collected = collectedThreads.remove(SWEEP_INTERVAL);
+        if (collected != null) {
+          reap((ThreadReference) collected);
+        }
+        else {
+          sweep();
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized void awaitWatchedThreads() throws InterruptedException {
+    while (watchedThreads.isEmpty()) {
+      wait();
+    }
+  }
+
+  private void sweep() {
+    for (ThreadReference reference : watchedThreads.values()) {
+      if (!reference.isAlive()) {
+        reference.clear();
+        reap(reference);
+      }
+    }
+  }
+
+  private void reap(ThreadReference reference) {
+    if (watchedThreads.remove(reference.threadId, reference)) {
+      closer.execute(() -> closeWebDriver(reference.threadId));
+    }
+  }
+
+  /**
+   * Closes the webdriver the same way as {@link WebDriverThreadLocalContainer#closeWebDriver()} does
+   * (so that it could be returned to the driver pool, or closed in background)
+   */
+  private void closeWebDriver(long threadId) {
+    WebDriver driver = threadWebDriver.remove(threadId);
+    SelenideProxyServer proxy = threadProxyServer.remove(threadId);
+    threadDownloadsFolder.remove(threadId);
+
+    if (driver == null) {
+      log.info("No webdriver found for thread: {} - nothing to close", threadId);
+    }
+    else {
+      log.info("Thread {} is dead. Let's close webdriver {}", threadId, driver);
+    }
+    closeDriverCommand.close(config, driver, proxy);
+  }
+
+  @ParametersAreNonnullByDefault
+  static class ThreadReference extends WeakReference<Thread> {
+    private final long threadId;
+
+    ThreadReference(Thread thread, ReferenceQueue<Thread> queue) {
+      super(thread, queue);
+      this.threadId = thread.getId();
+    }
+
+    @CheckReturnValue
+    boolean isAlive() {
+      Thread thread = get();
+      return thread != null && thread.isAlive();
+    }
+  }
+}
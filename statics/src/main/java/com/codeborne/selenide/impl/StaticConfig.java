@@ -165,4 +165,64 @@ class StaticConfig implements Config {
   public MutableCapabilities browserCapabilities() {
     return Configuration.browserCapabilities;
   }
+
+  @Override
+  public boolean cacheBrowserCookies() {
+    return Configuration.cacheBrowserCookies;
+  }
+
+  @Override
+  public int driverPoolSize() {
+    return Configuration.driverPoolSize;
+  }
+
+  @Override
+  public boolean prewarmBrowser() {
+    return Configuration.prewarmBrowser;
+  }
+
+  @Override
+  public long browserHealthCheckTtl() {
+    return Configuration.browserHealthCheckTtl;
+  }
+
+  @Override
+  public boolean asyncClose() {
+    return Configuration.asyncClose;
+  }
+
+  @Override
+  public String driverManagerIndex() {
+    return Configuration.driverManagerIndex;
+  }
+
+  @Override
+  public String screenshotFormat() {
+    return Configuration.screenshotFormat;
+  }
+
+  @Override
+  public int screenshotQuality() {
+    return Configuration.screenshotQuality;
+  }
+
+  @Override
+  public String pageSourceCompression() {
+    return Configuration.pageSourceCompression;
+  }
+
+  @Override
+  public long pageSourceMaxSize() {
+    return Configuration.pageSourceMaxSize;
+  }
+
+  @Override
+  public boolean countRoundTrips() {
+    return Configuration.countRoundTrips;
+  }
+
+  @Override
+  public boolean snapshotContainerLists() {
+    return Configuration.snapshotContainerLists;
+  }
 }
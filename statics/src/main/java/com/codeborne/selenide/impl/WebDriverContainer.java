@@ -45,6 +45,11 @@ public interface WebDriverContainer {
   void closeWebDriver();
   boolean hasWebDriverStarted();
 
+  /**
+   * @since 6.1.0
+   */
+  void prewarmBrowser();
+
   void clearBrowserCache();
 
   @CheckReturnValue
@@ -2,6 +2,7 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.SelenideContext;
 import com.codeborne.selenide.SharedDownloadsFolder;
 import com.codeborne.selenide.drivercommands.BrowserHealthChecker;
 import com.codeborne.selenide.drivercommands.CloseDriverCommand;
@@ -20,12 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.codeborne.selenide.Configuration.reopenBrowserOnFail;
 import static com.codeborne.selenide.Selenide.executeJavaScript;
@@ -37,7 +35,6 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
 
   private final List<WebDriverEventListener> eventListeners = new ArrayList<>();
   private final List<WebDriverListener> listeners = new ArrayList<>();
-  final Collection<Thread> allWebDriverThreads = new ConcurrentLinkedQueue<>();
   final Map<Long, WebDriver> threadWebDriver = new ConcurrentHashMap<>(4);
   private final Map<Long, SelenideProxyServer> threadProxyServer = new ConcurrentHashMap<>(4);
   private final Map<Long, DownloadsFolder> threadDownloadsFolder = new ConcurrentHashMap<>(4);
@@ -47,10 +44,10 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   private final BrowserHealthChecker browserHealthChecker = new BrowserHealthChecker();
   private final WebDriverFactory factory = new WebDriverFactory();
   private final CloseDriverCommand closeDriverCommand = new CloseDriverCommand();
+  final DeadThreadsReaper deadThreadsReaper =
+    new DeadThreadsReaper(config, closeDriverCommand, threadWebDriver, threadProxyServer, threadDownloadsFolder);
   private final CreateDriverCommand createDriverCommand = new CreateDriverCommand();
 
-  final AtomicBoolean cleanupThreadStarted = new AtomicBoolean(false);
-
   @Override
   public void addListener(WebDriverEventListener listener) {
     eventListeners.add(listener);
@@ -95,12 +92,12 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   public void setWebDriver(WebDriver webDriver, @Nullable SelenideProxyServer selenideProxy, DownloadsFolder browserDownloadsFolder) {
     resetWebDriver();
 
-    long threadId = currentThread().getId();
+    long bindingId = currentBindingId();
     if (selenideProxy != null) {
-      threadProxyServer.put(threadId, selenideProxy);
+      threadProxyServer.put(bindingId, selenideProxy);
     }
-    threadWebDriver.put(threadId, webDriver);
-    threadDownloadsFolder.put(threadId, browserDownloadsFolder);
+    threadWebDriver.put(bindingId, webDriver);
+    threadDownloadsFolder.put(bindingId, browserDownloadsFolder);
   }
 
   /**
@@ -108,10 +105,10 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
    */
   @Override
   public void resetWebDriver() {
-    long threadId = currentThread().getId();
-    threadProxyServer.remove(threadId);
-    threadWebDriver.remove(threadId);
-    threadDownloadsFolder.remove(threadId);
+    long bindingId = currentBindingId();
+    threadProxyServer.remove(bindingId);
+    threadWebDriver.remove(bindingId);
+    threadDownloadsFolder.remove(bindingId);
   }
 
   @Override
@@ -125,7 +122,7 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   @Override
   @CheckReturnValue
   public boolean hasWebDriverStarted() {
-    WebDriver webDriver = threadWebDriver.get(currentThread().getId());
+    WebDriver webDriver = threadWebDriver.get(currentBindingId());
     return webDriver != null;
   }
 
@@ -133,18 +130,18 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   @CheckReturnValue
   @Nonnull
   public WebDriver getWebDriver() {
-    long threadId = currentThread().getId();
-    if (!threadWebDriver.containsKey(threadId)) {
-      throw new IllegalStateException("No webdriver is bound to current thread: " + threadId + ". You need to call open(url) first.");
+    long bindingId = currentBindingId();
+    if (!threadWebDriver.containsKey(bindingId)) {
+      throw new IllegalStateException("No webdriver is bound to current thread: " + bindingId + ". You need to call open(url) first.");
     }
-    return threadWebDriver.get(threadId);
+    return threadWebDriver.get(bindingId);
   }
 
   @Override
   @CheckReturnValue
   @Nonnull
   public WebDriver getAndCheckWebDriver() {
-    WebDriver webDriver = threadWebDriver.get(currentThread().getId());
+    WebDriver webDriver = threadWebDriver.get(currentBindingId());
 
     if (webDriver != null && reopenBrowserOnFail && !browserHealthChecker.isBrowserStillOpen(webDriver)) {
       log.info("Webdriver has been closed meanwhile. Let's re-create it.");
@@ -152,7 +149,7 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
       webDriver = createDriver();
     }
     else if (webDriver == null) {
-      log.info("No webdriver is bound to current thread: {} - let's create a new webdriver", currentThread().getId());
+      log.info("No webdriver is bound to current thread: {} - let's create a new webdriver", currentBindingId());
       webDriver = createDriver();
     }
     return webDriver;
@@ -161,27 +158,27 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   @Nonnull
   @Override
   public DownloadsFolder getBrowserDownloadsFolder() {
-    return threadDownloadsFolder.get(currentThread().getId());
+    return threadDownloadsFolder.get(currentBindingId());
   }
 
   @CheckReturnValue
   @Nonnull
   private WebDriver createDriver() {
     CreateDriverCommand.Result result = createDriverCommand.createDriver(config, factory, userProvidedProxy, eventListeners, listeners);
-    long threadId = currentThread().getId();
-    threadWebDriver.put(threadId, result.webDriver);
+    long bindingId = currentBindingId();
+    threadWebDriver.put(bindingId, result.webDriver);
     if (result.selenideProxyServer != null) {
-      threadProxyServer.put(threadId, result.selenideProxyServer);
+      threadProxyServer.put(bindingId, result.selenideProxyServer);
     }
     if (result.browserDownloadsFolder != null) {
-      threadDownloadsFolder.put(threadId, result.browserDownloadsFolder);
+      threadDownloadsFolder.put(bindingId, result.browserDownloadsFolder);
     }
     if (config.holdBrowserOpen()) {
       log.info("Browser and proxy will stay open due to holdBrowserOpen=true: {} -> {}, {}",
-        threadId, result.webDriver, result.selenideProxyServer);
+        bindingId, result.webDriver, result.selenideProxyServer);
     }
-    else {
-      markForAutoClose(currentThread());
+    else if (SelenideContext.current() == null) {
+      deadThreadsReaper.watch(currentThread());
     }
     return result.webDriver;
   }
@@ -190,7 +187,7 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   @CheckReturnValue
   @Nullable
   public SelenideProxyServer getProxyServer() {
-    return threadProxyServer.get(currentThread().getId());
+    return threadProxyServer.get(currentBindingId());
   }
 
   @Override
@@ -199,16 +196,37 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   }
 
   /**
-   * Remove links to webdriver/proxy AND close the webdriver and proxy
+   * Remove links to webdriver/proxy AND close the webdriver and proxy.
+   * If {@link Config#prewarmBrowser()} is enabled, the next browser is being created in background after that.
    */
   @Override
   public void closeWebDriver() {
-    long threadId = currentThread().getId();
-    WebDriver driver = threadWebDriver.get(threadId);
-    SelenideProxyServer proxy = threadProxyServer.get(threadId);
+    long bindingId = currentBindingId();
+    WebDriver driver = threadWebDriver.get(bindingId);
+    SelenideProxyServer proxy = threadProxyServer.get(bindingId);
     closeDriverCommand.close(config, driver, proxy);
 
     resetWebDriver();
+    deadThreadsReaper.unwatch(bindingId);
+    if (driver != null && config.prewarmBrowser()) {
+      createDriverCommand.prewarm(config, factory, userProvidedProxy);
+    }
+  }
+
+  @Override
+  public void prewarmBrowser() {
+    if (config.prewarmBrowser() && !hasWebDriverStarted()) {
+      createDriverCommand.prewarm(config, factory, userProvidedProxy);
+    }
+  }
+
+  /**
+   * @return id of {@link SelenideContext} bound to the current thread, or id of the current thread itself
+   */
+  @CheckReturnValue
+  private long currentBindingId() {
+    SelenideContext context = SelenideContext.current();
+    return context == null ? currentThread().getId() : context.id();
   }
 
   @Override
@@ -239,17 +257,4 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
     //noinspection ConstantConditions
     return executeJavaScript("return window.location.href").toString();
   }
-
-  private void markForAutoClose(Thread thread) {
-    allWebDriverThreads.add(thread);
-
-    if (!cleanupThreadStarted.get()) {
-      synchronized (this) {
-        if (!cleanupThreadStarted.get()) {
-          new UnusedWebdriversCleanupThread(allWebDriverThreads, threadWebDriver, threadProxyServer, threadDownloadsFolder).start();
-          cleanupThreadStarted.set(true);
-        }
-      }
-    }
-  }
 }
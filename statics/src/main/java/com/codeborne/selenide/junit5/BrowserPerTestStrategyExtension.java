@@ -1,14 +1,18 @@
 package com.codeborne.selenide.junit5;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import static com.codeborne.selenide.WebDriverRunner.closeWebDriver;
+import static com.codeborne.selenide.WebDriverRunner.prewarmBrowser;
 
 /**
  * By using this extension browser will be automatically closed after each test.
+ * If {@link com.codeborne.selenide.Configuration#prewarmBrowser} is enabled, the browser is started in background
+ * before each test.
  * <br>
  * To use this extension, extend your test class with it:
  * <br>
@@ -23,7 +27,12 @@ import static com.codeborne.selenide.WebDriverRunner.closeWebDriver;
  * @since 5.21.0
  */
 @ParametersAreNonnullByDefault
-public class BrowserPerTestStrategyExtension implements AfterEachCallback {
+public class BrowserPerTestStrategyExtension implements BeforeEachCallback, AfterEachCallback {
+  @Override
+  public void beforeEach(final ExtensionContext context) {
+    prewarmBrowser();
+  }
+
   @Override
   public void afterEach(final ExtensionContext context) {
     closeWebDriver();
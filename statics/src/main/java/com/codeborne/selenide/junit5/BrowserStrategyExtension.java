@@ -1,14 +1,18 @@
 package com.codeborne.selenide.junit5;
 
 import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import static com.codeborne.selenide.WebDriverRunner.closeWebDriver;
+import static com.codeborne.selenide.WebDriverRunner.prewarmBrowser;
 
 /**
  * By using this extension browser will be automatically closed after all tests in the current container.
+ * If {@link com.codeborne.selenide.Configuration#prewarmBrowser} is enabled, the browser is started in background
+ * before the tests.
  * <br>
  * To use this extension, extend your test class with it:
  * <br>
@@ -23,7 +27,12 @@ import static com.codeborne.selenide.WebDriverRunner.closeWebDriver;
  * @since 4.12.2
  */
 @ParametersAreNonnullByDefault
-public class BrowserStrategyExtension implements AfterAllCallback {
+public class BrowserStrategyExtension implements BeforeAllCallback, AfterAllCallback {
+  @Override
+  public void beforeAll(final ExtensionContext context) {
+    prewarmBrowser();
+  }
+
   @Override
   public void afterAll(final ExtensionContext context) {
     closeWebDriver();
@@ -0,0 +1,49 @@
+package com.codeborne.selenide;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class SelenideContextTest {
+  private final SelenideContext context = new SelenideContext();
+
+  @Test
+  void noContextIsBoundByDefault() {
+    assertThat(SelenideContext.current()).isNull();
+  }
+
+  @Test
+  void contextIsBoundOnlyInsideRun() {
+    assertThat(context.call(SelenideContext::current)).isSameAs(context);
+    assertThat(SelenideContext.current()).isNull();
+  }
+
+  @Test
+  void nestedContextRestoresOuterContext() {
+    SelenideContext other = new SelenideContext();
+
+    context.run(() -> {
+      assertThat(other.call(SelenideContext::current)).isSameAs(other);
+      assertThat(SelenideContext.current()).isSameAs(context);
+    });
+  }
+
+  @Test
+  void contextIsUnboundIfCodeFails() {
+    assertThatThrownBy(() -> context.run(() -> {
+      throw new IllegalStateException("oops");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(SelenideContext.current()).isNull();
+  }
+
+  @Test
+  void contextIdsAreUniqueAndDifferFromThreadIds() {
+    SelenideContext other = new SelenideContext();
+
+    assertThat(context.id()).isNotEqualTo(other.id());
+    assertThat(context.id()).isNegative();
+    assertThat(other.id()).isNegative();
+  }
+}
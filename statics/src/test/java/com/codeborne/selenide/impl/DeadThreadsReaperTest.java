@@ -0,0 +1,121 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.drivercommands.CloseDriverCommand;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+final class DeadThreadsReaperTest {
+  private final Map<Long, WebDriver> threadWebDriver = new ConcurrentHashMap<>();
+  private final Map<Long, SelenideProxyServer> threadProxyServer = new ConcurrentHashMap<>();
+  private final Map<Long, DownloadsFolder> threadDownloadsFolder = new ConcurrentHashMap<>();
+  private final SelenideConfig config = new SelenideConfig();
+  private final DeadThreadsReaper reaper =
+    new DeadThreadsReaper(config, new CloseDriverCommand(), threadWebDriver, threadProxyServer, threadDownloadsFolder);
+
+  @Test
+  void closesWebdriverAndProxyOfDeadThread() throws InterruptedException {
+    WebDriver webDriver = mock(WebDriver.class);
+    SelenideProxyServer proxy = mock(SelenideProxyServer.class);
+    Thread thread = new Thread(() -> {
+      long threadId = Thread.currentThread().getId();
+      threadWebDriver.put(threadId, webDriver);
+      threadProxyServer.put(threadId, proxy);
+      threadDownloadsFolder.put(threadId, mock(DownloadsFolder.class));
+      reaper.watch(Thread.currentThread());
+    });
+    thread.start();
+    thread.join();
+
+    verify(webDriver, timeout(5000)).quit();
+    verify(proxy, timeout(5000)).shutdown();
+    assertThat(threadWebDriver).isEmpty();
+    assertThat(threadProxyServer).isEmpty();
+    assertThat(threadDownloadsFolder).isEmpty();
+    assertThat(reaper.watchedThreads).isEmpty();
+  }
+
+  @Test
+  void closesWebdriverOfDeadThreadViaCloseDriverCommand() throws InterruptedException {
+    CloseDriverCommand closeDriverCommand = mock(CloseDriverCommand.class);
+    DeadThreadsReaper reaper =
+      new DeadThreadsReaper(config, closeDriverCommand, threadWebDriver, threadProxyServer, threadDownloadsFolder);
+    WebDriver webDriver = mock(WebDriver.class);
+    SelenideProxyServer proxy = mock(SelenideProxyServer.class);
+    Thread thread = new Thread(() -> {
+      threadWebDriver.put(Thread.currentThread().getId(), webDriver);
+      threadProxyServer.put(Thread.currentThread().getId(), proxy);
+      reaper.watch(Thread.currentThread());
+    });
+    thread.start();
+    thread.join();
+
+    verify(closeDriverCommand, timeout(5000)).close(config, webDriver, proxy);
+  }
+
+  @Test
+  void doesNotCloseWebdriverOfLiveThread() throws InterruptedException {
+    WebDriver webDriver = mock(WebDriver.class);
+    CountDownLatch finish = new CountDownLatch(1);
+    Thread thread = new Thread(() -> {
+      threadWebDriver.put(Thread.currentThread().getId(), webDriver);
+      reaper.watch(Thread.currentThread());
+      await(finish);
+    });
+    thread.start();
+
+    verify(webDriver, after(2 * DeadThreadsReaper.SWEEP_INTERVAL + 500).never()).quit();
+    assertThat(reaper.watchedThreads).containsOnlyKeys(thread.getId());
+
+    finish.countDown();
+    thread.join();
+    verify(webDriver, timeout(5000)).quit();
+  }
+
+  @Test
+  void unwatchedThreadIsNotReaped() throws InterruptedException {
+    WebDriver webDriver = mock(WebDriver.class);
+    Thread thread = new Thread(() -> {
+      threadWebDriver.put(Thread.currentThread().getId(), webDriver);
+      reaper.watch(Thread.currentThread());
+      reaper.unwatch(Thread.currentThread().getId());
+    });
+    thread.start();
+    thread.join();
+
+    verify(webDriver, after(2 * DeadThreadsReaper.SWEEP_INTERVAL + 500).never()).quit();
+    assertThat(threadWebDriver).hasSize(1);
+  }
+
+  @Test
+  void watchesEveryThreadOnlyOnce() {
+    reaper.watch(Thread.currentThread());
+    reaper.watch(Thread.currentThread());
+
+    assertThat(reaper.watchedThreads).containsOnlyKeys(Thread.currentThread().getId());
+    reaper.unwatch(Thread.currentThread().getId());
+    assertThat(reaper.watchedThreads).isEmpty();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideContext;
 import com.codeborne.selenide.WebDriverProvider;
 import com.codeborne.selenide.WebDriverRunner;
 import org.junit.jupiter.api.AfterEach;
@@ -11,6 +12,7 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.codeborne.selenide.Selenide.closeWebDriver;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -89,10 +91,11 @@ final class WebDriverThreadLocalContainerTest {
     WebDriver webDriver = container.getAndCheckWebDriver();
 
     assertThat(webDriver).isNotNull();
-    assertThat(container.allWebDriverThreads).hasSize(1);
+    assertThat(container.deadThreadsReaper.watchedThreads).hasSize(1);
     assertThat(container.threadWebDriver).hasSize(1);
-    assertThat(container.threadWebDriver.get(container.allWebDriverThreads.iterator().next().getId())).isSameAs(webDriver);
-    assertThat(container.cleanupThreadStarted.get()).isTrue();
+    long threadId = container.deadThreadsReaper.watchedThreads.keySet().iterator().next();
+    assertThat(container.threadWebDriver.get(threadId)).isSameAs(webDriver);
+    assertThat(container.deadThreadsReaper.started.get()).isTrue();
   }
 
   @Test
@@ -102,8 +105,46 @@ final class WebDriverThreadLocalContainerTest {
     WebDriver webDriver = container.getAndCheckWebDriver();
 
     assertThat(webDriver).isNotNull();
-    assertThat(container.allWebDriverThreads).hasSize(0);
-    assertThat(container.cleanupThreadStarted.get()).isFalse();
+    assertThat(container.deadThreadsReaper.watchedThreads).hasSize(0);
+    assertThat(container.deadThreadsReaper.started.get()).isFalse();
+  }
+
+  @Test
+  void contextHasItsOwnWebdriver_notBoundToThread() {
+    WebDriver threadWebDriver = container.getAndCheckWebDriver();
+    SelenideContext context = new SelenideContext();
+
+    WebDriver contextWebDriver = context.call(container::getAndCheckWebDriver);
+
+    assertThat(contextWebDriver).isNotSameAs(threadWebDriver);
+    assertThat(context.call(container::getWebDriver)).isSameAs(contextWebDriver);
+    assertThat(container.getWebDriver()).isSameAs(threadWebDriver);
+    assertThat(container.threadWebDriver).containsKeys(context.id());
+    assertThat(container.deadThreadsReaper.watchedThreads).containsOnlyKeys(Thread.currentThread().getId());
+  }
+
+  @Test
+  void contextWebdriverCanBeUsedFromAnotherThread() throws InterruptedException {
+    SelenideContext context = new SelenideContext();
+    WebDriver webDriver = context.call(container::getAndCheckWebDriver);
+    AtomicReference<WebDriver> webDriverInAnotherThread = new AtomicReference<>();
+
+    Thread thread = new Thread(() -> webDriverInAnotherThread.set(context.call(container::getWebDriver)));
+    thread.start();
+    thread.join();
+
+    assertThat(webDriverInAnotherThread.get()).isSameAs(webDriver);
+  }
+
+  @Test
+  void closingContextRemovesItsWebdriver() {
+    SelenideContext context = new SelenideContext();
+    context.call(container::getAndCheckWebDriver);
+
+    context.run(container::closeWebDriver);
+
+    assertThat(container.threadWebDriver).doesNotContainKey(context.id());
+    assertThat(context.call(container::hasWebDriverStarted)).isFalse();
   }
 
   private static class DummyProvider implements WebDriverProvider {